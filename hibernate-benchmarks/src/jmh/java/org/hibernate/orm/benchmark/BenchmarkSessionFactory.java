@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Builds the {@link SessionFactoryImplementor} shared by the benchmarks, backed
+ * by an in-memory H2 database so that the benchmarks run anywhere.
+ */
+public final class BenchmarkSessionFactory {
+	/**
+	 * Number of {@link Country} rows created by {@link #populate}
+	 */
+	public static final int COUNTRY_COUNT = 50;
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(String name, Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "false" )
+				.applySettings( settings );
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Country.class )
+					.addAnnotatedClass( Customer.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	public static SessionFactoryImplementor build(String name) {
+		return build( name, Map.of() );
+	}
+
+	/**
+	 * Inserts {@value #COUNTRY_COUNT} countries and the given number of customers,
+	 * with identifiers {@code 1..customerCount}
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int customerCount) {
+		sessionFactory.inTransaction( session -> {
+			final Country[] countries = new Country[COUNTRY_COUNT];
+			for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+				countries[i] = new Country( i + 1, "Country " + i, "C" + i );
+				session.persist( countries[i] );
+			}
+			for ( long i = 1; i <= customerCount; i++ ) {
+				session.persist( new Customer( i, "Customer" + i, countries[(int) ( i % COUNTRY_COUNT )] ) );
+				if ( i % 1000 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+}
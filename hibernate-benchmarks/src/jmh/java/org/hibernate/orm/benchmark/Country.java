@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Reference data entity, loaded through lazy to-one associations.
+ */
+@Entity
+public class Country {
+	@Id
+	private Integer id;
+	private String name;
+	private String isoCode;
+
+	protected Country() {
+	}
+
+	public Country(Integer id, String name, String isoCode) {
+		this.id = id;
+		this.name = name;
+		this.isoCode = isoCode;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getIsoCode() {
+		return isoCode;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+/**
+ * The main entity of the benchmark domain model, mixing the most common basic types.
+ */
+@Entity
+public class Customer {
+	@Id
+	private Long id;
+	@Version
+	private int version;
+	private String name;
+	private String email;
+	private BigDecimal balance;
+	private LocalDate registeredOn;
+	private boolean active;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Country country;
+
+	protected Customer() {
+	}
+
+	public Customer(Long id, String name, Country country) {
+		this.id = id;
+		this.name = name;
+		this.email = name.toLowerCase( Locale.ROOT ) + "@example.org";
+		this.balance = BigDecimal.valueOf( id * 7 % 1000, 2 );
+		this.registeredOn = LocalDate.of( 2020, 1, 1 ).plusDays( id % 1000 );
+		this.active = id % 3 != 0;
+		this.country = country;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+	public LocalDate getRegisteredOn() {
+		return registeredOn;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public Country getCountry() {
+		return country;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Flushing a session holding many managed entities, which is dominated by the
+ * dirty checking done in {@code DefaultFlushEntityEventListener}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyCheckingBenchmark {
+	@Param({ "1000", "10000" })
+	public int entityCount;
+
+	/**
+	 * How many of the managed entities are modified before each flush
+	 */
+	@Param({ "0", "10" })
+	public int dirtyCount;
+
+	/**
+	 * The value of {@value AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD}
+	 */
+	@Param({ "0", "1000" })
+	public int parallelDirtyCheckThreshold;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private List<Customer> customers;
+	private long round;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"dirty_checking",
+				Map.of( AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, parallelDirtyCheckThreshold )
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		round++;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Customer customer = customers.get( (int) ( ( round * 31 + i ) % entityCount ) );
+			customer.setBalance( BigDecimal.valueOf( round ) );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Batched inserts, exercising {@code BatchImpl.addToBatch} and the insert
+ * mutation executors.  Each invocation is rolled back, leaving the tables empty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcBatchBenchmark {
+	@Param({ "1000" })
+	public int insertCount;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean pipelining;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Country country;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"jdbc_batch",
+				Map.of(
+						AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+						AvailableSettings.STATEMENT_BATCH_PIPELINING, pipelining,
+						AvailableSettings.ORDER_INSERTS, true
+				)
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, 0 );
+		country = sessionFactory.fromSession( session -> session.find( Country.class, 1 ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void insert() {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				final Country reference = session.getReference( Country.class, country.getId() );
+				for ( long id = 1; id <= insertCount; id++ ) {
+					session.persist( new Customer( id, "Customer" + id, reference ) );
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Entity lookups against the {@code StatefulPersistenceContext} of a session
+ * holding a large number of managed entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersistenceContextBenchmark {
+	@Param({ "1000", "100000" })
+	public int entityCount;
+
+	@Param({ "false", "true" })
+	public boolean primitiveIdStorage;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityPersister persister;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"persistence_context",
+				Map.of( AvailableSettings.PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE, primitiveIdStorage )
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		final List<Customer> customers = session.createSelectionQuery( "from Customer", Customer.class )
+				.getResultList();
+		assert customers.size() == entityCount;
+
+		persistenceContext = session.getPersistenceContextInternal();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void getEntity(Blackhole blackhole) {
+		for ( long id = 1; id <= entityCount; id++ ) {
+			blackhole.consume( persistenceContext.getEntity( session.generateEntityKey( id, persister ) ) );
+		}
+	}
+
+	@Benchmark
+	public void getEntityById(Blackhole blackhole) {
+		for ( long id = 1; id <= entityCount; id++ ) {
+			blackhole.consume( persistenceContext.getEntity( id, persister ) );
+		}
+	}
+
+	@Benchmark
+	public void containsEntityMiss(Blackhole blackhole) {
+		for ( long id = 1; id <= entityCount; id++ ) {
+			blackhole.consume( persistenceContext.containsEntity( new EntityKey( -id, persister ) ) );
+		}
+	}
+
+	@Benchmark
+	public void findManaged(Blackhole blackhole) {
+		for ( long id = 1; id <= entityCount; id++ ) {
+			blackhole.consume( session.find( Customer.class, id ) );
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Replay of scalar query results from the query cache, with the row and the
+ * columnar layouts of the cached results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryCacheBenchmark {
+	private static final String QUERY =
+			"select c.id, c.name, c.email, c.balance, c.registeredOn, c.active from Customer c";
+
+	@Param({ "100", "10000" })
+	public int rowCount;
+
+	@Param({ "false", "true" })
+	public boolean columnarLayout;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"query_cache",
+				Map.of(
+						AvailableSettings.USE_QUERY_CACHE, true,
+						AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName(),
+						AvailableSettings.QUERY_CACHE_COLUMNAR_LAYOUT, columnarLayout
+				)
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, rowCount );
+		session = (SessionImplementor) sessionFactory.openSession();
+		// populate the query cache
+		cachedScalars();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Object[]> cachedScalars() {
+		return session.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.getResultList();
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Lookups of HQL interpretations in the {@link QueryInterpretationCache},
+ * single threaded and contended.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QueryPlanCacheBenchmark {
+	private static final String[] QUERIES = {
+			"from Customer",
+			"from Customer c where c.id = :id",
+			"from Customer c where c.name like :name order by c.id",
+			"select c.name, c.balance from Customer c where c.active = true",
+			"select count(c) from Customer c join c.country co where co.isoCode = :code",
+			"select c from Customer c join fetch c.country where c.registeredOn > :date",
+			"select co.name, sum(c.balance) from Customer c join c.country co group by co.name",
+			"select c from Customer c where c.country.id in (:ids)",
+	};
+
+	/**
+	 * @see AvailableSettings#QUERY_PLAN_CACHE_EVICTION
+	 */
+	@Param({ "lirs", "tinylfu" })
+	public String eviction;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator hqlTranslator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"query_plan_cache",
+				Map.of( AvailableSettings.QUERY_PLAN_CACHE_EVICTION, eviction )
+		);
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+		for ( String query : QUERIES ) {
+			interpretationCache.resolveHqlInterpretation( query, null, hqlTranslator );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int position;
+
+		String next() {
+			return QUERIES[ position++ & ( QUERIES.length - 1 ) ];
+		}
+	}
+
+	@Benchmark
+	public HqlInterpretation hqlInterpretationHit(Cursor cursor) {
+		return interpretationCache.resolveHqlInterpretation( cursor.next(), null, hqlTranslator );
+	}
+
+	@Benchmark
+	@Threads(8)
+	public HqlInterpretation hqlInterpretationHitContended(Cursor cursor) {
+		return interpretationCache.resolveHqlInterpretation( cursor.next(), null, hqlTranslator );
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Hydration of query results through {@code StandardRowReader}, for entity
+ * results as well as for scalar projections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowReadingBenchmark {
+	@Param({ "100", "10000" })
+	public int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "row_reading" );
+		BenchmarkSessionFactory.populate( sessionFactory, rowCount );
+		session = (SessionImplementor) sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> entities() {
+		try {
+			return session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+		}
+		finally {
+			session.clear();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> entitiesWithJoinFetch() {
+		try {
+			return session.createSelectionQuery( "from Customer c join fetch c.country", Customer.class )
+					.getResultList();
+		}
+		finally {
+			session.clear();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return session.createSelectionQuery(
+						"select c.id, c.name, c.email, c.balance, c.registeredOn, c.active from Customer c",
+						Object[].class
+				)
+				.getResultList();
+	}
+}
@@ -38,12 +38,42 @@ public interface SessionEventListener extends Serializable {
 	default void jdbcPrepareStatementStart() {}
 	default void jdbcPrepareStatementEnd() {}
 
+	/**
+	 * Called before preparing the given SQL statement, by default
+	 * delegating to {@link #jdbcPrepareStatementStart()}.
+	 *
+	 * @since 6.4
+	 */
+	default void jdbcPrepareStatementStart(String sql) {
+		jdbcPrepareStatementStart();
+	}
+
 	default void jdbcExecuteStatementStart() {}
 	default void jdbcExecuteStatementEnd() {}
 
+	/**
+	 * Called before executing the given SQL statement, by default
+	 * delegating to {@link #jdbcExecuteStatementStart()}.
+	 *
+	 * @since 6.4
+	 */
+	default void jdbcExecuteStatementStart(String sql) {
+		jdbcExecuteStatementStart();
+	}
+
 	default void jdbcExecuteBatchStart() {}
 	default void jdbcExecuteBatchEnd() {}
 
+	/**
+	 * Called before executing a batch of the given SQL statement, by
+	 * default delegating to {@link #jdbcExecuteBatchStart()}.
+	 *
+	 * @since 6.4
+	 */
+	default void jdbcExecuteBatchStart(String sql) {
+		jdbcExecuteBatchStart();
+	}
+
 	default void cachePutStart() {}
 	default void cachePutEnd() {}
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -124,6 +126,59 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, using JDBC batching. The records are
+	 * inserted in the order of the list, so that they may respect foreign
+	 * keys, and consecutive records of the same entity type are batched
+	 * together.
+	 * <p>
+	 * If no {@linkplain #setJdbcBatchSize JDBC batch size} is configured,
+	 * the records are batched in groups of the size of the given list, up
+	 * to 100 records. Records are only batched while a transaction is
+	 * active, and never when the identifier is generated by the database.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple records, using JDBC batching. The records are
+	 * processed in order, as described by {@link #insertMultiple}.
+	 *
+	 * @param entities a list of detached instances to be updated
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple records, using JDBC batching. The records are
+	 * processed in order, as described by {@link #insertMultiple}.
+	 *
+	 * @param entities a list of detached instances to be deleted
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Use SQL {@code merge into} statements to perform an upsert of multiple
+	 * records, using JDBC batching. The records are processed in order, as
+	 * described by {@link #insertMultiple}.
+	 *
+	 * @param entities a list of detached instances to be merged
+	 * @throws TransientObjectException if one of the entities is transient
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -183,7 +183,7 @@ public abstract class EntityAction
 		if ( session != null ) {
 			this.session = session;
 			this.persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
-			this.instance = session.getPersistenceContext().getEntity( session.generateEntityKey( id, persister ) );
+			this.instance = session.getPersistenceContext().getEntity( id, persister );
 		}
 	}
 
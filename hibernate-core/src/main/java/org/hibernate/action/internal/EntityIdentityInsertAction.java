@@ -6,6 +6,10 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.EntityKey;
@@ -20,6 +24,8 @@ import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 /**
  * The action for performing entity insertions when entity is using IDENTITY column identifier generation
@@ -68,27 +74,13 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
 
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-
 		setVeto( preInsert() );
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
+			afterInsert( getPersister().insert( getState(), getInstance(), getSession() ) );
 		}
 
 		//TODO: this bit actually has to be called after all cascades!
@@ -99,9 +91,70 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		completeExecution();
+	}
+
+	/**
+	 * Perform the given insertions of instances of the same entity type using a
+	 * single multi-row insert statement.
+	 *
+	 * @param actions Delayed insertions which don't {@linkplain #referencesAny reference}
+	 * the instances inserted by one another
+	 *
+	 * @see EntityPersister#insertMultiple
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public static void executeMultiple(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.nullifyTransientReferencesIfNotAlready();
+			action.setVeto( action.preInsert() );
+			if ( !action.isVeto() ) {
+				inserts.add( action );
+			}
+		}
+
+		if ( !inserts.isEmpty() ) {
+			final List<Object[]> states = new ArrayList<>( inserts.size() );
+			final List<Object> instances = new ArrayList<>( inserts.size() );
+			for ( EntityIdentityInsertAction insert : inserts ) {
+				states.add( insert.getState() );
+				instances.add( insert.getInstance() );
+			}
+			final EntityIdentityInsertAction first = inserts.get( 0 );
+			final Object[] generatedIds = first.getPersister().insertMultiple( states, instances, first.getSession() );
+			for ( int i = 0; i < inserts.size(); i++ ) {
+				inserts.get( i ).afterInsert( generatedIds[i] );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeExecution();
+		}
+	}
+
+	private void afterInsert(Object generatedId) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey( persister, generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, instance );
+	}
+
+	private void completeExecution() {
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
@@ -109,6 +162,51 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 		markExecuted();
 	}
 
+	/**
+	 * Can this insertion be performed along with other insertions of the same
+	 * entity type, by a single multi-row insert statement?
+	 *
+	 * @see #executeMultiple
+	 */
+	public boolean isMultiRowInsertable() {
+		return isDelayed && getPersister().isMultiRowInsertSupported();
+	}
+
+	/**
+	 * Does the state inserted by this action reference any of the given
+	 * instances, through a to-one association, possibly of an embeddable?
+	 *
+	 * @param instances A set of entity instances, compared by identity
+	 */
+	public boolean referencesAny(Set<Object> instances) {
+		return referencesAny( getPersister().getPropertyTypes(), getState(), instances );
+	}
+
+	private boolean referencesAny(Type[] types, Object[] values, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			final Object value = values[i];
+			if ( value != null ) {
+				if ( type.isEntityType() ) {
+					if ( instances.contains( value ) ) {
+						return true;
+					}
+				}
+				else if ( type.isComponentType() ) {
+					final CompositeType compositeType = (CompositeType) type;
+					if ( referencesAny(
+							compositeType.getSubtypes(),
+							compositeType.getPropertyValues( value, getSession() ),
+							instances
+					) ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public boolean needsAfterTransactionCompletion() {
 		//TODO: simply remove this override if we fix the above todos
@@ -182,6 +182,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public int getAdaptiveBatchFetchSize() {
+		return delegate.getAdaptiveBatchFetchSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -292,6 +297,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertBatchingEnabled() {
+		return delegate.isMultiRowInsertBatchingEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -412,6 +427,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return delegate.inClauseArrayParameterEnabled();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
@@ -142,6 +142,17 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * The maximum size of adaptive batches, or {@code 0} if adaptive batch fetching is disabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 6.4
+	 */
+	default int getAdaptiveBatchFetchSize() {
+		return 0;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	boolean isSubselectFetchEnabled();
@@ -182,6 +193,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should insertions of entities with {@code IDENTITY} generated identifiers be
+	 * delayed until flush, and executed as multi-row {@code insert} statements?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.4
+	 */
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should batches of entity insertions be executed as multi-row
+	 * {@code insert} statements?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 *
+	 * @since 6.4
+	 */
+	default boolean isMultiRowInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -263,6 +298,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+	 *
+	 * @since 6.4
+	 */
+	default boolean inClauseArrayParameterEnabled() {
+		return false;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
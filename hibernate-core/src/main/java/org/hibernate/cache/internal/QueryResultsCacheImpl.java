@@ -17,6 +17,7 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -73,6 +74,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
+		if ( results instanceof ColumnarQueryResults ) {
+			// immutable, and copying it would build all the rows
+			return results;
+		}
 		return new ArrayList<>( results );
 	}
 
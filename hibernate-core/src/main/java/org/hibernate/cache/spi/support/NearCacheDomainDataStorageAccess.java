@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_TIME_TO_LIVE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link DomainDataStorageAccess} decorator keeping the entries read from the
+ * decorated storage, typically a remote or clustered cache, in a bounded on-heap
+ * tier, so that reading a hot entry does not involve a network round trip, nor
+ * the deserialization of the entry.
+ * <p>
+ * Every write through this storage access, including the soft locks put by
+ * {@link AbstractReadWriteAccess} when locking and unlocking an item, invalidates
+ * the on-heap entry both before and after being applied to the decorated storage,
+ * and entries are only ever added to the on-heap tier when read from the decorated
+ * storage. Soft locks themselves are never kept on-heap.
+ * <p>
+ * Writes performed by other nodes of a cluster are not observed by the on-heap
+ * tier, so only {@linkplain AccessType#READ_ONLY read-only} regions are decorated,
+ * unless the entries are given a time to live, bounding how long such a write may
+ * go unnoticed.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TIME_TO_LIVE
+ */
+public class NearCacheDomainDataStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final BoundedConcurrentHashMap<Object, NearEntry> nearEntries;
+	private final long timeToLiveNanos;
+
+	/**
+	 * Incremented by every write, so that a read racing with a write does not
+	 * leave the value it read in the on-heap tier
+	 */
+	private final AtomicLong writeCount = new AtomicLong();
+
+	/**
+	 * @param delegate The decorated storage access
+	 * @param maxEntries The maximum number of entries kept on-heap
+	 * @param timeToLive The time to live of the entries kept on-heap, in milliseconds, or 0 for no expiration
+	 */
+	public NearCacheDomainDataStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLive) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "Maximum number of near cache entries must be positive" );
+		}
+		if ( timeToLive < 0 ) {
+			throw new IllegalArgumentException( "Near cache time to live must not be negative" );
+		}
+		this.delegate = delegate;
+		this.nearEntries = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	/**
+	 * Decorate the given storage access of the given region with a near cache, if
+	 * {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES} is set. Regions
+	 * with {@linkplain AccessType#TRANSACTIONAL transactional} access are never decorated,
+	 * and other regions which are not {@linkplain AccessType#READ_ONLY read-only} are only
+	 * decorated when {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_TIME_TO_LIVE} is set.
+	 */
+	public static DomainDataStorageAccess decorate(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionConfig regionConfig,
+			Map<String, Object> configurationValues) {
+		final int maxEntries = getInt( NEAR_CACHE_MAX_ENTRIES, configurationValues, 0 );
+		if ( maxEntries <= 0
+				|| storageAccess instanceof NearCacheDomainDataStorageAccess
+				|| hasAccessType( regionConfig, AccessType.TRANSACTIONAL ) ) {
+			return storageAccess;
+		}
+		final long timeToLive = getLong( NEAR_CACHE_TIME_TO_LIVE, configurationValues, 0 );
+		if ( timeToLive <= 0 && !isReadOnly( regionConfig ) ) {
+			// the writes made by other nodes would never be seen
+			return storageAccess;
+		}
+		return new NearCacheDomainDataStorageAccess( storageAccess, maxEntries, timeToLive );
+	}
+
+	private static boolean isReadOnly(DomainDataRegionConfig regionConfig) {
+		return !hasAccessType( regionConfig, AccessType.READ_WRITE )
+				&& !hasAccessType( regionConfig, AccessType.NONSTRICT_READ_WRITE )
+				&& !hasAccessType( regionConfig, AccessType.TRANSACTIONAL );
+	}
+
+	private static boolean hasAccessType(DomainDataRegionConfig regionConfig, AccessType accessType) {
+		return hasAccessType( regionConfig.getEntityCaching(), accessType )
+				|| hasAccessType( regionConfig.getNaturalIdCaching(), accessType )
+				|| hasAccessType( regionConfig.getCollectionCaching(), accessType );
+	}
+
+	private static boolean hasAccessType(
+			Iterable<? extends DomainDataCachingConfig> cachingConfigs,
+			AccessType accessType) {
+		for ( DomainDataCachingConfig cachingConfig : cachingConfigs ) {
+			if ( cachingConfig.getAccessType() == accessType ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The decorated storage access
+	 */
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final NearEntry nearEntry = nearEntries.get( key );
+		if ( nearEntry != null ) {
+			if ( !nearEntry.isExpired( System.nanoTime() ) ) {
+				return nearEntry.value;
+			}
+			nearEntries.remove( key, nearEntry );
+		}
+
+		final long writeCountBeforeRead = writeCount.get();
+		final Object value = delegate.getFromCache( key, session );
+		if ( value != null && !( value instanceof SoftLock ) ) {
+			final NearEntry entry = new NearEntry(
+					value,
+					timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos
+			);
+			if ( writeCount.get() == writeCountBeforeRead ) {
+				nearEntries.put( key, entry );
+				// a write whose invalidation happened between the check above and
+				// the put must not leave a stale entry
+				if ( writeCount.get() != writeCountBeforeRead ) {
+					nearEntries.remove( key, entry );
+				}
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		invalidate( key );
+		delegate.putIntoCache( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		invalidate( key );
+		delegate.putFromLoad( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		invalidate( key );
+		delegate.removeFromCache( key, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		invalidateAll();
+		delegate.clearCache( session );
+		invalidateAll();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return nearEntries.containsKey( key ) || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		invalidateAll();
+		delegate.evictData();
+		invalidateAll();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		invalidate( key );
+		delegate.evictData( key );
+		invalidate( key );
+	}
+
+	@Override
+	public void release() {
+		invalidateAll();
+		delegate.release();
+		invalidateAll();
+	}
+
+	private void invalidate(Object key) {
+		writeCount.incrementAndGet();
+		nearEntries.remove( key );
+	}
+
+	private void invalidateAll() {
+		writeCount.incrementAndGet();
+		nearEntries.clear();
+	}
+
+	private static final class NearEntry {
+		private final Object value;
+		private final long expiration;
+
+		private NearEntry(Object value, long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+
+		private boolean isExpired(long now) {
+			return expiration != 0 && now - expiration >= 0;
+		}
+	}
+}
@@ -177,6 +177,65 @@ public interface AvailableSettings
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
 
+	/**
+	 * When enabled, specifies that the persistence context should store the entity
+	 * instances and database snapshots it manages in open-addressing tables keyed
+	 * by the primitive value of the identifier, for identifiers of type
+	 * {@code Long}, {@code Integer}, or {@link java.util.UUID}, instead of in a
+	 * {@link java.util.HashMap} keyed by {@link org.hibernate.engine.spi.EntityKey}.
+	 * <p>
+	 * This reduces the memory footprint of sessions managing large numbers of
+	 * entities, and avoids allocating keys for lookups by identifier.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE = "hibernate.persistence_context.primitive_id_storage";
+
+	/**
+	 * Specifies the minimum number of entities held by the persistence context
+	 * for which the dirty checks performed at flush time are computed in
+	 * parallel, using a pool of threads dedicated to the {@code SessionFactory}.
+	 * The property values are still read by the flushing thread, only their
+	 * comparison with the loaded state is parallelized. The resulting updates
+	 * are scheduled serially, in the same order as when the dirty checks are
+	 * performed serially.
+	 * <p>
+	 * Only entities which are not bytecode enhanced, whose properties are all
+	 * standard basic values or many-to-one associations, and whose many-to-one
+	 * associations were not reassigned take part in the parallel dirty checking.
+	 * It's never used when the session has an {@link org.hibernate.Interceptor},
+	 * when a {@link CustomEntityDirtinessStrategy} is configured, or when one of
+	 * the flushed entities has a {@link jakarta.persistence.PreUpdate} callback.
+	 *
+	 * @settingDefault {@code 0} - dirty checks are never computed in parallel
+	 *
+	 * @since 6.4
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/**
+	 * When enabled, a flush entirely skips the managed entities which were not
+	 * modified since they were loaded or last flushed, instead of processing each
+	 * of them to detect changes. An entity is known to be unmodified when it is
+	 * bytecode enhanced with {@linkplain org.hibernate.engine.spi.SelfDirtinessTracker
+	 * dirty tracking}, has no mutable property, has no dirty attribute, and owns
+	 * no collection which was modified.
+	 * <p>
+	 * The flush-time cascades are not applied from unmodified entities either, so
+	 * that an entity removed while still being referenced by an unmodified entity
+	 * is not made persistent again by a {@link jakarta.persistence.CascadeType#PERSIST}
+	 * cascade. It's never used when the session has an {@link org.hibernate.Interceptor},
+	 * or when a {@link CustomEntityDirtinessStrategy} or a custom flush entity event
+	 * listener is configured.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String FLUSH_INCREMENTAL_DIRTY_TRACKING = "hibernate.flush.incremental_dirty_tracking";
+
 	/**
 	 * When enabled, specifies that the generated identifier of an entity is unset
 	 * when the entity is {@linkplain org.hibernate.Session#remove(Object) deleted}.
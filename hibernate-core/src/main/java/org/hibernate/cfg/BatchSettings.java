@@ -35,6 +35,72 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, a full JDBC batch is {@linkplain PreparedStatement#executeBatch executed}
+	 * by a background thread, while the next batch is bound to a second set of
+	 * {@linkplain java.sql.PreparedStatement statements} by the flushing thread.
+	 * At most one batch is ever in flight, and a failure of the batch is reported
+	 * when the next batch fills up, or when the flush completes.
+	 * <p/>
+	 * This requires a JDBC driver which allows concurrent use of distinct statements
+	 * of the same connection. It has no effect unless {@link #STATEMENT_BATCH_SIZE}
+	 * enables batching.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When enabled, the insertion of an entity whose identifier is generated by an
+	 * {@code IDENTITY} column is delayed until the next flush, even within a transaction,
+	 * and consecutive insertions of entities of the same type are executed as a single
+	 * multi-row {@code insert} statement of up to {@link #STATEMENT_BATCH_SIZE} rows,
+	 * the generated identifiers being mapped back to the entities in order.
+	 * <p/>
+	 * This only applies to entities mapped to a single table, with no other generated
+	 * values, and to {@linkplain jakarta.persistence.EntityManager#persist persisted}
+	 * entities, the identifiers of which are not available until the flush. It has no
+	 * effect unless the {@link org.hibernate.dialect.Dialect} reports that it
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsertGeneratedKeys
+	 * returns the generated keys of multi-row inserts}, and {@link #STATEMENT_BATCH_SIZE}
+	 * enables batching. Enabling {@link #ORDER_INSERTS} helps to group the insertions
+	 * of each entity type together.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isIdentityInsertBatchingEnabled
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
+	/**
+	 * When enabled, a JDBC batch of entity insertions is executed as multi-row
+	 * {@code insert ... values (...), (...)} statements, rather than by
+	 * {@linkplain PreparedStatement#addBatch adding} each row to the batch of a
+	 * single-row statement, since many drivers send the latter to the database
+	 * one row at a time.
+	 * <p/>
+	 * A full batch is executed by a single statement, and the rest of a batch by
+	 * statements whose number of rows is a power of two, so that only a handful of
+	 * distinct statements are ever prepared for each entity type.
+	 * <p/>
+	 * This only applies to entities mapped to a single table, the identifiers of
+	 * which are not generated by an {@code IDENTITY} column, and has no effect unless
+	 * the {@link org.hibernate.dialect.Dialect} {@linkplain
+	 * org.hibernate.dialect.Dialect#supportsValuesListForInsert supports} multi-row
+	 * {@code insert} statements, and {@link #STATEMENT_BATCH_SIZE} enables batching.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isMultiRowInsertBatchingEnabled
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
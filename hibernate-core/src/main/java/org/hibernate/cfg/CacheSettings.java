@@ -99,6 +99,51 @@ public interface CacheSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When enabled, the JDBC values of cached query results are stored column by
+	 * column, using primitive arrays for numeric columns and a dictionary for
+	 * repetitive string columns, instead of as one array per row. This reduces
+	 * the number of objects held by the query cache region for large results.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_CACHE_COLUMNAR_LAYOUT = "hibernate.cache.query_cache_columnar_layout";
+
+	/**
+	 * The maximum number of entries of each entity, natural id, and collection
+	 * region to keep in an on-heap near cache in front of the storage of the
+	 * {@linkplain #CACHE_REGION_FACTORY cache provider}. This avoids a network
+	 * round trip for each read of a hot entry when the provider is a remote or
+	 * clustered cache. Regions with {@code transactional} access are never
+	 * near-cached.
+	 * <p>
+	 * Changes made by other nodes of a cluster are not observed by the near
+	 * cache, so only {@code read-only} regions are near-cached, unless
+	 * {@value #NEAR_CACHE_TIME_TO_LIVE} is set as well, which bounds how long
+	 * such a change goes unnoticed.
+	 *
+	 * @settingDefault {@code 0}, meaning no near cache
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess
+	 *
+	 * @since 6.4
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, after which an entry of the near cache enabled by
+	 * {@value #NEAR_CACHE_MAX_ENTRIES} expires, and is read again from the storage
+	 * of the cache provider. Regions which are neither {@code read-only} nor
+	 * {@code transactional} are only near-cached when this is set.
+	 *
+	 * @settingDefault {@code 0}, meaning that entries do not expire
+	 *
+	 * @since 6.4
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache.time_to_live";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -33,6 +33,25 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the maximum size of adaptive batches, enabling adaptive batch fetching of
+	 * entities which specify no {@linkplain BatchSize#size() batch size}, when no
+	 * {@linkplain #DEFAULT_BATCH_FETCH_SIZE default batch size} is specified.
+	 * <p/>
+	 * When the first proxy of such an entity is accessed in a session, every other pending
+	 * proxy of the entity is fetched ahead along with it, in the same query. The session then
+	 * watches how many of the proxies fetched ahead are actually accessed, and sizes the
+	 * following batches of that entity in proportion to the pending proxies which are
+	 * expected to be accessed. Other loads of the entity are not batched.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getAdaptiveBatchFetchSize
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 6.4
+	 */
+	String ADAPTIVE_BATCH_FETCH_SIZE = "hibernate.adaptive_batch_fetch_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -472,6 +472,29 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String CONNECTION_HANDLING = "hibernate.connection.handling_mode";
 
+	/**
+	 * The maximum number of {@linkplain java.sql.PreparedStatement prepared statements}
+	 * kept open for reuse, per JDBC connection. Statements are keyed by SQL and
+	 * result set type, and the least recently used statement is closed when the limit
+	 * is exceeded.
+	 * <p>
+	 * The cached statements of a connection are kept when the connection is given back
+	 * to the pool, and reused by the next session holding the same physical connection.
+	 * They are dropped once the connection is found closed. Since pools usually close
+	 * the statements prepared through the connections they hand out, the statements are
+	 * prepared on the {@linkplain java.sql.Connection#unwrap unwrapped} physical
+	 * connection, bypassing the pool, and any instrumentation of its connections.
+	 * <p>
+	 * This is useful with connection pools which don't cache statements, like HikariCP,
+	 * as long as the connections of the pool are only used by Hibernate.
+	 * Only statements which aren't callable and don't return generated keys are cached.
+	 *
+	 * @settingDefault {@code 0}, meaning that statements are not cached
+	 *
+	 * @since 6.4
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Deprecated Hibernate settings
@@ -179,6 +179,28 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, and the dialect {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+	 * prefers arrays for multi-valued parameters}, a list bound to a parameter occurring
+	 * as the single element of an {@code IN} predicate, for example {@code :ids} in
+	 * {@code id in :ids}, is bound as a single array parameter rather than expanded to
+	 * one bind parameter per element, for example {@code id = any (?)} on PostgreSQL.
+	 * <p>
+	 * The SQL statement is then the same whatever the size of the list, which avoids
+	 * rendering huge SQL strings for large lists, and improves the chance of hitting
+	 * the execution plan cache of the database.
+	 * <p>
+	 * Only applies when the left-hand side of the {@code IN} predicate maps to a single
+	 * column of a basic type without a converter.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 *
+	 * @since 6.4
+	 */
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -213,6 +235,28 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the eviction policy of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 * Accepts:
+	 * <ul>
+	 *     <li>{@code lirs} (the default) - a segmented hash map using the LIRS
+	 *     policy, whose reads are lock-free, but whose cache hits may contend
+	 *     on the segment locks to record the access,
+	 *     <li>{@code tinylfu} - a cache using the W-TinyLFU policy, recording
+	 *     accesses into lock-free buffers, which scales better with many
+	 *     concurrent threads executing queries.
+	 * </ul>
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheStandardImpl
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.Eviction
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -117,6 +117,13 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	@Override
 	public final void dirty() {
 		dirty = true;
+		registerModifiedOwner();
+	}
+
+	private void registerModifiedOwner() {
+		if ( session != null ) {
+			session.getPersistenceContextInternal().registerModifiedEntity( owner );
+		}
 	}
 
 	@Override
@@ -520,6 +527,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		operationQueue.add( operation );
 		//needed so that we remove this collection from the second-level cache
 		dirty = true;
+		registerModifiedOwner();
 	}
 
 	/**
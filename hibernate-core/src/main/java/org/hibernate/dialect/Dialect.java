@@ -4072,6 +4072,26 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 	public boolean supportsInsertReturningGeneratedKeys() {
 		return false;
 	}
+
+	/**
+	 * Does this dialect return the values generated for every row of a multi-row
+	 * {@code insert ... values (...), (...)} statement, in the order of the rows
+	 * of the {@code values} list, using the same mechanism which returns the
+	 * generated value of a single row?
+	 * <p>
+	 * This is required to map the identifiers generated by the database back to
+	 * the inserted entities.
+	 *
+	 * @return {@code true} if the generated values of a multi-row {@code insert}
+	 *         are returned in the order of its rows
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.4
+	 */
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return false;
+	}
 	/**
 	 * Does this dialect support the given {@code FETCH} clause type.
 	 *
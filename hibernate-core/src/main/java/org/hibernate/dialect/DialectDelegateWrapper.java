@@ -1218,6 +1218,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsInsertReturningGeneratedKeys();
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return wrapped.supportsMultiRowInsertGeneratedKeys();
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		return wrapped.supportsFetchClause( type );
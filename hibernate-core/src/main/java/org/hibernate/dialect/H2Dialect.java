@@ -795,6 +795,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public int registerResultSetOutParameter(CallableStatement statement, int position) throws SQLException {
 		return position;
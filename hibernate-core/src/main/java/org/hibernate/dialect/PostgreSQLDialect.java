@@ -1309,6 +1309,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
@@ -23,7 +23,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -545,6 +548,47 @@ public class EntityEntryContext {
 		return count;
 	}
 
+	/**
+	 * The entity most recently added to the context, or {@code null} if the context is empty
+	 */
+	public Object getLastEntity() {
+		return tail == null ? null : tail.$$_hibernate_getEntityInstance();
+	}
+
+	/**
+	 * The entities added to the context after the given entity, in the order in which they
+	 * were added, or all entities if the given entity is {@code null}.  An empty list is
+	 * returned if the given entity is not associated with this context anymore.
+	 *
+	 * @param entity The entity after which to start, or {@code null}
+	 *
+	 * @return The entities added after the given one
+	 */
+	public List<Object> getEntitiesAddedAfter(Object entity) {
+		final ManagedEntity start;
+		if ( entity == null ) {
+			start = head;
+		}
+		else {
+			final ManagedEntity managedEntity = getAssociatedManagedEntity( entity );
+			if ( managedEntity == null ) {
+				return Collections.emptyList();
+			}
+			start = managedEntity.$$_hibernate_getNextManagedEntity();
+		}
+
+		if ( start == null ) {
+			return Collections.emptyList();
+		}
+		final List<Object> entities = new ArrayList<>();
+		ManagedEntity node = start;
+		while ( node != null ) {
+			entities.add( node.$$_hibernate_getEntityInstance() );
+			node = node.$$_hibernate_getNextManagedEntity();
+		}
+		return entities;
+	}
+
 	/**
 	 * The wrapper for entity classes which do not implement ManagedEntity
 	 */
@@ -0,0 +1,709 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A {@link java.util.Map} keyed by {@link EntityKey}, storing its entries in
+ * one open-addressing table per "partition" (the root entity persister), keyed
+ * directly by the primitive value of the identifier when it is a {@code Long},
+ * an {@code Integer} or a {@code UUID}. Other identifiers, for example composite
+ * identifiers, are kept in a plain {@link HashMap}.
+ * <p>
+ * Compared to a {@code HashMap}, this avoids allocating a node per entry, and
+ * allows lookups by partition and identifier, without having to allocate a key.
+ * The keys are only re-created when iterating over the {@link #entrySet()} or
+ * the {@link #keySet()}. Like the iterators of a {@code HashMap}, the iterators
+ * support removal, and are fail-fast.
+ * <p>
+ * Collections are not stored in such a map: a {@code CollectionKey} can't be
+ * re-created from its role and key, so each entry would have to retain its key
+ * anyway, and the lookups of collections allocate their key regardless.
+ * <p>
+ * This is only semantically equivalent to a {@code HashMap} because the
+ * identifier types handled by the tables have {@code equals()} consistent
+ * with the equality of their {@code JavaType}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE
+ */
+final class PrimitiveIdKeyedMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * How the keys of the map are decomposed into a partition and an identifier
+	 */
+	interface KeyModel<K> {
+		/**
+		 * The partition of the key, compared by {@code equals()}
+		 */
+		Object partitionOf(K key);
+
+		Object idOf(K key);
+
+		/**
+		 * The state which is retained in each entry to be able to re-create the key
+		 */
+		Object ownerOf(K key);
+
+		K toKey(Object id, Object owner);
+
+		/**
+		 * The type of identifiers of the partition of the given key
+		 */
+		Class<?> idClassOf(K key);
+	}
+
+	static final KeyModel<EntityKey> ENTITY_KEYS = new KeyModel<>() {
+		@Override
+		public Object partitionOf(EntityKey key) {
+			return PrimitiveIdKeyedMap.partitionOf( key.getPersister() );
+		}
+
+		@Override
+		public Object idOf(EntityKey key) {
+			return key.getIdentifier();
+		}
+
+		@Override
+		public Object ownerOf(EntityKey key) {
+			return key.getPersister();
+		}
+
+		@Override
+		public EntityKey toKey(Object id, Object owner) {
+			return new EntityKey( id, (EntityPersister) owner );
+		}
+
+		@Override
+		public Class<?> idClassOf(EntityKey key) {
+			return key.getPersister().getIdentifierType().getReturnedClass();
+		}
+	};
+
+	/**
+	 * The partition of the given entity persister, as used by {@link #ENTITY_KEYS}
+	 */
+	static Object partitionOf(EntityPersister persister) {
+		return persister.getRootEntityDescriptor();
+	}
+
+	private final KeyModel<K> keyModel;
+	private final HashMap<Object, IdTable> tables = new HashMap<>();
+	private HashMap<K, V> others;
+	// the number of structural modifications, for the fail-fast iterators
+	private int modCount;
+
+	// single entry cache, as consecutive accesses very often target the same partition
+	private Object lastPartition;
+	private IdTable lastTable;
+
+	PrimitiveIdKeyedMap(KeyModel<K> keyModel) {
+		this.keyModel = keyModel;
+	}
+
+	/**
+	 * Returned by the lookups by partition and identifier when the entry
+	 * can't be located without creating its key
+	 */
+	static final Object UNRESOLVED = new Object();
+
+	/**
+	 * Get the value mapped to the given partition and identifier, without
+	 * allocating a key
+	 *
+	 * @return the value, or {@link #UNRESOLVED} if the identifier isn't held
+	 * in a table, in which case the key needs to be created to look up the entry
+	 */
+	Object get(Object partition, Object id) {
+		final IdTable table = table( partition );
+		if ( table != null && table.accepts( id ) ) {
+			return table.get( id );
+		}
+		else if ( table == null && others == null ) {
+			return null;
+		}
+		else {
+			return UNRESOLVED;
+		}
+	}
+
+	/**
+	 * Whether the map contains an entry for the given partition and identifier,
+	 * without allocating a key
+	 *
+	 * @return {@code null} if the identifier isn't held in a table, in which case
+	 * the key needs to be created to look up the entry
+	 */
+	Boolean containsKey(Object partition, Object id) {
+		final IdTable table = table( partition );
+		if ( table != null && table.accepts( id ) ) {
+			return table.find( id ) >= 0;
+		}
+		else if ( table == null && others == null ) {
+			return false;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public int size() {
+		int size = others == null ? 0 : others.size();
+		for ( IdTable table : tables.values() ) {
+			size += table.size;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		//noinspection unchecked
+		final K typedKey = (K) key;
+		final IdTable table = table( keyModel.partitionOf( typedKey ) );
+		final Object id = keyModel.idOf( typedKey );
+		if ( table != null && table.accepts( id ) ) {
+			//noinspection unchecked
+			return (V) table.get( id );
+		}
+		else {
+			return others == null ? null : others.get( key );
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		//noinspection unchecked
+		final K typedKey = (K) key;
+		final IdTable table = table( keyModel.partitionOf( typedKey ) );
+		final Object id = keyModel.idOf( typedKey );
+		if ( table != null && table.accepts( id ) ) {
+			return table.find( id ) >= 0;
+		}
+		else {
+			return others != null && others.containsKey( key );
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final Object partition = keyModel.partitionOf( key );
+		IdTable table = table( partition );
+		if ( table == null ) {
+			table = createTable( keyModel.idClassOf( key ) );
+			if ( table != null ) {
+				tables.put( partition, table );
+				lastPartition = partition;
+				lastTable = table;
+			}
+		}
+		final Object id = keyModel.idOf( key );
+		if ( table != null && table.accepts( id ) ) {
+			final int size = table.size;
+			final Object previous = table.put( id, keyModel.ownerOf( key ), value );
+			if ( table.size != size ) {
+				modCount++;
+			}
+			//noinspection unchecked
+			return (V) previous;
+		}
+		else {
+			if ( others == null ) {
+				others = new HashMap<>();
+			}
+			final int size = others.size();
+			final V previous = others.put( key, value );
+			if ( others.size() != size ) {
+				modCount++;
+			}
+			return previous;
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		//noinspection unchecked
+		final K typedKey = (K) key;
+		final IdTable table = table( keyModel.partitionOf( typedKey ) );
+		final Object id = keyModel.idOf( typedKey );
+		if ( table != null && table.accepts( id ) ) {
+			final int slot = table.find( id );
+			if ( slot < 0 ) {
+				return null;
+			}
+			modCount++;
+			//noinspection unchecked
+			return (V) table.removeAt( slot, null );
+		}
+		else if ( others == null || !others.containsKey( key ) ) {
+			return null;
+		}
+		else {
+			modCount++;
+			return others.remove( key );
+		}
+	}
+
+	@Override
+	public void clear() {
+		modCount++;
+		tables.clear();
+		others = null;
+		lastPartition = null;
+		lastTable = null;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new EntryIterator<>() {
+					@Override
+					Entry<K, V> fromTable(Object id, Object owner, Object value) {
+						//noinspection unchecked
+						return new SimpleImmutableEntry<>( keyModel.toKey( id, owner ), (V) value );
+					}
+
+					@Override
+					Entry<K, V> fromOthers(Entry<K, V> entry) {
+						return entry;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return PrimitiveIdKeyedMap.this.size();
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new EntryIterator<>() {
+					@Override
+					V fromTable(Object id, Object owner, Object value) {
+						//noinspection unchecked
+						return (V) value;
+					}
+
+					@Override
+					V fromOthers(Entry<K, V> entry) {
+						return entry.getValue();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return PrimitiveIdKeyedMap.this.size();
+			}
+		};
+	}
+
+	private IdTable table(Object partition) {
+		if ( partition == lastPartition ) {
+			return lastTable;
+		}
+		final IdTable table = tables.get( partition );
+		if ( table != null ) {
+			lastPartition = partition;
+			lastTable = table;
+		}
+		return table;
+	}
+
+	private static IdTable createTable(Class<?> idClass) {
+		if ( idClass == Long.class || idClass == long.class ) {
+			return new LongIdTable( Long.class );
+		}
+		else if ( idClass == Integer.class || idClass == int.class ) {
+			return new LongIdTable( Integer.class );
+		}
+		else if ( idClass == UUID.class ) {
+			return new UuidIdTable();
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Iterates over the slots of each table in descending order, so that the entries
+	 * shifted backward by a removal are not visited twice. The entries of a cluster
+	 * wrapping around the end of the table which are shifted from the slots not yet
+	 * visited to the slots already visited are collected, and visited after the slots.
+	 */
+	private abstract class EntryIterator<T> implements Iterator<T> {
+		private final List<IdTable> tableList = new ArrayList<>( tables.values() );
+		private final Iterator<Entry<K, V>> othersIterator = others == null ? null : others.entrySet().iterator();
+		private int expectedModCount = modCount;
+
+		private int tableIndex;
+		// the next slot to visit is the one below
+		private int slot = tableList.isEmpty() ? 0 : tableList.get( 0 ).values.length;
+		// the id, owner and value of the entries shifted to the visited slots
+		private List<Object[]> shifted;
+		private int shiftedIndex;
+
+		// the element last returned, to be removed by remove()
+		private IdTable returnedTable;
+		private int returnedSlot = -1;
+		private Object returnedShiftedId;
+		private boolean returnedFromOthers;
+
+		abstract T fromTable(Object id, Object owner, Object value);
+
+		abstract T fromOthers(Entry<K, V> entry);
+
+		@Override
+		public boolean hasNext() {
+			while ( tableIndex < tableList.size() ) {
+				final Object[] values = tableList.get( tableIndex ).values;
+				while ( slot > 0 ) {
+					if ( values[slot - 1] != null ) {
+						return true;
+					}
+					slot--;
+				}
+				if ( shifted != null && shiftedIndex < shifted.size() ) {
+					return true;
+				}
+				if ( ++tableIndex < tableList.size() ) {
+					slot = tableList.get( tableIndex ).values.length;
+				}
+				shifted = null;
+				shiftedIndex = 0;
+			}
+			return othersIterator != null && othersIterator.hasNext();
+		}
+
+		@Override
+		public T next() {
+			checkForComodification();
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			returnedTable = null;
+			returnedSlot = -1;
+			returnedShiftedId = null;
+			returnedFromOthers = false;
+			if ( tableIndex < tableList.size() ) {
+				final IdTable table = tableList.get( tableIndex );
+				returnedTable = table;
+				if ( slot > 0 ) {
+					returnedSlot = --slot;
+					return fromTable( table.idAt( slot ), table.owners[slot], table.valueAt( slot ) );
+				}
+				else {
+					final Object[] entry = shifted.get( shiftedIndex++ );
+					returnedShiftedId = entry[0];
+					return fromTable( entry[0], entry[1], entry[2] );
+				}
+			}
+			else {
+				returnedFromOthers = true;
+				return fromOthers( othersIterator.next() );
+			}
+		}
+
+		@Override
+		public void remove() {
+			if ( returnedTable == null && !returnedFromOthers ) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			if ( returnedFromOthers ) {
+				othersIterator.remove();
+			}
+			else if ( returnedShiftedId != null ) {
+				// every slot of the table was visited, so shifts don't matter anymore
+				returnedTable.removeAt( returnedTable.find( returnedShiftedId ), null );
+			}
+			else {
+				if ( shifted == null ) {
+					shifted = new ArrayList<>();
+				}
+				returnedTable.removeAt( returnedSlot, shifted );
+			}
+			modCount++;
+			expectedModCount = modCount;
+			returnedTable = null;
+			returnedFromOthers = false;
+		}
+
+		private void checkForComodification() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * An open-addressing hash table with linear probing, for a single partition.
+	 * Empty slots have a {@code null} value, and removals shift the following
+	 * entries of the cluster backward, so that no tombstones are needed.
+	 */
+	private abstract static class IdTable {
+		private static final int INITIAL_CAPACITY = 16;
+		private static final Object NULL_VALUE = new Object();
+
+		Object[] values = new Object[INITIAL_CAPACITY];
+		Object[] owners = new Object[INITIAL_CAPACITY];
+		int size;
+
+		abstract boolean accepts(Object id);
+
+		abstract int hash(Object id);
+
+		abstract int hashAt(int slot);
+
+		abstract boolean matches(int slot, Object id);
+
+		abstract Object idAt(int slot);
+
+		abstract void setId(int slot, Object id);
+
+		abstract void moveId(int from, int to);
+
+		abstract void resizeIds(int capacity);
+
+		final int mask() {
+			return values.length - 1;
+		}
+
+		final int find(Object id) {
+			final int mask = mask();
+			int slot = hash( id ) & mask;
+			while ( values[slot] != null ) {
+				if ( matches( slot, id ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		final Object get(Object id) {
+			final int slot = find( id );
+			return slot < 0 ? null : valueAt( slot );
+		}
+
+		final Object valueAt(int slot) {
+			final Object value = values[slot];
+			return value == NULL_VALUE ? null : value;
+		}
+
+		final Object put(Object id, Object owner, Object value) {
+			final int mask = mask();
+			int slot = hash( id ) & mask;
+			while ( values[slot] != null ) {
+				if ( matches( slot, id ) ) {
+					// like a HashMap, keep the original key
+					final Object previous = valueAt( slot );
+					values[slot] = value == null ? NULL_VALUE : value;
+					return previous;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			setId( slot, id );
+			values[slot] = value == null ? NULL_VALUE : value;
+			owners[slot] = owner;
+			if ( ++size > ( values.length >> 1 ) + ( values.length >> 2 ) ) {
+				rehash( values.length << 1 );
+			}
+			return null;
+		}
+
+		/**
+		 * Remove the entry in the given slot
+		 *
+		 * @param shifted if not {@code null}, collects the entries shifted from a slot
+		 * below the removed slot to a slot above it, when the cluster wraps around
+		 */
+		final Object removeAt(int slot, List<Object[]> shifted) {
+			final Object previous = valueAt( slot );
+			size--;
+			// shift the following entries of the cluster backward
+			final int mask = mask();
+			int next = ( slot + 1 ) & mask;
+			while ( values[next] != null ) {
+				final int home = hashAt( next ) & mask;
+				// move the entry unless its home slot lies cyclically in (slot, next]
+				if ( slot <= next ? ( home <= slot || home > next ) : ( home <= slot && home > next ) ) {
+					if ( shifted != null && next < slot ) {
+						shifted.add( new Object[] { idAt( next ), owners[next], valueAt( next ) } );
+					}
+					moveId( next, slot );
+					values[slot] = values[next];
+					owners[slot] = owners[next];
+					slot = next;
+				}
+				next = ( next + 1 ) & mask;
+			}
+			values[slot] = null;
+			owners[slot] = null;
+			return previous;
+		}
+
+		private void rehash(int capacity) {
+			final Object[] oldValues = values;
+			final Object[] oldOwners = owners;
+			final Object[] oldIds = new Object[oldValues.length];
+			for ( int i = 0; i < oldValues.length; i++ ) {
+				if ( oldValues[i] != null ) {
+					oldIds[i] = idAt( i );
+				}
+			}
+			values = new Object[capacity];
+			owners = new Object[capacity];
+			resizeIds( capacity );
+			size = 0;
+			for ( int i = 0; i < oldValues.length; i++ ) {
+				if ( oldValues[i] != null ) {
+					put( oldIds[i], oldOwners[i], oldValues[i] );
+				}
+			}
+		}
+
+		static int mix(long value) {
+			long h = value * 0x9E3779B97F4A7C15L;
+			h ^= h >>> 32;
+			return (int) ( h ^ ( h >>> 16 ) );
+		}
+	}
+
+	/**
+	 * Table for {@code Long} or {@code Integer} identifiers
+	 */
+	private static final class LongIdTable extends IdTable {
+		private final Class<?> idClass;
+		private long[] ids = new long[values.length];
+
+		private LongIdTable(Class<?> idClass) {
+			this.idClass = idClass;
+		}
+
+		@Override
+		boolean accepts(Object id) {
+			return id != null && id.getClass() == idClass;
+		}
+
+		@Override
+		int hash(Object id) {
+			return mix( ( (Number) id ).longValue() );
+		}
+
+		@Override
+		int hashAt(int slot) {
+			return mix( ids[slot] );
+		}
+
+		@Override
+		boolean matches(int slot, Object id) {
+			return ids[slot] == ( (Number) id ).longValue();
+		}
+
+		@Override
+		Object idAt(int slot) {
+			return idClass == Integer.class ? (Object) (int) ids[slot] : (Object) ids[slot];
+		}
+
+		@Override
+		void setId(int slot, Object id) {
+			ids[slot] = ( (Number) id ).longValue();
+		}
+
+		@Override
+		void moveId(int from, int to) {
+			ids[to] = ids[from];
+		}
+
+		@Override
+		void resizeIds(int capacity) {
+			ids = new long[capacity];
+		}
+	}
+
+	/**
+	 * Table for {@code UUID} identifiers
+	 */
+	private static final class UuidIdTable extends IdTable {
+		private long[] mostSignificantBits = new long[values.length];
+		private long[] leastSignificantBits = new long[values.length];
+
+		@Override
+		boolean accepts(Object id) {
+			return id != null && id.getClass() == UUID.class;
+		}
+
+		@Override
+		int hash(Object id) {
+			final UUID uuid = (UUID) id;
+			return mix( uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits() );
+		}
+
+		@Override
+		int hashAt(int slot) {
+			return mix( mostSignificantBits[slot] ^ leastSignificantBits[slot] );
+		}
+
+		@Override
+		boolean matches(int slot, Object id) {
+			final UUID uuid = (UUID) id;
+			return mostSignificantBits[slot] == uuid.getMostSignificantBits()
+					&& leastSignificantBits[slot] == uuid.getLeastSignificantBits();
+		}
+
+		@Override
+		Object idAt(int slot) {
+			return new UUID( mostSignificantBits[slot], leastSignificantBits[slot] );
+		}
+
+		@Override
+		void setId(int slot, Object id) {
+			final UUID uuid = (UUID) id;
+			mostSignificantBits[slot] = uuid.getMostSignificantBits();
+			leastSignificantBits[slot] = uuid.getLeastSignificantBits();
+		}
+
+		@Override
+		void moveId(int from, int to) {
+			mostSignificantBits[to] = mostSignificantBits[from];
+			leastSignificantBits[to] = leastSignificantBits[from];
+		}
+
+		@Override
+		void resizeIds(int capacity) {
+			mostSignificantBits = new long[capacity];
+			leastSignificantBits = new long[capacity];
+		}
+	}
+}
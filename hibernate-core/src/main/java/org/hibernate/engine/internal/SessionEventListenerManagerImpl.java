@@ -108,6 +108,17 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcPrepareStatementStart(String sql) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcPrepareStatementStart( sql );
+		}
+	}
+
 	@Override
 	public void jdbcPrepareStatementEnd() {
 		if ( listeners == null ) {
@@ -130,6 +141,17 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcExecuteStatementStart(String sql) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcExecuteStatementStart( sql );
+		}
+	}
+
 	@Override
 	public void jdbcExecuteStatementEnd() {
 		if ( listeners == null ) {
@@ -152,6 +174,17 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcExecuteBatchStart(String sql) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcExecuteBatchStart( sql );
+		}
+	}
+
 	@Override
 	public void jdbcExecuteBatchEnd() {
 		if ( listeners == null ) {
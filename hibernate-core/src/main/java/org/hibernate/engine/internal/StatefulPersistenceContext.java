@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentMap;
@@ -55,6 +56,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -95,6 +97,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
 	 */
 	private final SharedSessionContractImplementor session;
+	private final boolean primitiveIdStorage;
+	private final boolean trackModifiedEntities;
 	private EntityEntryContext entityEntryContext;
 
 	/*
@@ -106,7 +110,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -116,7 +120,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -125,7 +129,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -148,6 +152,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// May be empty or not contains all relation
 	private IdentityHashMap<Object,Object> parentsByChild;
 
+	// Entities modified since the last flush in a way not reflected by their
+	// dirtiness tracker, when flushes skip the unmodified entities
+	private IdentitySet<Object> modifiedEntities;
+	private boolean unknownModifiedEntity;
+
 	private int cascading;
 	private int loadCounter;
 	private int removeOrphanBeforeUpdatesCounter;
@@ -166,9 +175,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
+		this.primitiveIdStorage = session.getFactory().getFastSessionServices().usePrimitiveIdStorage;
+		this.trackModifiedEntities = session.getFactory().getFastSessionServices().incrementalDirtyTracking;
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
+	private <V> Map<EntityKey, V> entityKeyMap(int size) {
+		return primitiveIdStorage
+				? new PrimitiveIdKeyedMap<>( PrimitiveIdKeyedMap.ENTITY_KEYS )
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
 		if ( proxiesByKey == null ) {
 			proxiesByKey = new ConcurrentReferenceHashMap<>(
@@ -248,6 +265,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
+		modifiedEntities = null;
+		unknownModifiedEntity = false;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
@@ -317,7 +336,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = entityKeyMap( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -382,7 +401,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -396,11 +415,41 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( id != null && entitiesByKey instanceof PrimitiveIdKeyedMap ) {
+			final Object entity = ( (PrimitiveIdKeyedMap<EntityKey, Object>) entitiesByKey )
+					.get( PrimitiveIdKeyedMap.partitionOf( persister ), id );
+			if ( entity != PrimitiveIdKeyedMap.UNRESOLVED ) {
+				return entity;
+			}
+		}
+		return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public boolean containsEntity(Object id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return false;
+		}
+		else if ( id != null && entitiesByKey instanceof PrimitiveIdKeyedMap ) {
+			final Boolean contained = ( (PrimitiveIdKeyedMap<EntityKey, Object>) entitiesByKey )
+					.containsKey( PrimitiveIdKeyedMap.partitionOf( persister ), id );
+			if ( contained != null ) {
+				return contained;
+			}
+		}
+		return entitiesByKey.containsKey( session.generateEntityKey( id, persister ) );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
@@ -760,7 +809,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -773,7 +822,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -784,7 +833,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -820,11 +869,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -1090,6 +1139,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.getNumberOfManagedEntities();
 	}
 
+	@Override
+	public Object getLastManagedEntity() {
+		return entityEntryContext.getLastEntity();
+	}
+
+	@Override
+	public List<Object> getManagedEntitiesAddedAfter(Object entity) {
+		return entityEntryContext.getEntitiesAddedAfter( entity );
+	}
+
 //	@Override
 //	public Map getEntityEntries() {
 //		return null;
@@ -1140,6 +1199,34 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return --cascading;
 	}
 
+	@Override
+	public void registerModifiedEntity(Object entity) {
+		if ( trackModifiedEntities ) {
+			if ( entity == null ) {
+				unknownModifiedEntity = true;
+			}
+			else {
+				if ( modifiedEntities == null ) {
+					modifiedEntities = new IdentitySet<>( INIT_COLL_SIZE );
+				}
+				modifiedEntities.add( entity );
+			}
+		}
+	}
+
+	@Override
+	public boolean isModifiedEntity(Object entity) {
+		return !trackModifiedEntities
+			|| unknownModifiedEntity
+			|| modifiedEntities != null && modifiedEntities.contains( entity );
+	}
+
+	@Override
+	public void clearModifiedEntities() {
+		modifiedEntities = null;
+		unknownModifiedEntity = false;
+	}
+
 	@Override
 	public boolean isFlushing() {
 		return flushing;
@@ -1676,7 +1763,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.entityKeyMap( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1716,7 +1803,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = rtn.entityKeyMap( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
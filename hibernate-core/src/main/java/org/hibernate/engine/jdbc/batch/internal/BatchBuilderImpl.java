@@ -7,6 +7,12 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -14,9 +20,11 @@ import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +36,15 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final boolean pipelining;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock pipelineExecutorLock = new ReentrantLock();
+	private volatile ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,6 +53,19 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether full batches are executed in the background
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_PIPELINING
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -46,12 +74,17 @@ public class BatchBuilderImpl implements BatchBuilder {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelining = pipelining;
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	public boolean isPipelining() {
+		return pipelining;
+	}
+
 	@Override
 	public Batch buildBatch(
 			BatchKey key,
@@ -63,7 +96,60 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( statementGroup instanceof PreparedStatementGroupMultiRowInsert ) {
+			return new MultiRowInsertBatch(
+					key,
+					(PreparedStatementGroupMultiRowInsert) statementGroup,
+					batchSize,
+					jdbcCoordinator
+			);
+		}
+		if ( pipelining ) {
+			return new BatchImpl(
+					key,
+					statementGroup,
+					statementGroupSupplier,
+					batchSize,
+					jdbcCoordinator,
+					getPipelineExecutor()
+			);
+		}
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	private ExecutorService getPipelineExecutor() {
+		ExecutorService executor = pipelineExecutor;
+		if ( executor == null ) {
+			pipelineExecutorLock.lock();
+			try {
+				executor = pipelineExecutor;
+				if ( executor == null ) {
+					executor = Executors.newCachedThreadPool( new PipelineThreadFactory() );
+					pipelineExecutor = executor;
+				}
+			}
+			finally {
+				pipelineExecutorLock.unlock();
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		final ExecutorService executor;
+		pipelineExecutorLock.lock();
+		try {
+			executor = pipelineExecutor;
+			pipelineExecutor = null;
+		}
+		finally {
+			pipelineExecutorLock.unlock();
+		}
+		if ( executor != null ) {
+			executor.shutdown();
+		}
 	}
 
 
@@ -145,4 +231,16 @@ public class BatchBuilderImpl implements BatchBuilder {
 				jdbcCoordinator
 		);
 	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Pipeline Thread " + counter.incrementAndGet() );
+			return thread;
+		}
+	}
 }
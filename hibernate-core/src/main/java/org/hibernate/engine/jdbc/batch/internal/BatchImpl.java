@@ -9,6 +9,10 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -23,6 +27,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -31,13 +36,27 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
 
 /**
  * Standard implementation of Batch
+ * <p>
+ * When built with an {@link Executor}, a full batch is executed by the executor
+ * while the next batch is bound to a second {@link PreparedStatementGroup}, and
+ * the two groups are swapped each time the batch fills up. The flushing thread
+ * waits for the previous execution before handing over the next batch, before
+ * executing the final partial batch, and before the connection is used for any
+ * other statement, so that a failure is still reported by the flush.
+ *
+ * @see org.hibernate.cfg.BatchSettings#STATEMENT_BATCH_PIPELINING
  *
  * @author Steve Ebersole
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
 	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private PreparedStatementGroup statementGroup;
+
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor pipelineExecutor;
+	private PreparedStatementGroup spareStatementGroup;
+	private CompletableFuture<Void> pipelinedExecution;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -53,6 +72,21 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Creates a batch which executes full batches using the given {@link Executor},
+	 * obtaining a second {@link PreparedStatementGroup} from the supplier the first
+	 * time the batch fills up.
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor pipelineExecutor) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -63,6 +97,8 @@ public class BatchImpl implements Batch {
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.pipelineExecutor = pipelineExecutor;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
@@ -147,13 +183,26 @@ public class BatchImpl implements Batch {
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( pipelineExecutor == null ) {
+				performExecution();
+			}
+			else {
+				performPipelinedExecution();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
 		}
 	}
 
 	protected void releaseStatements() {
+		releaseStatements( statementGroup );
+		if ( spareStatementGroup != null ) {
+			releaseStatements( spareStatementGroup );
+		}
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -167,7 +216,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -225,6 +273,7 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
+			awaitPipelinedExecution();
 			if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
@@ -256,6 +305,9 @@ public class BatchImpl implements Batch {
 
 		//noinspection deprecation
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final int rowCount = batchPosition;
+		final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -269,13 +321,13 @@ public class BatchImpl implements Batch {
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
 						final int[] rowCounts;
 						try {
-							observer.jdbcExecuteBatchStart();
+							observer.jdbcExecuteBatchStart( sql );
 							rowCounts = statement.executeBatch();
 						}
 						finally {
 							observer.jdbcExecuteBatchEnd();
 						}
-						checkRowCounts( rowCounts, statementDetails );
+						checkRowCounts( rowCounts, statementDetails, rowCount );
 					}
 					else {
 						statement.executeBatch();
@@ -292,20 +344,140 @@ public class BatchImpl implements Batch {
 					throw re;
 				}
 			} );
+			if ( startTime != 0 ) {
+				statistics.batchExecuted( System.nanoTime() - startTime );
+			}
 		}
 		finally {
 			batchPosition = 0;
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	/**
+	 * Hands the full batch over to the {@link #pipelineExecutor}, after waiting
+	 * for the previous one, and continues with the spare statement group.
+	 */
+	protected void performPipelinedExecution() {
+		awaitPipelinedExecution();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch in the background (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementGroup executingGroup = statementGroup;
+		final PreparedStatementGroup nextGroup = spareStatementGroup == null
+				? statementGroupSupplier.get()
+				: spareStatementGroup;
+		// prepare the statements now, since the connection
+		// is in use by the background thread from here on
+		executingGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				nextGroup.resolvePreparedStatementDetails( tableName ).resolveStatement();
+			}
+		} );
+
+		final int rowCount = batchPosition;
+		final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver()
+				.jdbcExecuteBatchStart( identifierTableSql( executingGroup ) );
+		pipelinedExecution = CompletableFuture.runAsync(
+				() -> {
+					final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
+					executingGroup.forEachStatement( (tableName, statementDetails) -> {
+						if ( statementDetails.getStatement() != null ) {
+							try {
+								executeStatement( statementDetails, rowCount );
+							}
+							catch (SQLException | RuntimeException e) {
+								throw new PipelinedExecutionFailure( statementDetails.getSqlString(), e );
+							}
+						}
+					} );
+					if ( startTime != 0 ) {
+						statistics.batchExecuted( System.nanoTime() - startTime );
+					}
+				},
+				pipelineExecutor
+		);
+
+		spareStatementGroup = executingGroup;
+		statementGroup = nextGroup;
+	}
+
+	/**
+	 * Waits for the batch being executed by the {@link #pipelineExecutor}, if any,
+	 * reporting its failure on the calling thread.
+	 */
+	public void awaitPipelinedExecution() {
+		final CompletableFuture<Void> execution = pipelinedExecution;
+		if ( execution == null ) {
+			return;
+		}
+
+		pipelinedExecution = null;
+		try {
+			execution.join();
+		}
+		catch (CompletionException e) {
+			if ( !( e.getCause() instanceof PipelinedExecutionFailure ) ) {
+				abortBatch( e );
+				throw e;
+			}
+			final PipelinedExecutionFailure failure = (PipelinedExecutionFailure) e.getCause();
+			final String sql = failure.sql;
+			final Exception cause = (Exception) failure.getCause();
+			abortBatch( cause );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( cause, sql );
+			if ( cause instanceof SQLException ) {
+				throw sqlExceptionHelper.convert( (SQLException) cause, "could not execute batch", sql );
+			}
+			throw (RuntimeException) cause;
+		}
+		finally {
+			//noinspection deprecation
+			jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+		}
+	}
+
+	/**
+	 * The SQL of the batched statement of the identifier table, which
+	 * is the one reported to the observer by the synchronous execution
+	 */
+	private static String identifierTableSql(PreparedStatementGroup group) {
+		final String[] sql = new String[1];
+		group.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null
+					&& statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				sql[0] = statementDetails.getSqlString();
+			}
+		} );
+		return sql[0];
+	}
+
+	private void executeStatement(PreparedStatementDetails statementDetails, int rowCount) throws SQLException {
+		final PreparedStatement statement = statementDetails.getStatement();
+		if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+			checkRowCounts( statement.executeBatch(), statementDetails, rowCount );
+		}
+		else {
+			statement.executeBatch();
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int rowCount)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 ) {
-			if ( numberOfRowCounts != batchPosition ) {
+		if ( rowCount != 0 ) {
+			if ( numberOfRowCounts != rowCount ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
 						numberOfRowCounts,
-						batchPosition
+						rowCount
 				);
 			}
 		}
@@ -317,6 +489,22 @@ public class BatchImpl implements Batch {
 
 	@Override
 	public void release() {
+		final CompletableFuture<Void> execution = pipelinedExecution;
+		if ( execution != null ) {
+			// the batch is being discarded, most likely because of
+			// an earlier failure, so just wait for the statements
+			pipelinedExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				BATCH_LOGGER.debug( "Discarding failure of JDBC batch executed in the background", e.getCause() );
+			}
+			finally {
+				//noinspection deprecation
+				jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+			}
+		}
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final PreparedStatementGroup statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() != 0 ) {
@@ -333,4 +521,13 @@ public class BatchImpl implements Batch {
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	private static class PipelinedExecutionFailure extends RuntimeException {
+		private final String sql;
+
+		private PipelinedExecutionFailure(String sql, Exception cause) {
+			super( cause );
+			this.sql = sql;
+		}
+	}
 }
@@ -0,0 +1,310 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.sql.model.jdbc.JdbcMultiRowInsertMutation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * Batch of insertions executed as multi-row {@code insert} statements
+ * <p>
+ * Rather than binding each row to the single-row statement and
+ * {@linkplain PreparedStatement#addBatch adding} it to the JDBC batch, the
+ * bindings of the rows are kept until the batch is executed, at which point
+ * they are bound to {@linkplain JdbcMultiRowInsertMutation#getMultiRowMutation
+ * multi-row statements}, a single one for a full batch.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroupMultiRowInsert statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	// the bindings of each row of the batch, ordered by position
+	private final List<Binding[]> rows;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupMultiRowInsert statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.rows = new ArrayList<>( batchSizeToUse );
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final TableMapping tableDetails = statementGroup.getSingleStatementDetails().getMutatingTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			if ( MODEL_MUTATION_LOGGER.isTraceEnabled() ) {
+				MODEL_MUTATION_LOGGER.tracef(
+						"Skipping addBatch for table : %s (batch-position=%s)",
+						tableDetails.getTableName(),
+						rows.size() + 1
+				);
+			}
+			return;
+		}
+
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+		try {
+			rows.add( bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+		}
+		finally {
+			jdbcValueBindings.afterStatement( tableDetails );
+		}
+
+		if ( rows.size() == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( rows.isEmpty() ) {
+				if ( BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					rows.size(),
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final JdbcMultiRowInsertMutation mutation = statementGroup.getMultiRowInsertMutation();
+		final SharedSessionContractImplementor session = statementGroup.getSession();
+		final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
+		try {
+			int position = 0;
+			while ( position < rows.size() ) {
+				final int numberOfRows = mutation.resolveNumberOfRows( rows.size() - position, batchSizeToUse );
+				executeStatement(
+						mutation.getMultiRowMutation( numberOfRows, session.getFactory() ),
+						mutation.getNumberOfParametersPerRow(),
+						position,
+						numberOfRows,
+						session
+				);
+				position += numberOfRows;
+			}
+			if ( startTime != 0 ) {
+				statistics.batchExecuted( System.nanoTime() - startTime );
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void executeStatement(
+			JdbcInsertMutation operation,
+			int numberOfParametersPerRow,
+			int position,
+			int numberOfRows,
+			SharedSessionContractImplementor session) {
+		final String sql = operation.getSqlString();
+		final PreparedStatement statement = ModelMutationHelper.standardStatementPreparation( operation, session );
+		try {
+			sqlStatementLogger.logStatement( sql );
+			for ( int i = 0; i < numberOfRows; i++ ) {
+				// the parameters of each row follow those of the previous row
+				final int offset = i * numberOfParametersPerRow;
+				for ( Binding binding : rows.get( position + i ) ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), offset + binding.getPosition(), session );
+				}
+			}
+
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			checkRowCount( rowCount, statement, operation.getExpectation(), position, numberOfRows, sql );
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	/**
+	 * The row count is that of the whole statement, so the rows it reports are
+	 * attributed to the rows of the batch in order, and the excess, if any, to
+	 * the last row.
+	 */
+	private static void checkRowCount(
+			int rowCount,
+			PreparedStatement statement,
+			Expectation expectation,
+			int position,
+			int numberOfRows,
+			String sql) throws SQLException {
+		for ( int i = 0; i < numberOfRows; i++ ) {
+			final int rowRowCount = i < numberOfRows - 1
+					? ( i < rowCount ? 1 : 0 )
+					: Math.max( rowCount - i, 0 );
+			expectation.verifyOutcome( rowRowCount, statement, position + i, sql );
+		}
+	}
+
+	protected void releaseStatements() {
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+				BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			}
+			rows.clear();
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -15,11 +15,16 @@ import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -43,9 +48,16 @@ import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MES
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
+ * <p>
+ * Threads obtain connections without taking a lock, and wait for a connection to be returned for at
+ * most {@value #CONNECTION_TIMEOUT} milliseconds when the pool is exhausted. Connections may be retired
+ * after {@value #MAX_LIFETIME} milliseconds, or after being idle for {@value #IDLE_TIMEOUT} milliseconds,
+ * and connections held for more than {@value #LEAK_DETECTION_THRESHOLD} milliseconds may be reported as
+ * leaks. These checks are performed every {@value #VALIDATION_INTERVAL} seconds.
  *
- * @implNote Not intended for use in production systems!
+ * @implNote Meant for embedded deployments and tests; larger systems should use a dedicated
+ * connection pool.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -61,6 +73,14 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String CONNECTION_TIMEOUT = "hibernate.connection.pool_timeout";
+	// in TimeUnit.MILLISECONDS, 0 to never retire idle connections
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.MILLISECONDS, 0 to keep connections indefinitely
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	// in TimeUnit.MILLISECONDS, 0 to disable leak detection
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -97,6 +117,10 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.connectionTimeout( ConfigurationHelper.getLong( CONNECTION_TIMEOUT, configurationValues, 30_000 ) );
+		pooledConnectionBuilder.idleTimeout( ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 0 ) );
+		pooledConnectionBuilder.maxLifetime( ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 0 ) );
+		pooledConnectionBuilder.leakDetectionThreshold( ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 ) );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -292,7 +316,24 @@ public class DriverManagerConnectionProviderImpl
 	}
 
 	protected int getOpenConnections() {
-		return state.pool.allConnections.size() - state.pool.availableConnections.size();
+		return state.pool.getActiveCount();
+	}
+
+	/**
+	 * The connection pool, exposed to allow the collection of its metrics.
+	 */
+	public PooledConnections getPooledConnections() {
+		if ( state == null ) {
+			throw new IllegalStateException( "The driver manager is not properly initialized" );
+		}
+		return state.pool;
+	}
+
+	/**
+	 * Whether the connection pool is not configured yet, or has been stopped.
+	 */
+	public boolean isStopped() {
+		return state == null || state.stopped;
 	}
 
 	protected void validateConnectionsReturned() {
@@ -340,16 +381,57 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
+	/**
+	 * The connections of the pool.
+	 * <p>
+	 * Each connection is tracked by an entry which is claimed by atomically switching its state, so
+	 * that no lock is taken to obtain a connection:
+	 * <ol>
+	 * <li>the connection last obtained by the current thread is tried first,
+	 * <li>then the other connections of the pool are scanned for an available one,
+	 * <li>then a new connection is opened if the pool has not reached its maximum size,
+	 * <li>and otherwise the thread waits, in arrival order, for a connection to be handed off by a
+	 *     thread returning one, until the connection timeout elapses.
+	 * </ol>
+	 * The periodic {@link #validate()} retires connections which outlived their maximum lifetime or
+	 * stayed idle for longer than the idle timeout, and reports connections held for longer than the
+	 * leak detection threshold.
+	 */
 	public static class PooledConnections {
 
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private static final int NOT_IN_USE = 0;
+		private static final int IN_USE = 1;
+		private static final int RESERVED = -1;
+		private static final int REMOVED = -2;
+
+		/**
+		 * The longest a waiting thread sleeps before looking for a connection again,
+		 * so that it notices connections which were retired and may be replaced
+		 */
+		private static final long MAX_HANDOFF_WAIT = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+		private final CopyOnWriteArrayList<PooledConnection> allConnections = new CopyOnWriteArrayList<>();
+		private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>( true );
+		private final ThreadLocal<PooledConnection> lastUsedConnection = new ThreadLocal<>();
+		// includes the connections being opened
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicInteger waiters = new AtomicInteger();
+
+		private final LongAdder acquiredCount = new LongAdder();
+		private final LongAdder acquisitionTime = new LongAdder();
+		private final LongAdder timeoutCount = new LongAdder();
+		private final LongAdder createdCount = new LongAdder();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		// in TimeUnit.NANOSECONDS
+		private final long connectionTimeout;
+		private final long idleTimeout;
+		private final long maxLifetime;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -363,11 +445,18 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			connectionTimeout = TimeUnit.MILLISECONDS.toNanos( builder.connectionTimeout );
+			idleTimeout = TimeUnit.MILLISECONDS.toNanos( builder.idleTimeout );
+			maxLifetime = TimeUnit.MILLISECONDS.toNanos( builder.maxLifetime );
+			leakDetectionThreshold = TimeUnit.MILLISECONDS.toNanos( builder.leakDetectionThreshold );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			retireConnections();
+			detectLeaks();
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -389,10 +478,59 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		private void retireConnections() {
+			final long now = System.nanoTime();
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( pooledConnection.isExpired( now, maxLifetime ) ) {
+					if ( pooledConnection.reserve() ) {
+						CONNECTIONS_LOGGER.debug( "Retiring pooled connection which reached its maximum lifetime" );
+						closeConnection( pooledConnection, null );
+					}
+				}
+				else if ( idleTimeout > 0
+						&& now - pooledConnection.lastAccessed > idleTimeout
+						&& size() > minSize
+						&& pooledConnection.reserve() ) {
+					CONNECTIONS_LOGGER.debug( "Retiring pooled connection which exceeded the idle timeout" );
+					closeConnection( pooledConnection, null );
+				}
+			}
+		}
+
+		private void detectLeaks() {
+			if ( leakDetectionThreshold > 0 ) {
+				final long now = System.nanoTime();
+				for ( PooledConnection pooledConnection : allConnections ) {
+					final Exception acquisition = pooledConnection.acquisition;
+					if ( acquisition != null
+							&& pooledConnection.state == IN_USE
+							&& now - pooledConnection.lastBorrowed > leakDetectionThreshold ) {
+						// report each leak only once
+						pooledConnection.acquisition = null;
+						CONNECTIONS_LOGGER.warnf(
+								acquisition,
+								"Connection leak detected: a connection was acquired more than %sms ago and has not been returned to the pool %s",
+								TimeUnit.NANOSECONDS.toMillis( leakDetectionThreshold ),
+								getUrl()
+						);
+					}
+				}
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
+			final PooledConnection pooledConnection = find( conn );
+			if ( pooledConnection == null ) {
+				// the connection was released from the pool while in use
+				closeConnection( conn, null );
+				return;
+			}
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
-				availableConnections.offer( connection );
+				requite( pooledConnection );
+			}
+			else {
+				fillIfWaiting();
 			}
 		}
 
@@ -414,22 +552,155 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
+			final long start = System.nanoTime();
+			while ( true ) {
+				final PooledConnection pooledConnection = borrow( start );
+				if ( pooledConnection.isExpired( System.nanoTime(), maxLifetime ) ) {
+					closeConnection( pooledConnection, null );
+					continue;
+				}
+				final Connection connection = prepareConnection( pooledConnection.connection );
+				if ( connection != null ) {
+					pooledConnection.borrowed( leakDetectionThreshold > 0 );
+					lastUsedConnection.set( pooledConnection );
+					acquiredCount.increment();
+					acquisitionTime.add( System.nanoTime() - start );
+					return connection;
+				}
+			}
+		}
+
+		private PooledConnection borrow(long start) {
+			PooledConnection pooledConnection = claim();
+			if ( pooledConnection == null ) {
+				pooledConnection = grow();
+				if ( pooledConnection == null ) {
+					pooledConnection = await( start );
+				}
+			}
+			return pooledConnection;
+		}
+
+		private PooledConnection claim() {
+			final PooledConnection lastUsed = lastUsedConnection.get();
+			if ( lastUsed != null && lastUsed.claim() ) {
+				return lastUsed;
+			}
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( pooledConnection.claim() ) {
+					return pooledConnection;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Opens a new connection, unless the pool has reached its maximum size.
+		 *
+		 * @return the new connection, already claimed, or {@code null}
+		 */
+		private PooledConnection grow() {
+			int current;
 			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
+				current = size.get();
+				if ( current >= maxSize ) {
+					return null;
+				}
+			} while ( !size.compareAndSet( current, current + 1 ) );
+
+			final Connection connection;
+			try {
+				connection = connectionCreator.createConnection();
+			}
+			catch (RuntimeException e) {
+				size.decrementAndGet();
+				throw e;
+			}
+			final PooledConnection pooledConnection = new PooledConnection( connection );
+			allConnections.add( pooledConnection );
+			createdCount.increment();
+			return pooledConnection;
+		}
+
+		private PooledConnection await(long start) {
+			waiters.incrementAndGet();
+			try {
+				long remaining = connectionTimeout - ( System.nanoTime() - start );
+				while ( remaining > 0 ) {
+					// a connection might have been returned or retired since we last looked
+					PooledConnection pooledConnection = claim();
+					if ( pooledConnection == null ) {
+						pooledConnection = grow();
+					}
+					if ( pooledConnection == null ) {
+						pooledConnection = handoffQueue.poll( Math.min( remaining, MAX_HANDOFF_WAIT ), TimeUnit.NANOSECONDS );
+						if ( pooledConnection != null && !pooledConnection.claim() ) {
+							pooledConnection = null;
 						}
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+					if ( pooledConnection != null ) {
+						return pooledConnection;
+					}
+					remaining = connectionTimeout - ( System.nanoTime() - start );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			finally {
+				waiters.decrementAndGet();
+			}
+			timeoutCount.increment();
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection became available within "
+							+ TimeUnit.NANOSECONDS.toMillis( connectionTimeout ) + "ms"
+			);
+		}
+
+		/**
+		 * Makes the connection available again, handing it off directly to a waiting thread, if any.
+		 */
+		private void requite(PooledConnection pooledConnection) {
+			pooledConnection.release();
+			for ( int i = 0; waiters.get() > 0; i++ ) {
+				if ( pooledConnection.state != NOT_IN_USE || handoffQueue.offer( pooledConnection ) ) {
+					return;
+				}
+				else if ( ( i & 0xff ) == 0xff ) {
+					LockSupport.parkNanos( TimeUnit.MICROSECONDS.toNanos( 10 ) );
+				}
+				else {
+					Thread.yield();
+				}
+			}
+		}
+
+		private void fillIfWaiting() {
+			if ( waiters.get() > 0 ) {
+				try {
+					final PooledConnection pooledConnection = grow();
+					if ( pooledConnection != null ) {
+						requite( pooledConnection );
+					}
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+				catch (RuntimeException e) {
+					CONNECTIONS_LOGGER.debug( "Unable to replace a connection for a waiting thread", e );
+				}
+			}
+		}
+
+		private PooledConnection find(Connection conn) {
+			final PooledConnection lastUsed = lastUsedConnection.get();
+			if ( lastUsed != null && lastUsed.connection == conn && lastUsed.state != REMOVED ) {
+				return lastUsed;
+			}
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( pooledConnection.connection == conn ) {
+					return pooledConnection;
+				}
+			}
+			return null;
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -449,6 +720,28 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		protected void closeConnection(Connection conn, Throwable t) {
+			final PooledConnection pooledConnection = find( conn );
+			if ( pooledConnection != null ) {
+				closeConnection( pooledConnection, t );
+			}
+			else {
+				closeQuietly( conn, t );
+			}
+		}
+
+		private void closeConnection(PooledConnection pooledConnection, Throwable t) {
+			if ( pooledConnection.remove() ) {
+				try {
+					closeQuietly( pooledConnection.connection, t );
+				}
+				finally {
+					allConnections.remove( pooledConnection );
+					size.decrementAndGet();
+				}
+			}
+		}
+
+		private static void closeQuietly(Connection conn, Throwable t) {
 			try {
 				conn.close();
 			}
@@ -458,14 +751,11 @@ public class DriverManagerConnectionProviderImpl
 					t.addSuppressed( ex );
 				}
 			}
-			finally {
-				allConnections.remove( conn );
-			}
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = getActiveCount();
 				if (allocationCount > 0) {
 					CONNECTIONS_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
@@ -476,24 +766,98 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public int size() {
-			return allConnections.size();
+			return size.get();
+		}
+
+		/**
+		 * @return the number of connections currently obtained from the pool
+		 */
+		public int getActiveCount() {
+			int count = 0;
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( pooledConnection.state == IN_USE ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * @return the number of connections currently available in the pool
+		 */
+		public int getIdleCount() {
+			int count = 0;
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( pooledConnection.state == NOT_IN_USE ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * @return the number of threads currently waiting for a connection
+		 */
+		public int getPendingCount() {
+			return waiters.get();
+		}
+
+		public int getMinSize() {
+			return minSize;
+		}
+
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		/**
+		 * @return the number of connections obtained from the pool
+		 */
+		public long getAcquiredCount() {
+			return acquiredCount.sum();
+		}
+
+		/**
+		 * @return the total time spent obtaining connections from the pool, in nanoseconds
+		 */
+		public long getAcquisitionTime() {
+			return acquisitionTime.sum();
+		}
+
+		/**
+		 * @return the number of attempts to obtain a connection which timed out
+		 */
+		public long getTimeoutCount() {
+			return timeoutCount.sum();
+		}
+
+		/**
+		 * @return the number of connections opened by the pool
+		 */
+		public long getCreatedCount() {
+			return createdCount.sum();
 		}
 
 		protected void removeConnections(int numberToBeRemoved) {
-			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				final Connection connection = availableConnections.poll();
-				if ( connection == null ) {
+			int removed = 0;
+			for ( PooledConnection pooledConnection : allConnections ) {
+				if ( removed >= numberToBeRemoved ) {
 					break;
 				}
-				closeConnection( connection, null );
+				if ( pooledConnection.reserve() ) {
+					closeConnection( pooledConnection, null );
+					removed++;
+				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				final PooledConnection pooledConnection = grow();
+				if ( pooledConnection == null ) {
+					break;
+				}
+				requite( pooledConnection );
 			}
 		}
 
@@ -503,8 +867,55 @@ public class DriverManagerConnectionProviderImpl
 
 		@Internal
 		public void releasePooledConnections() {
-			for ( Connection connection : allConnections ) {
-				closeConnection( connection, null );
+			for ( PooledConnection pooledConnection : allConnections ) {
+				closeConnection( pooledConnection, null );
+			}
+		}
+
+		private static final class PooledConnection {
+			private static final AtomicIntegerFieldUpdater<PooledConnection> STATE =
+					AtomicIntegerFieldUpdater.newUpdater( PooledConnection.class, "state" );
+
+			private final Connection connection;
+			private final long created;
+
+			private volatile int state = IN_USE;
+			private volatile long lastAccessed;
+			private volatile long lastBorrowed;
+			// the stack trace of the acquisition, when leak detection is enabled
+			private volatile Exception acquisition;
+
+			private PooledConnection(Connection connection) {
+				this.connection = connection;
+				this.created = System.nanoTime();
+				this.lastAccessed = created;
+			}
+
+			private boolean claim() {
+				return STATE.compareAndSet( this, NOT_IN_USE, IN_USE );
+			}
+
+			private boolean reserve() {
+				return STATE.compareAndSet( this, NOT_IN_USE, RESERVED );
+			}
+
+			private boolean remove() {
+				return STATE.getAndSet( this, REMOVED ) != REMOVED;
+			}
+
+			private void borrowed(boolean trackAcquisition) {
+				lastBorrowed = System.nanoTime();
+				acquisition = trackAcquisition ? new Exception( "Connection acquisition" ) : null;
+			}
+
+			private void release() {
+				acquisition = null;
+				lastAccessed = System.nanoTime();
+				state = NOT_IN_USE;
+			}
+
+			private boolean isExpired(long now, long maxLifetime) {
+				return maxLifetime > 0 && now - created > maxLifetime;
 			}
 		}
 
@@ -515,6 +926,10 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long connectionTimeout = 30_000;
+			private long idleTimeout;
+			private long maxLifetime;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -536,6 +951,41 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param connectionTimeout how long to wait for a connection, in milliseconds
+			 */
+			public Builder connectionTimeout(long connectionTimeout) {
+				this.connectionTimeout = connectionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout how long a connection may stay unused before it is retired,
+			 * in milliseconds, or {@code 0} to never retire idle connections
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxLifetime how long a connection is kept after it was opened, in milliseconds,
+			 * or {@code 0} to keep connections indefinitely
+			 */
+			public Builder maxLifetime(long maxLifetime) {
+				this.maxLifetime = maxLifetime;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold how long a connection may be held before it is reported
+			 * as a possible leak, in milliseconds, or {@code 0} to disable leak detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
@@ -552,6 +1002,7 @@ public class DriverManagerConnectionProviderImpl
 		//Protecting any lifecycle state change:
 		private final ReadWriteLock statelock = new ReentrantReadWriteLock();
 		private volatile boolean active = false;
+		private volatile boolean stopped = false;
 		private ScheduledExecutorService executorService;
 
 		private final PooledConnections pool;
@@ -571,6 +1022,7 @@ public class DriverManagerConnectionProviderImpl
 				if ( active ) {
 					return;
 				}
+				stopped = false;
 				executorService = Executors.newSingleThreadScheduledExecutor( new ValidationThreadFactory() );
 				executorService.scheduleWithFixedDelay(
 						this,
@@ -595,6 +1047,7 @@ public class DriverManagerConnectionProviderImpl
 		public void stop() {
 			statelock.writeLock().lock();
 			try {
+				stopped = true;
 				if ( !active ) {
 					return;
 				}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * The idle {@link PreparedStatement}s of a physical JDBC connection, keyed by SQL and
+ * result set type, the least recently used statement being closed when the maximum
+ * size is exceeded.
+ * <p>
+ * A statement is removed from the cache while in use, and put back when released, after
+ * having been reset. This class is not thread-safe, as a connection is only ever used by
+ * one session at a time.
+ *
+ * @see PreparedStatementCache
+ */
+class ConnectionStatementCache {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ConnectionStatementCache.class );
+
+	/**
+	 * The result set type of statements prepared without specifying one
+	 */
+	static final int DEFAULT_RESULT_SET_TYPE = -1;
+
+	private final Connection connection;
+	private final LinkedHashMap<StatementKey, CachedStatement> idleStatements;
+
+	ConnectionStatementCache(Connection connection, int maximumSize) {
+		this.connection = connection;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+				if ( size() > maximumSize ) {
+					close( eldest.getValue().statement );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Take the idle statement for the given SQL and result set type, or prepare a new one
+	 */
+	CachedStatement prepareStatement(String sql, int resultSetType) throws SQLException {
+		final StatementKey key = new StatementKey( sql, resultSetType );
+		final CachedStatement idle = idleStatements.remove( key );
+		if ( idle != null && !idle.statement.isClosed() ) {
+			return idle;
+		}
+
+		final PreparedStatement statement = resultSetType == DEFAULT_RESULT_SET_TYPE
+				? connection.prepareStatement( sql )
+				: connection.prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		return new CachedStatement( this, key, statement );
+	}
+
+	/**
+	 * Put the given statement, which is not in use anymore, back into the cache,
+	 * unless it cannot be reset, or there already is an idle statement for its SQL
+	 */
+	void release(CachedStatement cached) {
+		if ( reset( cached ) && !idleStatements.containsKey( cached.key ) ) {
+			idleStatements.put( cached.key, cached );
+		}
+		else {
+			close( cached.statement );
+		}
+	}
+
+	private static boolean reset(CachedStatement cached) {
+		final PreparedStatement statement = cached.statement;
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cached.fetchSize ) {
+				statement.setFetchSize( cached.fetchSize );
+			}
+			if ( statement.getFetchDirection() != cached.fetchDirection ) {
+				statement.setFetchDirection( cached.fetchDirection );
+			}
+			if ( statement.isPoolable() != cached.poolable ) {
+				statement.setPoolable( cached.poolable );
+			}
+			// closeOnCompletion() can't be undone
+			return !statement.isCloseOnCompletion();
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	void close() {
+		idleStatements.values().forEach( cached -> close( cached.statement ) );
+		idleStatements.clear();
+	}
+
+	static final class StatementKey {
+		private final String sql;
+		private final int resultSetType;
+
+		StatementKey(String sql, int resultSetType) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof StatementKey ) ) {
+				return false;
+			}
+			final StatementKey that = (StatementKey) o;
+			return resultSetType == that.resultSetType && sql.equals( that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + resultSetType;
+		}
+	}
+
+	/**
+	 * A statement of the cache, with the state needed to reset it
+	 */
+	static final class CachedStatement {
+		final ConnectionStatementCache cache;
+		final StatementKey key;
+		final PreparedStatement statement;
+		final int fetchSize;
+		final int fetchDirection;
+		final boolean poolable;
+
+		private CachedStatement(ConnectionStatementCache cache, StatementKey key, PreparedStatement statement)
+				throws SQLException {
+			this.cache = cache;
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = statement.getFetchSize();
+			this.fetchDirection = statement.getFetchDirection();
+			this.poolable = statement.isPoolable();
+		}
+	}
+}
@@ -10,17 +10,22 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.IdentityHashMap;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchImpl;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.internal.ConnectionStatementCache.CachedStatement;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -30,6 +35,7 @@ import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -43,6 +49,7 @@ import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
+import static org.hibernate.engine.jdbc.internal.ConnectionStatementCache.DEFAULT_RESULT_SET_TYPE;
 
 /**
  * Standard implementation of {@link JdbcCoordinator}.
@@ -65,6 +72,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private Statement lastQuery;
 	private final boolean isUserSuppliedConnection;
+	private final transient PreparedStatementCache statementCache;
+	// The statement cache of the physical connection last used
+	private transient Connection cachedConnection;
+	private transient ConnectionStatementCache connectionStatementCache;
+	// The cached statements currently in use by this session
+	private transient IdentityHashMap<Statement, CachedStatement> cachedStatementsInUse;
 
 	/**
 	 * If true, manually (and temporarily) circumvent aggressive release processing.
@@ -81,16 +94,20 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcSessionOwner owner,
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
+		this.statementCache = resolveStatementCache( owner );
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				statementCache == null ? null : this::releaseCachedStatement
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
 		else {
 			this.logicalConnection = new LogicalConnectionManagedImpl(
-					owner.getJdbcConnectionAccess(),
+					statementCache == null
+							? owner.getJdbcConnectionAccess()
+							: new StatementCacheConnectionAccess( owner.getJdbcConnectionAccess() ),
 					owner.getJdbcSessionContext(),
 					resourceRegistry,
 					jdbcServices
@@ -108,6 +125,94 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		// the deserialized logical connection does not give statements back to the cache
+		this.statementCache = null;
+	}
+
+	private static PreparedStatementCache resolveStatementCache(JdbcSessionOwner owner) {
+		final SessionFactoryImplementor factory = owner.getJdbcSessionContext().getSessionFactory();
+		return factory == null || factory.getFastSessionServices() == null
+				? null
+				: factory.getFastSessionServices().preparedStatementCache;
+	}
+
+	/**
+	 * Prepare a statement which is not callable, taking it from the statement cache, if any
+	 *
+	 * @param resultSetType The result set type, or {@link ConnectionStatementCache#DEFAULT_RESULT_SET_TYPE}
+	 */
+	PreparedStatement prepareCacheableStatement(String sql, int resultSetType) throws SQLException {
+		final Connection connection = logicalConnection.getPhysicalConnection();
+		if ( statementCache == null ) {
+			return resultSetType == DEFAULT_RESULT_SET_TYPE
+					? connection.prepareStatement( sql )
+					: connection.prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		}
+
+		if ( connection != cachedConnection || connectionStatementCache == null ) {
+			connectionStatementCache = statementCache.getConnectionCache( connection );
+			cachedConnection = connection;
+		}
+		final CachedStatement cached = connectionStatementCache.prepareStatement( sql, resultSetType );
+		if ( cachedStatementsInUse == null ) {
+			cachedStatementsInUse = new IdentityHashMap<>();
+		}
+		cachedStatementsInUse.put( cached.statement, cached );
+		return cached.statement;
+	}
+
+	/**
+	 * Put the given statement back into the statement cache, if it was taken from it.
+	 *
+	 * @return {@code true} if the statement was taken from the cache, and must not be closed
+	 */
+	private boolean releaseCachedStatement(Statement statement) {
+		if ( cachedStatementsInUse == null ) {
+			return false;
+		}
+		final CachedStatement cached = cachedStatementsInUse.remove( statement );
+		if ( cached == null ) {
+			return false;
+		}
+		cached.cache.release( cached );
+		return true;
+	}
+
+	/**
+	 * Forget the statement cache of the connection which is about to be given back to
+	 * the pool, so that it is checked again for the next connection obtained from the pool
+	 */
+	private void forgetConnectionStatementCache() {
+		connectionStatementCache = null;
+		cachedConnection = null;
+	}
+
+	/**
+	 * Forgets the statement cache of a connection when giving the connection back to the pool.
+	 * The cache itself is kept, for the next session given the same physical connection.
+	 */
+	private class StatementCacheConnectionAccess implements JdbcConnectionAccess {
+		private final JdbcConnectionAccess delegate;
+
+		private StatementCacheConnectionAccess(JdbcConnectionAccess delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Connection obtainConnection() throws SQLException {
+			return delegate.obtainConnection();
+		}
+
+		@Override
+		public void releaseConnection(Connection connection) throws SQLException {
+			forgetConnectionStatementCache();
+			delegate.releaseConnection( connection );
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return delegate.supportsAggressiveRelease();
+		}
 	}
 
 	@Override
@@ -212,10 +317,21 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * The connection must not be used for other statements while
+	 * a pipelined batch is still being executed in the background
+	 */
+	private void awaitPipelinedBatch() {
+		if ( currentBatch instanceof BatchImpl ) {
+			( (BatchImpl) currentBatch ).awaitPipelinedExecution();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
 	public StatementPreparer getStatementPreparer() {
+		awaitPipelinedBatch();
 		if ( statementPreparer == null ) {
 			statementPreparer = new StatementPreparerImpl( this, jdbcServices );
 		}
@@ -226,6 +342,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public MutationStatementPreparer getMutationStatementPreparer() {
+		awaitPipelinedBatch();
 		if ( mutationStatementPreparer == null ) {
 			mutationStatementPreparer = new MutationStatementPreparerImpl( this, jdbcServices );
 		}
@@ -236,6 +353,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public ResultSetReturn getResultSetReturn() {
+		awaitPipelinedBatch();
 		if ( resultSetExtractor == null ) {
 			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices );
 		}
@@ -298,6 +416,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPipelinedBatch();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
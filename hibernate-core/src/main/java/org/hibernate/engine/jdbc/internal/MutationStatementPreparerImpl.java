@@ -18,6 +18,8 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
+import static org.hibernate.engine.jdbc.internal.ConnectionStatementCache.DEFAULT_RESULT_SET_TYPE;
+
 /**
  * @author Steve Ebersole
  */
@@ -42,7 +44,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				//noinspection resource
 				return isCallable
 						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+						: jdbcCoordinator.prepareCacheableStatement( sql, DEFAULT_RESULT_SET_TYPE );
 			}
 		};
 	}
@@ -96,7 +98,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 						.getJdbcSessionContext()
 						.getObserver();
 				try {
-					observer.jdbcPrepareStatementStart();
+					observer.jdbcPrepareStatementStart( sql );
 					preparedStatement = doPrepare();
 					setStatementTimeout( preparedStatement );
 				}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Cache of {@link java.sql.PreparedStatement}s, shared by the sessions of a session factory,
+ * and holding a bounded {@link ConnectionStatementCache} per physical JDBC connection.
+ * <p>
+ * A physical connection is only ever used by one session at a time, which the connection
+ * pool guarantees, so that the statements of a connection are reused by whichever session
+ * holds it, without any locking. The cache of a connection is kept when the connection is
+ * given back to the pool, and dropped once the connection is found closed or invalid, when
+ * a session checks it out again, or when another physical connection shows up.
+ * <p>
+ * The statements are prepared on the physical connection {@linkplain Connection#unwrap
+ * unwrapped} from the connection handed out by the pool, since pools usually close the
+ * statements prepared through their wrapper when the connection is given back. So the
+ * preparation of a cached statement bypasses the pool, and any instrumentation of its
+ * wrapper, such as statement tracking or leak detection.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ */
+public class PreparedStatementCache {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maximumSize;
+	private final ConcurrentMap<Connection, ConnectionStatementCache> connectionCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maximumSize The maximum number of statements cached per connection
+	 */
+	public PreparedStatementCache(int maximumSize) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Statement cache size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * The maximum number of statements cached per connection
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The cache of the physical connection underlying the given connection, which must be
+	 * held by the calling session for as long as it uses the returned cache.
+	 */
+	ConnectionStatementCache getConnectionCache(Connection connection) {
+		final Connection physicalConnection = unwrap( connection );
+		final ConnectionStatementCache existing = connectionCaches.get( physicalConnection );
+		if ( existing != null ) {
+			if ( isValid( physicalConnection ) ) {
+				return existing;
+			}
+			connectionCaches.remove( physicalConnection, existing );
+			existing.close();
+		}
+		else {
+			// a new physical connection might replace some which the pool closed
+			evictClosedConnections();
+		}
+
+		final ConnectionStatementCache created = new ConnectionStatementCache( physicalConnection, maximumSize );
+		final ConnectionStatementCache previous = connectionCaches.putIfAbsent( physicalConnection, created );
+		return previous == null ? created : previous;
+	}
+
+	/**
+	 * Forget the caches of the connections which were closed, whose statements were closed
+	 * along with them. These caches are not closed here, as they might still be held by a
+	 * session.
+	 */
+	private void evictClosedConnections() {
+		connectionCaches.keySet().removeIf( physicalConnection -> !isValid( physicalConnection ) );
+	}
+
+	private static boolean isValid(Connection physicalConnection) {
+		try {
+			return !physicalConnection.isClosed();
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debugf( "Unable to check whether JDBC connection is closed [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	/**
+	 * Unwrap the connection provided by the connection pool, if it is a wrapper, so that
+	 * the statements are not closed by the pool when the connection is returned to it,
+	 * and are reused by the next session given the same physical connection.
+	 */
+	private static Connection unwrap(Connection connection) {
+		try {
+			final Connection unwrapped = connection.unwrap( Connection.class );
+			return unwrapped == null ? connection : unwrapped;
+		}
+		catch (SQLException | RuntimeException e) {
+			LOG.debugf( "Unable to unwrap JDBC connection [%s]", e.getMessage() );
+			return connection;
+		}
+	}
+
+	/**
+	 * Close the cached statements of all connections, once none of them is in use anymore
+	 */
+	public void close() {
+		connectionCaches.values().forEach( ConnectionStatementCache::close );
+		connectionCaches.clear();
+	}
+}
@@ -79,7 +79,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		try {
 			final ResultSet rs;
 			try {
-				jdbcExecuteStatementStart();
+				jdbcExecuteStatementStart( sql );
 				rs = statement.executeQuery();
 			}
 			finally {
@@ -106,6 +106,10 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
 	}
 
+	private void jdbcExecuteStatementStart(String sql) {
+		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart( sql );
+	}
+
 	@Override
 	public ResultSet extract(CallableStatement callableStatement) {
 		// IMPL NOTE : SQL logged by caller
@@ -141,7 +145,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		try {
 			final ResultSet rs;
 			try {
-				jdbcExecuteStatementStart();
+				jdbcExecuteStatementStart( sql );
 				rs = statement.executeQuery( sql );
 			}
 			finally {
@@ -196,7 +200,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		try {
 			final ResultSet rs;
 			try {
-				jdbcExecuteStatementStart();
+				jdbcExecuteStatementStart( sql );
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -226,7 +230,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		try {
 			final ResultSet rs;
 			try {
-				jdbcExecuteStatementStart();
+				jdbcExecuteStatementStart( sql );
 				if ( !statement.execute( sql ) ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -276,7 +280,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
-			jdbcExecuteStatementStart();
+			jdbcExecuteStatementStart( sql );
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
@@ -296,7 +300,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
-			jdbcExecuteStatementStart();
+			jdbcExecuteStatementStart( sql );
 			return statement.executeUpdate( sql );
 		}
 		catch (SQLException e) {
@@ -21,6 +21,8 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
+import static org.hibernate.engine.jdbc.internal.ConnectionStatementCache.DEFAULT_RESULT_SET_TYPE;
+
 /**
  * Standard implementation of {@link StatementPreparer}.
  *
@@ -88,7 +90,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
 						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+						: jdbcCoordinator.prepareCacheableStatement( sql, DEFAULT_RESULT_SET_TYPE );
 			}
 		};
 	}
@@ -136,7 +138,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
-								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
+								: jdbcCoordinator.prepareCacheableStatement( sql, scrollMode.toResultSetType() );
 				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
@@ -147,7 +149,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
-								: connection().prepareStatement( sql );
+								: jdbcCoordinator.prepareCacheableStatement( sql, DEFAULT_RESULT_SET_TYPE );
 				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
@@ -173,7 +175,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
 				try {
-					observer.jdbcPrepareStatementStart();
+					observer.jdbcPrepareStatementStart( sql );
 					preparedStatement = doPrepare();
 					setStatementTimeout( preparedStatement );
 				}
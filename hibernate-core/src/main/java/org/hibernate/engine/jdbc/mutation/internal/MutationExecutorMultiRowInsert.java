@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcMultiRowInsertMutation;
+
+/**
+ * Batched insertion whose batch is executed as
+ * {@linkplain JdbcMultiRowInsertMutation multi-row statements}
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch
+ */
+public class MutationExecutorMultiRowInsert extends MutationExecutorSingleBatched {
+	private final SharedSessionContractImplementor session;
+
+	public MutationExecutorMultiRowInsert(
+			JdbcMultiRowInsertMutation mutationOperation,
+			BatchKey batchKey,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		super( mutationOperation, batchKey, batchSize, session );
+		this.session = session;
+	}
+
+	@Override
+	protected JdbcMultiRowInsertMutation getMutationOperation() {
+		return (JdbcMultiRowInsertMutation) super.getMutationOperation();
+	}
+
+	@Override
+	protected PreparedStatementGroupSingleTable createStatementGroup() {
+		return new PreparedStatementGroupMultiRowInsert( getMutationOperation(), session );
+	}
+}
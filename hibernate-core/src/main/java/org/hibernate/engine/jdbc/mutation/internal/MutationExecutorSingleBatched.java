@@ -47,7 +47,7 @@ public class MutationExecutorSingleBatched extends AbstractSingleMutationExecuto
 			batch = session.getJdbcCoordinator().getBatch(
 					batchKey,
 					batchSize,
-					() -> new PreparedStatementGroupSingleTable( getMutationOperation(), session )
+					this::createStatementGroup
 			);
 			assert batch != null;
 		}
@@ -55,6 +55,10 @@ public class MutationExecutorSingleBatched extends AbstractSingleMutationExecuto
 		return batch;
 	}
 
+	protected PreparedStatementGroupSingleTable createStatementGroup() {
+		return new PreparedStatementGroupSingleTable( getMutationOperation(), session );
+	}
+
 	@Override
 	protected void performBatchedOperations(ValuesAnalysis valuesAnalysis, TableInclusionChecker inclusionChecker) {
 		resolveBatch().addToBatch( getJdbcValueBindings(), inclusionChecker );
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcMultiRowInsertMutation;
+
+/**
+ * PreparedStatementGroup for a {@link JdbcMultiRowInsertMutation}, telling the
+ * {@link org.hibernate.engine.jdbc.batch.spi.BatchBuilder} that the batch may
+ * be executed as multi-row statements.
+ * <p>
+ * The statement of the group itself is the single-row statement, so that a batch
+ * which doesn't know about multi-row statements simply executes the rows one by one.
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch
+ */
+public class PreparedStatementGroupMultiRowInsert extends PreparedStatementGroupSingleTable {
+	private final JdbcMultiRowInsertMutation jdbcMutation;
+	private final SharedSessionContractImplementor session;
+
+	public PreparedStatementGroupMultiRowInsert(
+			JdbcMultiRowInsertMutation jdbcMutation,
+			SharedSessionContractImplementor session) {
+		super( jdbcMutation, session );
+		this.jdbcMutation = jdbcMutation;
+		this.session = session;
+	}
+
+	public JdbcMultiRowInsertMutation getMultiRowInsertMutation() {
+		return jdbcMutation;
+	}
+
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+}
@@ -21,6 +21,7 @@ import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.SelfExecutingUpdateOperation;
+import org.hibernate.sql.model.jdbc.JdbcMultiRowInsertMutation;
 
 /**
  * Standard MutationExecutorService implementation
@@ -75,6 +76,14 @@ public class StandardMutationExecutorService implements MutationExecutorService
 			final PreparableMutationOperation jdbcOperation = (PreparableMutationOperation) singleOperation;
 			final BatchKey batchKey = batchKeySupplier.getBatchKey();
 			if ( jdbcOperation.canBeBatched( batchKey, batchSizeToUse ) ) {
+				if ( jdbcOperation instanceof JdbcMultiRowInsertMutation ) {
+					return new MutationExecutorMultiRowInsert(
+							(JdbcMultiRowInsertMutation) jdbcOperation,
+							batchKey,
+							batchSizeToUse,
+							session
+					);
+				}
 				return new MutationExecutorSingleBatched( jdbcOperation, batchKey, batchSizeToUse, session );
 			}
 
@@ -10,14 +10,20 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -50,6 +56,7 @@ import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
@@ -495,8 +502,17 @@ public class ActionQueue {
 			throw new IllegalStateException( "About to execute actions, but there are unresolved entity insert actions." );
 		}
 
+		int batchCount = 0;
 		for ( OrderedActions action : ORDERED_OPERATIONS ) {
-			executeActions( action.getActions( this ) );
+			batchCount += executeActions( action.getActions( this ) );
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Executed actions in %s batches", batchCount );
+		}
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.flushBatches( batchCount );
 		}
 	}
 
@@ -617,35 +633,48 @@ public class ActionQueue {
 	 *
 	 * @param list The list of Executable elements to be performed
 	 *
+	 * @return The number of batches, that is, of runs of consecutive actions of the same
+	 * kind against the same entity or collection role, which were executed
 	 */
-	private <E extends ComparableExecutable> void executeActions(@Nullable ExecutableList<E> list)
+	private <E extends ComparableExecutable> int executeActions(@Nullable ExecutableList<E> list)
 			throws HibernateException {
 		if ( list == null || list.isEmpty() ) {
-			return;
+			return 0;
 		}
+		int batchCount = 0;
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
+			IdentityInsertGroup identityInserts = null;
+			ComparableExecutable previous = null;
 			for ( ComparableExecutable e : list ) {
-				try {
-					e.execute();
+				if ( !isSameBatch( previous, e ) ) {
+					batchCount++;
 				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+				previous = e;
+				if ( e instanceof EntityIdentityInsertAction
+						&& ( (EntityIdentityInsertAction) e ).isMultiRowInsertable() ) {
+					final EntityIdentityInsertAction insert = (EntityIdentityInsertAction) e;
+					if ( identityInserts == null ) {
+						identityInserts = new IdentityInsertGroup( session.getConfiguredJdbcBatchSize() );
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					else if ( !identityInserts.accepts( insert ) ) {
+						executeMultiRowInserts( identityInserts );
+					}
+					identityInserts.add( insert );
+				}
+				else {
+					executeMultiRowInserts( identityInserts );
+					try {
+						e.execute();
+					}
+					finally {
+						registerCompletionProcesses( e );
 					}
 				}
 			}
+			executeMultiRowInserts( identityInserts );
 		}
 		finally {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
@@ -660,6 +689,91 @@ public class ActionQueue {
 
 		list.clear();
 		session.getJdbcCoordinator().executeBatch();
+		return batchCount;
+	}
+
+	private static boolean isSameBatch(@Nullable ComparableExecutable previous, ComparableExecutable executable) {
+		return previous != null
+				&& previous.getClass() == executable.getClass()
+				&& previous.getPrimarySortClassifier().equals( executable.getPrimarySortClassifier() );
+	}
+
+	/**
+	 * Perform the insertions collected by the given group, using a single
+	 * multi-row insert statement, and clear the group.
+	 */
+	private void executeMultiRowInserts(@Nullable IdentityInsertGroup group) {
+		if ( group != null && !group.actions.isEmpty() ) {
+			final List<EntityIdentityInsertAction> inserts = group.actions;
+			try {
+				if ( inserts.size() == 1 ) {
+					inserts.get( 0 ).execute();
+				}
+				else {
+					EntityIdentityInsertAction.executeMultiple( inserts );
+				}
+			}
+			finally {
+				for ( int i = 0; i < inserts.size(); i++ ) {
+					registerCompletionProcesses( inserts.get( i ) );
+				}
+				group.clear();
+			}
+		}
+	}
+
+	private void registerCompletionProcesses(Executable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Consecutive delayed insertions of instances of the same entity type, with
+	 * natively generated identifiers, which may be performed by a single multi-row
+	 * insert statement.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static class IdentityInsertGroup {
+		private final int maxSize;
+		private final List<EntityIdentityInsertAction> actions = new ArrayList<>();
+		private final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		private IdentityInsertGroup(@Nullable Integer batchSize) {
+			this.maxSize = batchSize == null ? 1 : Math.max( batchSize, 1 );
+		}
+
+		/**
+		 * Can the given insertion be performed along with the insertions of this group?
+		 */
+		boolean accepts(EntityIdentityInsertAction action) {
+			return actions.isEmpty()
+					|| actions.size() < maxSize
+						&& actions.get( 0 ).getPersister() == action.getPersister()
+						// the inserted state can't reference an instance whose
+						// identifier is generated by the same statement
+						&& !action.referencesAny( instances );
+		}
+
+		void add(EntityIdentityInsertAction action) {
+			actions.add( action );
+			instances.add( action.getInstance() );
+		}
+
+		void clear() {
+			actions.clear();
+			instances.clear();
+		}
 	}
 
 	/**
@@ -1083,13 +1197,19 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
-	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * The algorithm first discovers the direct dependencies between the insert actions, and groups all inserts
+	 * by the entity name. The dependencies between the inserts induce a graph of dependencies between the groups,
+	 * whose strongly connected components are found using Tarjan's algorithm. The components are then scheduled in
+	 * topological order, preferring the component which appears first in the original order among those whose
+	 * dependencies are fulfilled, so that the whole sort is linear in the number of inserts and dependencies.
+	 * <p>
+	 * The inserts of a group which doesn't depend on itself are scheduled together, in their original order.
+	 * The inserts of the groups of a cyclic component, for example a self-referencing entity, or two entities
+	 * referencing each other, are scheduled in topological order, staying with the same group for as long as
+	 * there are inserts of that group whose dependencies are fulfilled, which keeps them in as few batches as
+	 * possible. Should the inserts themselves form a cycle, the unscheduled insert appearing first in the original
+	 * order is scheduled to break it; such an insert is not expected to violate a constraint, as the references to
+	 * transient entities are nullified when the insert action is created, and updated later in the flush.
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
 		/**
@@ -1099,13 +1219,14 @@ public class ActionQueue {
 
 		private static class InsertInfo {
 			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
+			// The index of the insert within the original order
+			private final int index;
+			private EntityInsertGroup group;
+			// Inserts in this list must be executed after this insert
+			private @Nullable List<InsertInfo> dependents;
+			// The number of inserts which must be executed before this insert, and are not yet scheduled
+			private int unscheduledDependencies;
+			private boolean scheduled;
 
 			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
 				this.insertAction = insertAction;
@@ -1120,35 +1241,17 @@ public class ActionQueue {
 				}
 			}
 
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
-						}
-						childDependency.transitiveIncomingDependencies.add( this );
-					}
-				}
-			}
-
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
-					}
-					visited.clear();
-				}
-			}
-
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
+			/**
+			 * Record that the given dependent insert must be executed after this insert
+			 */
+			private void addDependent(InsertInfo dependent) {
+				if ( dependent != this ) {
+					if ( dependents == null ) {
+						dependents = new ArrayList<>();
 					}
+					dependents.add( dependent );
+					dependent.unscheduledDependencies++;
+					group.addDependent( dependent.group );
 				}
 			}
 
@@ -1160,17 +1263,12 @@ public class ActionQueue {
 						if ( entityType.isOneToOne()
 								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
+								// Child dependency of an inverse one-to-one
+								addDependent( insertInfo );
 							}
 						}
 						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+							insertInfo.addDependent( this );
 						}
 					}
 				}
@@ -1190,10 +1288,7 @@ public class ActionQueue {
 							final Object element = elementsIterator.next();
 							final InsertInfo insertInfo = insertInfosByEntity.get( element );
 							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
+								addDependent( insertInfo );
 							}
 						}
 					}
@@ -1211,22 +1306,24 @@ public class ActionQueue {
 				}
 			}
 
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
+			/**
+			 * Mark this insert as scheduled, and release the inserts depending on it,
+			 * returning the ones of the given cyclic component which became schedulable
+			 * to the queue of their group.
+			 */
+			private void schedule(List<AbstractEntityInsertAction> insertions, @Nullable InsertGroupComponent component) {
+				scheduled = true;
+				insertions.add( insertAction );
+				if ( dependents != null ) {
+					for ( int i = 0; i < dependents.size(); i++ ) {
+						final InsertInfo dependent = dependents.get( i );
+						if ( --dependent.unscheduledDependencies == 0
+								&& !dependent.scheduled
+								&& dependent.group.component == component ) {
+							dependent.group.schedulable.add( dependent );
+						}
+					}
 				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
-			}
-
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
 			}
 
 			@Override
@@ -1250,129 +1347,90 @@ public class ActionQueue {
 			// A map of all insert infos keyed by the entity instance
 			// This is needed to discover insert infos for direct dependencies
 			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
+			// Group the insert infos into EntityInsertGroup keyed by entity name, in order of first appearance
+			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
+			for ( int i = 0; i < insertInfoCount; i++ ) {
+				final AbstractEntityInsertAction insertAction = insertions.get( i );
+				final InsertInfo insertInfo = new InsertInfo( insertAction, i );
+				insertInfosByEntity.put( insertAction.getInstance(), insertInfo );
 				insertInfos[i] = insertInfo;
+
+				final String entityName = insertAction.getPersister().getEntityName();
+				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get( entityName );
+				if ( entityInsertGroup == null ) {
+					entityInsertGroup = new EntityInsertGroup( entityName, insertInfosByEntityName.size() );
+					insertInfosByEntityName.put( entityName, entityInsertGroup );
+				}
+				entityInsertGroup.add( insertInfo );
 			}
-			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
+			// Then we must discover the direct dependencies, which also induce the dependencies between the groups
+			for ( int i = 0; i < insertInfoCount; i++ ) {
+				insertInfos[i].buildDirectDependencies( insertInfosByEntity );
 			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
+
+			final List<InsertGroupComponent> components = new TarjanComponentFinder().find( insertInfosByEntityName.values() );
+			for ( InsertGroupComponent component : components ) {
+				component.buildDependencies();
 			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
-					}
+
+			// Now we can schedule the components whose dependencies are all scheduled,
+			// starting with the one which appears first in the original order
+			final PriorityQueue<InsertGroupComponent> schedulableComponents = new PriorityQueue<>(
+					Math.max( 1, components.size() ),
+					Comparator.comparingInt( component -> component.index )
+			);
+			for ( InsertGroupComponent component : components ) {
+				if ( component.unscheduledDependencies == 0 ) {
+					schedulableComponents.add( component );
 				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
 			}
 			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
-			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
+			while ( !schedulableComponents.isEmpty() ) {
+				final InsertGroupComponent component = schedulableComponents.poll();
+				component.schedule( insertions );
+				for ( InsertGroupComponent dependent : component.dependents ) {
+					if ( --dependent.unscheduledDependencies == 0 ) {
+						schedulableComponents.add( dependent );
+					}
 				}
 			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
+			assert insertions.size() == insertInfoCount;
 		}
 
-		public static class EntityInsertGroup {
+		private static class EntityInsertGroup {
 			private final String entityName;
+			// The index of the group within the original order, by first appearance
+			private final int index;
 			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+			// Groups which must be executed after this group, at least in part
+			private final Set<EntityInsertGroup> dependents = new LinkedHashSet<>();
+			private boolean selfDependent;
+
+			// State of Tarjan's algorithm
+			private int tarjanIndex = -1;
+			private int lowLink;
+			private boolean onStack;
+			private InsertGroupComponent component;
 
-			public EntityInsertGroup(String entityName) {
+			// The inserts of a cyclic component whose dependencies are scheduled
+			private final Queue<InsertInfo> schedulable = new ArrayDeque<>();
+
+			public EntityInsertGroup(String entityName, int index) {
 				this.entityName = entityName;
+				this.index = index;
 			}
 
 			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
-					}
+				insertInfos.add( insertInfo );
+				insertInfo.group = this;
+			}
+
+			public void addDependent(EntityInsertGroup dependent) {
+				if ( dependent == this ) {
+					selfDependent = true;
+				}
+				else {
+					dependents.add( dependent );
 				}
 			}
 
@@ -1384,6 +1442,148 @@ public class ActionQueue {
 			}
 		}
 
+		/**
+		 * A strongly connected component of the graph of dependencies between the {@link EntityInsertGroup}s
+		 */
+		private static class InsertGroupComponent {
+			private final List<EntityInsertGroup> groups = new ArrayList<>();
+			// The smallest index of the groups of this component
+			private int index = Integer.MAX_VALUE;
+			private final Set<InsertGroupComponent> dependents = new HashSet<>();
+			private int unscheduledDependencies;
+
+			private void add(EntityInsertGroup group) {
+				groups.add( group );
+				group.component = this;
+				index = Math.min( index, group.index );
+			}
+
+			private boolean isCyclic() {
+				return groups.size() > 1 || groups.get( 0 ).selfDependent;
+			}
+
+			private void buildDependencies() {
+				for ( int i = 0; i < groups.size(); i++ ) {
+					for ( EntityInsertGroup dependent : groups.get( i ).dependents ) {
+						if ( dependent.component != this && dependents.add( dependent.component ) ) {
+							dependent.component.unscheduledDependencies++;
+						}
+					}
+				}
+			}
+
+			private void schedule(List<AbstractEntityInsertAction> insertions) {
+				if ( !isCyclic() ) {
+					final List<InsertInfo> insertInfos = groups.get( 0 ).insertInfos;
+					for ( int i = 0; i < insertInfos.size(); i++ ) {
+						insertInfos.get( i ).schedule( insertions, null );
+					}
+				}
+				else {
+					scheduleCyclic( insertions );
+				}
+			}
+
+			private void scheduleCyclic(List<AbstractEntityInsertAction> insertions) {
+				groups.sort( Comparator.comparingInt( group -> group.index ) );
+				// The inserts of this component in their original order, to break cycles of inserts
+				final List<InsertInfo> originalOrder = new ArrayList<>();
+				for ( int i = 0; i < groups.size(); i++ ) {
+					final EntityInsertGroup group = groups.get( i );
+					for ( int j = 0; j < group.insertInfos.size(); j++ ) {
+						final InsertInfo insertInfo = group.insertInfos.get( j );
+						// Dependencies on other components are already scheduled
+						if ( insertInfo.unscheduledDependencies == 0 ) {
+							group.schedulable.add( insertInfo );
+						}
+					}
+					originalOrder.addAll( group.insertInfos );
+				}
+				originalOrder.sort( Comparator.comparingInt( insertInfo -> insertInfo.index ) );
+				int unscheduledCount = originalOrder.size();
+
+				// Position of the next insert to consider for breaking a cycle of inserts
+				int cycleBreakingPosition = 0;
+				EntityInsertGroup current = null;
+				while ( unscheduledCount > 0 ) {
+					if ( current == null || current.schedulable.isEmpty() ) {
+						current = null;
+						for ( int i = 0; i < groups.size(); i++ ) {
+							if ( !groups.get( i ).schedulable.isEmpty() ) {
+								current = groups.get( i );
+								break;
+							}
+						}
+					}
+					if ( current == null ) {
+						// The inserts form a cycle, so schedule the remaining one appearing first in the original order
+						InsertInfo cycleBreaker;
+						do {
+							cycleBreaker = originalOrder.get( cycleBreakingPosition++ );
+						} while ( cycleBreaker.scheduled );
+						current = cycleBreaker.group;
+						current.schedulable.add( cycleBreaker );
+					}
+					final InsertInfo insertInfo = current.schedulable.remove();
+					if ( !insertInfo.scheduled ) {
+						insertInfo.schedule( insertions, this );
+						unscheduledCount--;
+					}
+				}
+				for ( int i = 0; i < groups.size(); i++ ) {
+					groups.get( i ).schedulable.clear();
+				}
+			}
+		}
+
+		/**
+		 * Tarjan's algorithm, finding the strongly connected components of the
+		 * graph of dependencies between the {@link EntityInsertGroup}s
+		 */
+		private static class TarjanComponentFinder {
+			private final List<InsertGroupComponent> components = new ArrayList<>();
+			private final Deque<EntityInsertGroup> stack = new ArrayDeque<>();
+			private int nextIndex;
+
+			private List<InsertGroupComponent> find(Collection<EntityInsertGroup> groups) {
+				for ( EntityInsertGroup group : groups ) {
+					if ( group.tarjanIndex < 0 ) {
+						visit( group );
+					}
+				}
+				return components;
+			}
+
+			private void visit(EntityInsertGroup group) {
+				group.tarjanIndex = nextIndex;
+				group.lowLink = nextIndex;
+				nextIndex++;
+				stack.push( group );
+				group.onStack = true;
+
+				for ( EntityInsertGroup dependent : group.dependents ) {
+					if ( dependent.tarjanIndex < 0 ) {
+						visit( dependent );
+						group.lowLink = Math.min( group.lowLink, dependent.lowLink );
+					}
+					else if ( dependent.onStack ) {
+						group.lowLink = Math.min( group.lowLink, dependent.tarjanIndex );
+					}
+				}
+
+				if ( group.lowLink == group.tarjanIndex ) {
+					final InsertGroupComponent component = new InsertGroupComponent();
+					EntityInsertGroup member;
+					do {
+						member = stack.pop();
+						member.onStack = false;
+						component.add( member );
+					} while ( member != group );
+					components.add( component );
+				}
+			}
+		}
+
 	}
 
 }
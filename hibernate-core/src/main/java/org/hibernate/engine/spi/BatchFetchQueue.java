@@ -23,6 +23,9 @@ import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.AbstractLazyInitializer;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 
 import org.jboss.logging.Logger;
 
@@ -65,6 +68,15 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Used to hold the observed use of the proxies which were initialized ahead of their first access, for
+	 * entities which are {@linkplain EntityPersister#isAdaptiveBatchLoadable() adaptively batch loadable}.
+	 * <p>
+	 * Unlike the keys, the observations are kept when the queue is cleared, since they describe how the
+	 * session uses its entities.
+	 */
+	private @Nullable Map<String, AdaptiveBatchSize> adaptiveBatchSizes;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -213,6 +225,15 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		if ( isAdaptive( entityDescriptor, loadingId ) ) {
+			final int batchSize = adaptiveBatchSize( entityDescriptor, set, domainBatchSize );
+			collectAdaptiveBatch( batchSize, collector, loadingId, entityDescriptor, set );
+			return;
+		}
+		else if ( isLoadedAlone( entityDescriptor ) ) {
+			return;
+		}
+
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
 
 		int batchPosition = 1;
@@ -255,6 +276,19 @@ public class BatchFetchQueue {
 			final Object loadingId,
 			final int maxBatchSize) {
 
+		if ( batchLoadableEntityKeys != null && isAdaptive( entityDescriptor, loadingId ) ) {
+			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+			if ( set != null ) {
+				final Object[] ids = new Object[adaptiveBatchSize( entityDescriptor, set, maxBatchSize )];
+				ids[0] = loadingId;
+				collectAdaptiveBatch( ids.length, (i, id) -> ids[i] = id, loadingId, entityDescriptor, set );
+				return ids;
+			}
+		}
+		else if ( isLoadedAlone( entityDescriptor ) ) {
+			return new Object[] { loadingId };
+		}
+
 		final Object[] ids = new Object[maxBatchSize];
 		// make sure we load the id being loaded in the batch!
 		ids[0] = loadingId;
@@ -301,6 +335,110 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
+	/**
+	 * Called when a proxy which was initialized ahead of its first access, as part of an
+	 * adaptive batch, is accessed.
+	 *
+	 * @param entityName The name of the entity
+	 */
+	public void fetchedAheadEntityAccessed(String entityName) {
+		if ( adaptiveBatchSizes != null ) {
+			final AdaptiveBatchSize adaptiveBatchSize = adaptiveBatchSizes.get( entityName );
+			if ( adaptiveBatchSize != null ) {
+				adaptiveBatchSize.accessed();
+			}
+		}
+	}
+
+	/**
+	 * Batches are adapted only when a proxy is being initialized, since the
+	 * use of the other pending proxies can only be observed for proxies.
+	 */
+	private boolean isAdaptive(EntityMappingType entityDescriptor, Object loadingId) {
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		return persister.isAdaptiveBatchLoadable()
+			&& context.getProxy( context.getSession().generateEntityKey( loadingId, persister ) ) != null;
+	}
+
+	/**
+	 * The keys of an entity which is only adaptively batch loadable are registered just to be
+	 * fetched along with a proxy, so any other load of the entity does not batch them.
+	 */
+	private boolean isLoadedAlone(EntityMappingType entityDescriptor) {
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		return persister.isAdaptiveBatchLoadable()
+			&& !context.getSession().getLoadQueryInfluencers().effectivelyBatchLoadable( persister );
+	}
+
+	private int adaptiveBatchSize(EntityMappingType entityDescriptor, LinkedHashSet<EntityKey> set, int maxBatchSize) {
+		return adaptiveBatchSize( entityDescriptor ).batchSize( set.size(), maxBatchSize );
+	}
+
+	private AdaptiveBatchSize adaptiveBatchSize(EntityMappingType entityDescriptor) {
+		if ( adaptiveBatchSizes == null ) {
+			adaptiveBatchSizes = CollectionHelper.mapOfSize( 12 );
+		}
+		return adaptiveBatchSizes.computeIfAbsent( entityDescriptor.getEntityName(), k -> new AdaptiveBatchSize() );
+	}
+
+	/**
+	 * Collects an adaptive batch, preferring the keys registered immediately
+	 * after the given key, and marks the proxies fetched ahead along with it.
+	 */
+	private <T> void collectAdaptiveBatch(
+			int batchSize,
+			IndexedConsumer<T> collector,
+			T loadingId,
+			EntityMappingType entityDescriptor,
+			LinkedHashSet<EntityKey> set) {
+		final AdaptiveBatchSize adaptiveBatchSize = adaptiveBatchSize( entityDescriptor );
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final SharedSessionContractImplementor session = context.getSession();
+
+		int batchPosition = 1;
+		boolean found = false;
+		// first the keys registered after the given key
+		for ( EntityKey key : set ) {
+			if ( batchPosition == batchSize ) {
+				return;
+			}
+			if ( found ) {
+				if ( !isCached( key, persister ) ) {
+					//noinspection unchecked
+					collector.accept( batchPosition++, (T) key.getIdentifier() );
+					markFetchedAhead( key, adaptiveBatchSize );
+				}
+			}
+			else {
+				found = identifierMapping.areEqual( loadingId, key.getIdentifier(), session );
+			}
+		}
+		// then the keys registered before it
+		for ( EntityKey key : set ) {
+			if ( batchPosition == batchSize
+					|| identifierMapping.areEqual( loadingId, key.getIdentifier(), session ) ) {
+				return;
+			}
+			if ( !isCached( key, persister ) ) {
+				//noinspection unchecked
+				collector.accept( batchPosition++, (T) key.getIdentifier() );
+				markFetchedAhead( key, adaptiveBatchSize );
+			}
+		}
+	}
+
+	private void markFetchedAhead(EntityKey key, AdaptiveBatchSize adaptiveBatchSize) {
+		final Object proxy = context.getProxy( key );
+		if ( proxy != null ) {
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( proxy );
+			if ( lazyInitializer instanceof AbstractLazyInitializer ) {
+				( (AbstractLazyInitializer) lazyInitializer ).markFetchedAhead();
+				adaptiveBatchSize.fetchedAhead();
+			}
+		}
+	}
+
 	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
 		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
@@ -537,4 +675,37 @@ public class BatchFetchQueue {
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
+
+	/**
+	 * The observed use of the proxies of an entity which were initialized ahead of their first
+	 * access. The size of a batch is the number of pending proxies, scaled by the proportion of
+	 * the proxies fetched ahead which were then accessed, so the first batch includes every
+	 * pending proxy. The observations decay, so that the batches follow changes in the use of
+	 * the proxies over the life of the session.
+	 */
+	private static final class AdaptiveBatchSize {
+		private static final int MIN_BATCH_SIZE = 2;
+		private static final int DECAY_THRESHOLD = 256;
+
+		private int fetchedAhead;
+		private int accessed;
+
+		int batchSize(int pending, int maxBatchSize) {
+			final long batchSize = ( (long) pending * ( accessed + 1 ) + fetchedAhead ) / ( fetchedAhead + 1 );
+			return (int) Math.min( maxBatchSize, Math.max( MIN_BATCH_SIZE, batchSize ) );
+		}
+
+		void fetchedAhead() {
+			if ( ++fetchedAhead > DECAY_THRESHOLD ) {
+				fetchedAhead /= 2;
+				accessed /= 2;
+			}
+		}
+
+		void accessed() {
+			if ( accessed < fetchedAhead ) {
+				accessed++;
+			}
+		}
+	}
 }
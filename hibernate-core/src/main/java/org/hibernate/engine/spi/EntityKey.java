@@ -64,7 +64,7 @@ public final class EntityKey implements Serializable {
 	}
 
 	public boolean isBatchLoadable(LoadQueryInfluencers influencers) {
-		return influencers.effectivelyBatchLoadable( persister );
+		return influencers.effectivelyBatchLoadable( persister ) || persister.isAdaptiveBatchLoadable();
 	}
 
 	public Object getIdentifierValue() {
@@ -7,7 +7,9 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -176,6 +178,67 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier and persister,
+	 * avoiding the creation of an {@link EntityKey} where possible
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @see #getEntity(EntityKey)
+	 */
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity with the given identifier and persister in the
+	 * persistence context, avoiding the creation of an {@link EntityKey}
+	 * where possible
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 *
+	 * @see #containsEntity(EntityKey)
+	 */
+	default boolean containsEntity(Object id, EntityPersister persister) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Register an entity as modified since the last flush, in a way which is not
+	 * reflected by its {@link SelfDirtinessTracker}, for example because one of
+	 * its collections was modified.
+	 *
+	 * @param entity The modified entity, or {@code null} if it's unknown
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL_DIRTY_TRACKING
+	 */
+	default void registerModifiedEntity(Object entity) {
+	}
+
+	/**
+	 * Was the given entity {@linkplain #registerModifiedEntity registered as modified}
+	 * since the last flush? Always {@code true} when modified entities are not tracked.
+	 *
+	 * @param entity The entity to check
+	 *
+	 * @return {@code false} if the entity is known to be unmodified
+	 */
+	default boolean isModifiedEntity(Object entity) {
+		return true;
+	}
+
+	/**
+	 * Forget about the entities registered as modified, after they were flushed
+	 */
+	default void clearModifiedEntities() {
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -506,6 +569,36 @@ public interface PersistenceContext {
 
 	int getNumberOfManagedEntities();
 
+	/**
+	 * The entity most recently associated with this persistence context,
+	 * or {@code null} if there is no managed entity, or if the order of
+	 * the managed entities is not tracked.
+	 *
+	 * @see #getManagedEntitiesAddedAfter(Object)
+	 *
+	 * @since 6.4
+	 */
+	default Object getLastManagedEntity() {
+		return null;
+	}
+
+	/**
+	 * The entities associated with this persistence context after the
+	 * given entity, in the order in which they were associated, or all
+	 * the managed entities if the given entity is {@code null}.
+	 *
+	 * @param entity an entity obtained from {@link #getLastManagedEntity()}
+	 *
+	 * @return the entities, or an empty list if the given entity is not
+	 *         managed anymore, or if the order of the managed entities is
+	 *         not tracked
+	 *
+	 * @since 6.4
+	 */
+	default List<Object> getManagedEntitiesAddedAfter(Object entity) {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Doubly internal
 	 */
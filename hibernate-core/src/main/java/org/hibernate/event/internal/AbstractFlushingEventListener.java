@@ -14,6 +14,8 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -24,6 +26,8 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -34,11 +38,18 @@ import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.PersistContext;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
 /**
  * A convenience base class for listeners whose functionality results in flushing.
  *
@@ -136,11 +147,13 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final PersistContext context = getContext();
+		final boolean skipUnmodified = skipsUnmodifiedEntities( session );
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			final EntityEntry entry = me.getValue();
-			if ( flushable( entry ) ) {
+			if ( flushable( entry )
+					&& !( skipUnmodified && isUnmodified( me.getKey(), entry, persistenceContext ) ) ) {
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), context );
 			}
 		}
@@ -209,17 +222,36 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// The dirty checks might be computed ahead, in parallel, but the updates
+		// are still scheduled serially, in the order of the entity entries
+		final ParallelDirtyCheck parallelDirtyCheck = precomputeDirtyChecks( entityEntries, source, flushListeners );
+		final boolean skipUnmodified = skipsUnmodifiedEntities( source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
+				if ( skipUnmodified && isUnmodified( me.getKey(), entry, persistenceContext ) ) {
+					// there's nothing to flush, but its collections are still reachable
+					final EntityPersister persister = entry.getPersister();
+					if ( persister.hasCollections() ) {
+						new FlushVisitor( source, me.getKey() )
+								.processEntityPropertyValues( entry.getLoadedState(), persister.getPropertyTypes() );
+					}
+					continue;
+				}
+
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( entityEvent, i );
+				}
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 
@@ -254,6 +286,80 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		}
 	}
 
+	/**
+	 * Computes the dirty checks of the given entities in parallel, if there are
+	 * enough of them, and nothing but the {@link DefaultFlushEntityEventListener}
+	 * takes part in the dirty checking.
+	 *
+	 * @return the precomputed dirty checks, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	private static ParallelDirtyCheck precomputeDirtyChecks(
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			EventSource source,
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		final SessionFactoryImplementor factory = source.getFactory();
+		final int threshold = factory.getFastSessionServices().parallelDirtyCheckThreshold;
+		if ( threshold > 0
+				&& entityEntries.length >= threshold
+				&& hasDefaultDirtyChecking( source, flushListeners ) ) {
+			final DefaultFlushEntityEventListener listener =
+					(DefaultFlushEntityEventListener) flushListeners.listeners().iterator().next();
+			return listener.precomputeDirtyChecks( entityEntries, source );
+		}
+		return null;
+	}
+
+	/**
+	 * Are the entities known to be unmodified skipped by the flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL_DIRTY_TRACKING
+	 */
+	private static boolean skipsUnmodifiedEntities(EventSource source) {
+		final FastSessionServices fastSessionServices = source.getFactory().getFastSessionServices();
+		return fastSessionServices.incrementalDirtyTracking
+			&& hasDefaultDirtyChecking( source, fastSessionServices.eventListenerGroup_FLUSH_ENTITY );
+	}
+
+	/**
+	 * Is the dirty checking of entities only ever performed by the
+	 * {@link DefaultFlushEntityEventListener}?
+	 */
+	private static boolean hasDefaultDirtyChecking(
+			EventSource source,
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		return flushListeners.count() == 1
+			&& flushListeners.listeners().iterator().next() instanceof DefaultFlushEntityEventListener
+			&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+			&& source.getFactory().getCustomEntityDirtinessStrategy() instanceof DefaultCustomEntityDirtinessStrategy;
+	}
+
+	/**
+	 * Is the given managed entity known to be unmodified since it was loaded
+	 * or last flushed, according to its {@link SelfDirtinessTracker} and the
+	 * {@linkplain PersistenceContext#isModifiedEntity modified entities} of
+	 * the persistence context?
+	 */
+	private static boolean isUnmodified(Object entity, EntityEntry entry, PersistenceContext persistenceContext) {
+		if ( entry.getStatus() != Status.MANAGED
+				|| entry.getLoadedState() == null
+				|| !isSelfDirtinessTracker( entity )
+				|| entry.getPersister().hasMutableProperties()
+				|| persistenceContext.isModifiedEntity( entity ) ) {
+			return false;
+		}
+		else if ( isPersistentAttributeInterceptable( entity )
+				&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor()
+						instanceof EnhancementAsProxyLazinessInterceptor ) {
+			// leave enhanced proxies to the regular dirty checking
+			return false;
+		}
+		else {
+			return !asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes();
+		}
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -384,6 +490,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.clearCollectionsByKey();
+		persistenceContext.clearModifiedEntities();
 		
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
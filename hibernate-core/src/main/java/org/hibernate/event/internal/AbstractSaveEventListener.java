@@ -128,12 +128,29 @@ public abstract class AbstractSaveEventListener<C>
 			persister.setIdentifier( entity, generatedId, source );
 		}
 		final boolean delayIdentityInserts =
-				!source.isTransactionInProgress()
+				( !source.isTransactionInProgress() || isMultiRowInsertEnabled( persister, source ) )
 						&& !requiresImmediateIdAccess
 						&& generatedOnExecution;
 		return performSave( entity, generatedId, persister, generatedOnExecution, context, source, delayIdentityInserts );
 	}
 
+	/**
+	 * Should the insertion of an entity with a natively generated identifier be
+	 * delayed until flush, so that it may be executed along with other insertions
+	 * of the same type by a single multi-row insert statement?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static boolean isMultiRowInsertEnabled(EntityPersister persister, EventSource source) {
+		if ( persister.isMultiRowInsertSupported() ) {
+			final Integer batchSize = source.getConfiguredJdbcBatchSize();
+			return batchSize != null && batchSize > 1;
+		}
+		else {
+			return false;
+		}
+	}
+
 	/**
 	 * Generate an id before execution of the insert statements,
 	 * using the given {@link BeforeExecutionGenerator}.
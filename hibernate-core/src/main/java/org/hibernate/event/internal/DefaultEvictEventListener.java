@@ -109,6 +109,20 @@ public class DefaultEvictEventListener implements EvictEventListener {
 			LOG.tracev( "Evicting {0}", MessageHelper.infoString( persister ) );
 		}
 
+		evictWithoutCascade( object, key, persister, session );
+
+		Cascade.cascade( CascadingActions.EVICT, CascadePoint.AFTER_EVICT, session, persister, object );
+	}
+
+	/**
+	 * Remove the given entity, and its collections, from the persistence context,
+	 * without cascading the eviction to its associations
+	 */
+	public static void evictWithoutCascade(
+			final Object object,
+			final EntityKey key,
+			final EntityPersister persister,
+			final EventSource session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		if ( persister.hasNaturalIdentifier() ) {
 			persistenceContext.getNaturalIdResolutions().handleEviction( key.getIdentifier(), object, persister );
@@ -127,7 +141,5 @@ public class DefaultEvictEventListener implements EvictEventListener {
 		
 		persistenceContext.removeEntity( key );
 		persistenceContext.removeEntry( object );
-
-		Cascade.cascade( CascadingActions.EVICT, CascadePoint.AFTER_EVICT, session, persister, object );
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.event.internal;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -121,6 +122,16 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 	}
 
+	/**
+	 * Compute the dirty checks of the given entities in parallel, for the
+	 * entities which support it.
+	 *
+	 * @return the precomputed dirty checks, or {@code null} if none were computed
+	 */
+	ParallelDirtyCheck precomputeDirtyChecks(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		return ParallelDirtyCheck.compute( entityEntries, session, callbackRegistry );
+	}
+
 	/**
 	 * Flushes a single entity's state to the database, by scheduling
 	 * an update action, if necessary
@@ -133,7 +144,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, entity, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -162,7 +173,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			FlushEntityEvent event,
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -175,8 +191,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already computed by a ParallelDirtyCheck
+			final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+			final Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -492,7 +509,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = values == event.getPrecomputedPropertyValues()
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
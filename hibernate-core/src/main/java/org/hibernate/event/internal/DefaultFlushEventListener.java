@@ -32,6 +32,8 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
 
+			final StatisticsImplementor statistics = source.getFactory().getStatistics();
+			final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 			try {
 				source.getEventListenerManager().flushStart();
 
@@ -48,9 +50,11 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 
 			postPostFlush( source );
 
-			final StatisticsImplementor statistics = source.getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.flush();
+				if ( startTime != 0 ) {
+					statistics.flushCompleted( System.nanoTime() - startTime );
+				}
 			}
 		}
 		else if ( source.getActionQueue().hasAnyQueuedActions() ) {
@@ -588,6 +588,8 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -607,9 +609,13 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( startTime != 0 ) {
+				statistics.entityLoadCompleted( persister.getEntityName(), System.nanoTime() - startTime );
+			}
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
 		}
 
 		return entity;
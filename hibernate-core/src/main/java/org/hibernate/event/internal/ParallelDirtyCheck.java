@@ -0,0 +1,263 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.ManyToOneType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Computes the dirty properties of the entities of a flush in parallel, ahead
+ * of the serial processing of the {@link FlushEntityEvent}s.
+ * <p>
+ * The current property values of the entities are read by the flushing thread,
+ * so that getters never run on another thread. Only the comparison of the values
+ * with the loaded state is performed in parallel, by the given {@link ForkJoinPool}.
+ * <p>
+ * Only the entities for which this comparison is free of side effects take part:
+ * they must not be bytecode enhanced, their properties must all be of a
+ * {@linkplain AbstractStandardBasicType standard basic type}, whose comparison
+ * only depends on the values, or many-to-one associations which still refer to
+ * the same instance as when the entity was loaded. This way, neither the session,
+ * nor the persistence context, nor any user code are involved in the comparison.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	private static final int MIN_CHUNK_SIZE = 256;
+	private static final int[] INELIGIBLE = new int[0];
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries) {
+		this.entityEntries = entityEntries;
+		this.propertyValues = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+	}
+
+	/**
+	 * @return the precomputed dirty checks, or {@code null} if the dirty checks
+	 * of the given entities can't be computed in parallel
+	 */
+	static ParallelDirtyCheck compute(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			EventSource session,
+			CallbackRegistry callbackRegistry) {
+		final ForkJoinPool pool = session.getFactory().getFastSessionServices().dirtyCheckPool;
+		if ( pool == null ) {
+			return null;
+		}
+
+		// the indexes of the many-to-one properties of each eligible persister
+		final Map<EntityPersister, int[]> eligiblePersisters = new IdentityHashMap<>();
+		final int[] eligible = new int[entityEntries.length];
+		int eligibleCount = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final EntityEntry entry = entityEntries[i].getValue();
+			final Status status = entry.getStatus();
+			if ( status != Status.LOADING && status != Status.GONE ) {
+				final EntityPersister persister = entry.getPersister();
+				int[] manyToOneProperties = eligiblePersisters.get( persister );
+				if ( manyToOneProperties == null ) {
+					if ( callbackRegistry != null
+							&& callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+						// the callback might modify the state of any other entity
+						return null;
+					}
+					manyToOneProperties = manyToOneProperties( persister );
+					eligiblePersisters.put( persister, manyToOneProperties );
+				}
+				if ( manyToOneProperties != INELIGIBLE
+						&& status == Status.MANAGED
+						&& entry.getLoadedState() != null
+						&& entry.isModifiableEntity() ) {
+					final Object entity = entityEntries[i].getKey();
+					if ( !isPersistentAttributeInterceptable( entity ) && !isSelfDirtinessTracker( entity ) ) {
+						eligible[eligibleCount++] = i;
+					}
+				}
+			}
+		}
+
+		if ( eligibleCount < MIN_CHUNK_SIZE ) {
+			return null;
+		}
+
+		// read the current values on the flushing thread
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries );
+		int count = 0;
+		for ( int i = 0; i < eligibleCount; i++ ) {
+			final int index = eligible[i];
+			final EntityEntry entry = entityEntries[index].getValue();
+			if ( dirtyCheck.readValues( index, eligiblePersisters.get( entry.getPersister() ) ) ) {
+				eligible[count++] = index;
+			}
+		}
+
+		if ( count >= MIN_CHUNK_SIZE ) {
+			final int chunkSize = Math.max( MIN_CHUNK_SIZE, count / ( pool.getParallelism() * 4 ) );
+			pool.invoke( dirtyCheck.new Task( eligible, 0, count, chunkSize ) );
+		}
+		else {
+			dirtyCheck.new Task( eligible, 0, count, count ).compute();
+		}
+		return dirtyCheck;
+	}
+
+	private static int[] manyToOneProperties(EntityPersister persister) {
+		if ( !( persister instanceof AbstractEntityPersister )
+				|| persister.hasCollections()
+				|| persister.getEntityMetamodel().getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return INELIGIBLE;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final int[] manyToOneProperties = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			if ( type instanceof ManyToOneType ) {
+				manyToOneProperties[count++] = i;
+			}
+			else if ( !( type instanceof AbstractStandardBasicType ) ) {
+				// the comparison of other types might involve user code, or the session
+				return INELIGIBLE;
+			}
+		}
+		return Arrays.copyOf( manyToOneProperties, count );
+	}
+
+	/**
+	 * Attach the precomputed dirty check of the entity at the given position,
+	 * if any, to the event
+	 */
+	void applyTo(FlushEntityEvent event, int index) {
+		final Object[] values = propertyValues[index];
+		if ( values != null ) {
+			event.setPrecomputedDirtyCheck( values, dirtyProperties[index] );
+		}
+	}
+
+	/**
+	 * Read the current values of the entity at the given position, on the flushing thread
+	 *
+	 * @return {@code true} if the values can be compared with the loaded state in parallel
+	 */
+	private boolean readValues(int index, int[] manyToOneProperties) {
+		final Object entity = entityEntries[index].getKey();
+		final EntityEntry entry = entityEntries[index].getValue();
+		try {
+			final Object[] values = entry.getPersister().getValues( entity );
+			final Object[] loadedState = entry.getLoadedState();
+			for ( int property : manyToOneProperties ) {
+				if ( values[property] != loadedState[property] ) {
+					// the dirty check would need to resolve the identifiers
+					// of the associated entities using the session
+					return false;
+				}
+			}
+			propertyValues[index] = values;
+			return true;
+		}
+		catch (RuntimeException e) {
+			// leave it to the serial dirty check, which reports the failure
+			LOG.tracef( e, "Unable to read the state of entity [%s]", entry.getEntityKey() );
+			return false;
+		}
+	}
+
+	/**
+	 * Compare the current values of the entity at the given position with its loaded
+	 * state, like {@link AbstractEntityPersister#findDirty}, but without the session
+	 */
+	private void dirtyCheck(int index) {
+		final EntityEntry entry = entityEntries[index].getValue();
+		final AbstractEntityPersister persister = (AbstractEntityPersister) entry.getPersister();
+		final NonIdentifierAttribute[] properties = persister.getEntityMetamodel().getProperties();
+		final boolean[][] columnUpdateable = persister.getPropertyColumnUpdateable();
+		final Object[] values = propertyValues[index];
+		final Object[] loadedState = entry.getLoadedState();
+		int[] dirty = null;
+		int count = 0;
+		for ( int i = 0; i < properties.length; i++ ) {
+			final Type type = properties[i].getType();
+			// many-to-one associations refer to the loaded instance
+			if ( type instanceof AbstractStandardBasicType
+					&& properties[i].isDirtyCheckable()
+					&& columnUpdateable[i][0]
+					&& !( (AbstractStandardBasicType<?>) type ).isEqual( loadedState[i], values[i] ) ) {
+				if ( dirty == null ) {
+					dirty = new int[properties.length];
+				}
+				dirty[count++] = i;
+			}
+		}
+		dirtyProperties[index] = dirty == null ? null : Arrays.copyOf( dirty, count );
+	}
+
+	private class Task extends RecursiveAction {
+		private final int[] indexes;
+		private final int start;
+		private final int end;
+		private final int chunkSize;
+
+		private Task(int[] indexes, int start, int end, int chunkSize) {
+			this.indexes = indexes;
+			this.start = start;
+			this.end = end;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start <= chunkSize ) {
+				for ( int i = start; i < end; i++ ) {
+					final int index = indexes[i];
+					try {
+						dirtyCheck( index );
+					}
+					catch (RuntimeException e) {
+						// leave it to the serial dirty check, which reports the failure
+						propertyValues[index] = null;
+						LOG.tracef( e, "Unable to precompute dirty check of entity [%s]",
+								entityEntries[index].getValue().getEntityKey() );
+					}
+				}
+			}
+			else {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll(
+						new Task( indexes, start, middle, chunkSize ),
+						new Task( indexes, middle, end, chunkSize )
+				);
+			}
+		}
+	}
+}
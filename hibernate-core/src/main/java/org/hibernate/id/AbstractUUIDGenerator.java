@@ -7,6 +7,7 @@
 package org.hibernate.id;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.id.factory.spi.StandardGenerator;
 import org.hibernate.internal.util.BytesHelper;
@@ -36,7 +37,7 @@ public abstract class AbstractUUIDGenerator implements IdentifierGenerator, Stan
 		IP = ipadd;
 	}
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger counter = new AtomicInteger();
 	private static final int JVM = (int) ( System.currentTimeMillis() >>> 8 );
 
 	public AbstractUUIDGenerator() {
@@ -56,12 +57,7 @@ public abstract class AbstractUUIDGenerator implements IdentifierGenerator, Stan
 	 * a millisecond)
 	 */
 	protected short getCount() {
-		synchronized(AbstractUUIDGenerator.class) {
-			if ( counter < 0 ) {
-				counter=0;
-			}
-			return counter++;
-		}
+		return (short) counter.getAndUpdate( count -> count == Short.MAX_VALUE ? 0 : count + 1 );
 	}
 
 	/**
@@ -93,6 +93,37 @@ public final class IdentifierGeneratorHelper {
 		return id;
 	}
 
+	/**
+	 * Get the generated identifiers of the rows of a multi-row insert when using identity columns
+	 *
+	 * @param path           The {@link NavigableRole#getFullPath()}
+	 * @param resultSet      The result set from which to extract the generated identities
+	 * @param rowCount       The number of inserted rows
+	 * @param wrapperOptions The session
+	 * @return The generated identity values, in the order of the rows of the result set
+	 * @throws SQLException       Can be thrown while accessing the result set
+	 * @throws HibernateException Indicates a problem reading back a generated identity value.
+	 */
+	public static Object[] getGeneratedIdentities(
+			String path,
+			ResultSet resultSet,
+			int rowCount,
+			PostInsertIdentityPersister persister,
+			WrapperOptions wrapperOptions) throws SQLException {
+		final JdbcMapping identifierType = ( (SqlTypedMapping) persister.getIdentifierMapping() ).getJdbcMapping();
+		final int columnIndex = columnIndex( resultSet, persister );
+		final Object[] ids = new Object[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( !resultSet.next() ) {
+				throw new HibernateException( "The database returned " + i + " natively generated identity values for "
+						+ rowCount + " inserted rows : " + path );
+			}
+			ids[i] = identifierType.getJdbcValueExtractor().extract( resultSet, columnIndex, wrapperOptions );
+		}
+		LOG.debugf( "Natively generated identities (%s) : %s", path, ids.length );
+		return ids;
+	}
+
 	private static int columnIndex(ResultSet resultSet, PostInsertIdentityPersister persister) {
 		try {
 			ResultSetMetaData metaData = resultSet.getMetaData();
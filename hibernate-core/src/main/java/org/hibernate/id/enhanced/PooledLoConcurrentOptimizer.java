@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out identifiers without
+ * locking, so that it scales to many concurrent inserting threads.
+ * <p>
+ * Each block of {@link #getIncrementSize()} values obtained from the database
+ * is split into stripes, one per processor, each handing out its values using
+ * a {@linkplain AtomicLong#getAndIncrement() CAS-driven} counter. A thread
+ * takes values from the stripe selected by its thread id, and moves on to the
+ * other stripes when its own is exhausted, so that no value of the block is
+ * wasted. The first thread to hand out the middle value of a stripe fetches the
+ * next block ahead of time, while the other threads keep using the current one.
+ * Only threads which exhaust the block before the next one is available have
+ * to wait.
+ * <p>
+ * Unlike {@link PooledLoThreadLocalOptimizer}, the blocks are shared by all
+ * threads, and so no values are lost when there are many short-lived threads.
+ * Identifiers are unique, but not handed out in increasing order.
+ *
+ * @see PooledLoOptimizer
+ * @see StandardOptimizerDescriptor#POOLED_LO_CONCURRENT
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private static final int MIN_STRIPE_SIZE = 16;
+	private static final long EXHAUSTED = Long.MIN_VALUE;
+
+	private final int stripeCount;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoConcurrentOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+		this.stripeCount = Math.max(
+				1,
+				Math.min( Runtime.getRuntime().availableProcessors(), incrementSize / MIN_STRIPE_SIZE )
+		);
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		final int stripe = (int) ( Thread.currentThread().getId() % stripeCount );
+		while ( true ) {
+			final Block block = generationState.currentBlock.get();
+			final long value = block.take( stripe );
+			if ( value != EXHAUSTED ) {
+				if ( block.isPrefetchPoint( value ) ) {
+					prefetch( generationState, block, callback );
+				}
+				return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+						.initialize( value )
+						.makeValue();
+			}
+			else {
+				generationState.currentBlock.compareAndSet( block, nextBlock( generationState, block, callback ) );
+			}
+		}
+	}
+
+	/**
+	 * Fetch the block following the given one, unless another thread already did
+	 */
+	private void prefetch(GenerationState generationState, Block block, AccessCallback callback) {
+		if ( block.fetchClaimed.compareAndSet( false, true ) ) {
+			try {
+				block.next.complete( fetchBlock( generationState, callback ) );
+			}
+			catch (RuntimeException e) {
+				// the threads which exhaust the current block will try again
+				LOG.debug( "Unable to fetch the next block of identifier values ahead of time", e );
+				block.next.completeExceptionally( e );
+			}
+		}
+	}
+
+	/**
+	 * Obtain the block following the given exhausted block, fetching it if no
+	 * other thread already did, and waiting for it if another thread is
+	 */
+	private Block nextBlock(GenerationState generationState, Block block, AccessCallback callback) {
+		if ( block.fetchClaimed.compareAndSet( false, true ) ) {
+			try {
+				final Block next = fetchBlock( generationState, callback );
+				block.next.complete( next );
+				return next;
+			}
+			catch (RuntimeException e) {
+				block.next.completeExceptionally( e );
+				generationState.currentBlock.compareAndSet( block, Block.empty() );
+				throw e;
+			}
+		}
+		try {
+			return block.next.join();
+		}
+		catch (CompletionException e) {
+			// another thread failed to fetch the block, so start over
+			// with an empty block, which will be replaced by the next
+			// attempt to fetch
+			return Block.empty();
+		}
+	}
+
+	private Block fetchBlock(GenerationState generationState, AccessCallback callback) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		generationState.lastSourceValue = sourceValue;
+		final long lastSourceValue = sourceValue.makeValue().longValue();
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		final long start = Math.max( lastSourceValue, 1 );
+		final long end = lastSourceValue + incrementSize;
+		return new Block( start, end, stripeCount );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private static class GenerationState {
+		private final AtomicReference<Block> currentBlock = new AtomicReference<>( Block.empty() );
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	/**
+	 * A block of values obtained from a single call to the database
+	 */
+	private static class Block {
+		private final AtomicLong[] nextValues;
+		private final long[] endValues;
+		private final long[] prefetchValues;
+
+		private final AtomicBoolean fetchClaimed = new AtomicBoolean();
+		private final CompletableFuture<Block> next = new CompletableFuture<>();
+
+		private Block(long start, long end, int stripeCount) {
+			final long size = Math.max( end - start, 0 );
+			final int stripes = (int) Math.max( 1, Math.min( stripeCount, size ) );
+			nextValues = new AtomicLong[stripes];
+			endValues = new long[stripes];
+			prefetchValues = new long[stripes];
+			long stripeStart = start;
+			for ( int i = 0; i < stripes; i++ ) {
+				// the last stripe gets the remainder
+				final long stripeEnd = i == stripes - 1 ? start + size : stripeStart + size / stripes;
+				nextValues[i] = new AtomicLong( stripeStart );
+				endValues[i] = stripeEnd;
+				prefetchValues[i] = stripeStart + ( stripeEnd - stripeStart ) / 2;
+				stripeStart = stripeEnd;
+			}
+		}
+
+		/**
+		 * A new empty block, which forces the next block to be fetched
+		 */
+		private static Block empty() {
+			return new Block( 0, 0, 1 );
+		}
+
+		/**
+		 * Take a value from the given stripe, or else from any other stripe
+		 *
+		 * @return the value, or {@link #EXHAUSTED}
+		 */
+		private long take(int stripe) {
+			final int stripes = nextValues.length;
+			for ( int i = 0; i < stripes; i++ ) {
+				final int index = ( stripe + i ) % stripes;
+				if ( nextValues[index].get() < endValues[index] ) {
+					final long value = nextValues[index].getAndIncrement();
+					if ( value < endValues[index] ) {
+						return value;
+					}
+				}
+			}
+			return EXHAUSTED;
+		}
+
+		private boolean isPrefetchPoint(long value) {
+			for ( int i = 0; i < prefetchValues.length; i++ ) {
+				if ( value == prefetchValues[i] ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
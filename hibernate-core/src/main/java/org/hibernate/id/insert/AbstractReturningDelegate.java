@@ -8,6 +8,7 @@ package org.hibernate.id.insert;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
@@ -73,6 +74,37 @@ public abstract class AbstractReturningDelegate implements InsertGeneratedIdenti
 			PreparedStatement insertStatement,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Prepare and bind the given multi-row {@code insert} statement, and then
+	 * execute it and extract the generated identifiers of its rows using the
+	 * given function. For use by the implementations which
+	 * {@linkplain #supportsMultiRowInsert() support} multi-row inserts.
+	 */
+	protected Object[] performMultiRowInsert(
+			String insertSql,
+			SharedSessionContractImplementor session,
+			Binder binder,
+			Function<PreparedStatement, Object[]> executeAndExtract) {
+		try {
+			session.getJdbcServices().getSqlStatementLogger().logStatement( insertSql );
+			final PreparedStatement insert = prepareStatement( insertSql, session );
+			try {
+				binder.bindValues( insert );
+				return executeAndExtract.apply( insert );
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSql
+			);
+		}
+	}
+
 	protected void releaseStatement(PreparedStatement insert, SharedSessionContractImplementor session) {
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
 		jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( insert );
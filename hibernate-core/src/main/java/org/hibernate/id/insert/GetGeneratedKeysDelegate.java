@@ -29,6 +29,7 @@ import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.generator.OnExecutionGenerator;
 
 import static java.sql.Statement.RETURN_GENERATED_KEYS;
+import static org.hibernate.id.IdentifierGeneratorHelper.getGeneratedIdentities;
 import static org.hibernate.id.IdentifierGeneratorHelper.getGeneratedIdentity;
 
 /**
@@ -180,4 +181,66 @@ public class GetGeneratedKeysDelegate extends AbstractReturningDelegate {
 			);
 		}
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public Object[] performMultiRowInsert(
+			String insertSql,
+			int rowCount,
+			SharedSessionContractImplementor session,
+			Binder binder) {
+		return performMultiRowInsert(
+				insertSql,
+				session,
+				binder,
+				insertStatement -> executeAndExtractMultiple( insertSql, insertStatement, rowCount, session )
+		);
+	}
+
+	private Object[] executeAndExtractMultiple(
+			String insertSql,
+			PreparedStatement insertStatement,
+			int rowCount,
+			SharedSessionContractImplementor session) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+
+		jdbcCoordinator.getResultSetReturn().executeUpdate( insertStatement, insertSql );
+
+		try {
+			final ResultSet resultSet = insertStatement.getGeneratedKeys();
+			try {
+				return getGeneratedIdentities(
+						persister.getNavigableRole().getFullPath(),
+						resultSet,
+						rowCount,
+						persister,
+						session
+				);
+			}
+			catch (SQLException e) {
+				throw jdbcServices.getSqlExceptionHelper().convert(
+						e,
+						"Unable to extract generated key(s) from generated-keys ResultSet",
+						insertSql
+				);
+			}
+			finally {
+				if ( resultSet != null ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( resultSet, insertStatement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					"Unable to extract generated-keys ResultSet",
+					insertSql
+			);
+		}
+	}
 }
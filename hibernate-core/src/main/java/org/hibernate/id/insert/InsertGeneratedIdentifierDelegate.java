@@ -96,4 +96,37 @@ public interface InsertGeneratedIdentifierDelegate {
 	 */
 	Object performInsert(String insertSQL, SharedSessionContractImplementor session, Binder binder);
 
+	/**
+	 * Does this delegate support the execution of multi-row {@code insert}
+	 * statements via {@link #performMultiRowInsert}?
+	 *
+	 * @since 6.4
+	 */
+	default boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Execute the given multi-row {@code insert} statement and return the
+	 * generated key values of its rows, in the order of the rows.
+	 *
+	 * @param insertSQL The multi-row {@code insert} statement string
+	 * @param rowCount The number of rows inserted by the statement
+	 * @param session The session in which we are operating
+	 * @param binder The parameter binder
+	 *
+	 * @return The generated identifier values
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultiRowInsertGeneratedKeys()
+	 *
+	 * @since 6.4
+	 */
+	default Object[] performMultiRowInsert(
+			String insertSQL,
+			int rowCount,
+			SharedSessionContractImplementor session,
+			Binder binder) {
+		throw new UnsupportedOperationException( "Multi-row inserts are not supported by " + getClass().getName() );
+	}
+
 }
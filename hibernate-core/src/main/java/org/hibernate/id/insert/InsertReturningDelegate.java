@@ -24,6 +24,7 @@ import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.generator.OnExecutionGenerator;
 
 import static java.sql.Statement.NO_GENERATED_KEYS;
+import static org.hibernate.id.IdentifierGeneratorHelper.getGeneratedIdentities;
 import static org.hibernate.id.IdentifierGeneratorHelper.getGeneratedIdentity;
 
 /**
@@ -82,6 +83,55 @@ public class InsertReturningDelegate extends AbstractReturningDelegate {
 		}
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public Object[] performMultiRowInsert(
+			String insertSql,
+			int rowCount,
+			SharedSessionContractImplementor session,
+			Binder binder) {
+		return performMultiRowInsert(
+				insertSql,
+				session,
+				binder,
+				insertStatement -> executeAndExtractMultiple( insertSql, insertStatement, rowCount, session )
+		);
+	}
+
+	private Object[] executeAndExtractMultiple(
+			String insertSql,
+			PreparedStatement insertStatement,
+			int rowCount,
+			SharedSessionContractImplementor session) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+
+		final ResultSet resultSet = jdbcCoordinator.getResultSetReturn().execute( insertStatement, insertSql );
+		try {
+			return getGeneratedIdentities(
+					persister.getNavigableRole().getFullPath(),
+					resultSet,
+					rowCount,
+					persister,
+					session
+			);
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					"Unable to extract generated key(s) from generated-keys ResultSet",
+					insertSql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( resultSet, insertStatement );
+		}
+	}
+
 	@Override
 	public String prepareIdentifierGeneratingInsert(String insertSQL) {
 		return dialect.getIdentityColumnSupport().appendIdentitySelectToInsert( insertSQL );
@@ -54,6 +54,12 @@ public class SybaseJConnGetGeneratedKeysDelegate extends GetGeneratedKeysDelegat
 		return dialect.getIdentityColumnSupport().appendIdentitySelectToInsert( insertSQL );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		// the identity is selected after the insert
+		return false;
+	}
+
 	@Override
 	public Object executeAndExtract(
 			String insertSql,
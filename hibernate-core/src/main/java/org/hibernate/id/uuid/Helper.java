@@ -7,6 +7,7 @@
 package org.hibernate.id.uuid;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.internal.util.BytesHelper;
 
@@ -76,7 +77,7 @@ public final class Helper {
 
 	// counter ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-	private static short counter = (short) 0;
+	private static final AtomicInteger counter = new AtomicInteger();
 
 	/**
 	 * Unique in a millisecond for this JVM instance
@@ -84,12 +85,7 @@ public final class Helper {
 	 * instances created in a millisecond)
 	 */
 	public static short getCountShort() {
-		synchronized ( Helper.class ) {
-			if ( counter < 0 ) {
-				counter = 0;
-			}
-			return counter++;
-		}
+		return (short) counter.getAndUpdate( count -> count == Short.MAX_VALUE ? 0 : count + 1 );
 	}
 
 	public static byte[] getCountBytes() {
@@ -28,6 +28,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final RowProcessingStateStandardImpl rowProcessingState;
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
+	private final EntityDetachWindow detachWindow;
 
 	private boolean closed;
 
@@ -44,6 +45,17 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+		this.detachWindow = createDetachWindow( jdbcValuesSourceProcessingState, persistenceContext );
+	}
+
+	private static EntityDetachWindow createDetachWindow(
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			SharedSessionContractImplementor session) {
+		final Integer size = jdbcValuesSourceProcessingState.getQueryOptions().getStreamDetachWindow();
+		// a stateless session has no persistence context to speak of
+		return size == null || !session.isSessionImplementor()
+				? null
+				: new EntityDetachWindow( session.asSessionImplementor(), size );
 	}
 
 
@@ -85,6 +97,24 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Called before reading the row which becomes the current row
+	 */
+	protected void beforeRowProcessing() {
+		if ( detachWindow != null ) {
+			detachWindow.beforeRow();
+		}
+	}
+
+	/**
+	 * Called once the current row has been read, and its entities initialized
+	 */
+	protected void afterRowProcessing() {
+		if ( detachWindow != null ) {
+			detachWindow.afterRow( getCurrentRow() );
+		}
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		getJdbcValues().setFetchSize(fetchSize);
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.Type;
+
+import static org.hibernate.event.internal.DefaultEvictEventListener.evictWithoutCascade;
+
+/**
+ * Keeps track of the entities used by each row of a {@link AbstractScrollableResults},
+ * and detaches them once the consumer has advanced a given number of rows past the
+ * last row which used them.
+ * <p>
+ * The entities used by a row are those which became managed while reading it, that
+ * is, the entities of its fetched and eagerly loaded associations, including those
+ * which were batch loaded along with them, and the entities of the row itself along
+ * with the entities they reference through initialized to-one associations. Entities
+ * which were already managed when the results were opened are left alone.
+ *
+ * @see org.hibernate.query.spi.QueryOptions#getStreamDetachWindow()
+ */
+class EntityDetachWindow {
+	private final SessionImplementor session;
+	private final int size;
+
+	// the entities first used by, or used again by, each row of the window
+	private final ArrayDeque<List<Object>> rows;
+	// the number of the last row which used each entity of the window
+	private final Map<Object, Long> lastRows = new IdentityHashMap<>();
+
+	private long rowCount;
+	private Object lastEntityBeforeRow;
+
+	EntityDetachWindow(SessionImplementor session, int size) {
+		this.session = session;
+		this.size = size;
+		this.rows = new ArrayDeque<>( size + 1 );
+	}
+
+	/**
+	 * Called before a row is read
+	 */
+	void beforeRow() {
+		lastEntityBeforeRow = session.getPersistenceContextInternal().getLastManagedEntity();
+	}
+
+	/**
+	 * Called once a row has been read, and its entities completely initialized
+	 *
+	 * @param row The result of the row
+	 */
+	void afterRow(Object row) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final long rowNumber = ++rowCount;
+		final List<Object> rowEntities = new ArrayList<>();
+		final List<Object> addedEntities = persistenceContext.getManagedEntitiesAddedAfter( lastEntityBeforeRow );
+		for ( int i = 0; i < addedEntities.size(); i++ ) {
+			lastRows.put( addedEntities.get( i ), rowNumber );
+			rowEntities.add( addedEntities.get( i ) );
+		}
+		for ( int i = 0; i < addedEntities.size(); i++ ) {
+			useReferences( addedEntities.get( i ), rowNumber, rowEntities, persistenceContext );
+		}
+		lastEntityBeforeRow = null;
+		if ( row instanceof Object[] ) {
+			for ( Object value : (Object[]) row ) {
+				use( value, rowNumber, rowEntities, persistenceContext );
+			}
+		}
+		else {
+			use( row, rowNumber, rowEntities, persistenceContext );
+		}
+		rows.addLast( rowEntities );
+
+		while ( rows.size() > size ) {
+			detach( rows.removeFirst(), rowCount - rows.size(), persistenceContext );
+		}
+	}
+
+	/**
+	 * Record that the given entity is used by the current row, along with the
+	 * entities it references, unless it is not part of the window
+	 */
+	private void use(Object value, long rowNumber, List<Object> rowEntities, PersistenceContext persistenceContext) {
+		final Object entity = initializedEntity( value );
+		if ( entity != null ) {
+			// entities which were managed before the results were opened,
+			// or which the application made managed in between two rows,
+			// are not part of the window
+			final Long lastRowNumber = lastRows.get( entity );
+			if ( lastRowNumber != null && lastRowNumber != rowNumber ) {
+				lastRows.put( entity, rowNumber );
+				rowEntities.add( entity );
+				useReferences( entity, rowNumber, rowEntities, persistenceContext );
+			}
+		}
+	}
+
+	private void useReferences(
+			Object entity,
+			long rowNumber,
+			List<Object> rowEntities,
+			PersistenceContext persistenceContext) {
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry != null && entry.getLoadedState() != null ) {
+			final Object[] loadedState = entry.getLoadedState();
+			final Type[] types = entry.getPersister().getPropertyTypes();
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( types[i].isEntityType() ) {
+					use( loadedState[i], rowNumber, rowEntities, persistenceContext );
+				}
+			}
+		}
+	}
+
+	private void detach(List<Object> entities, long rowNumber, PersistenceContext persistenceContext) {
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			final Long lastRowNumber = lastRows.get( entity );
+			if ( lastRowNumber != null && lastRowNumber == rowNumber ) {
+				lastRows.remove( entity );
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				// the entity might have been detached by the application, and
+				// entities being removed are left to the flush. The eviction is
+				// not cascaded, since it could reach entities still in the window
+				if ( entry != null && ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY ) ) {
+					evictWithoutCascade( entity, entry.getEntityKey(), entry.getPersister(), session.asEventSource() );
+				}
+			}
+		}
+	}
+
+	private static Object initializedEntity(Object value) {
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( value );
+		if ( lazyInitializer == null ) {
+			return value;
+		}
+		else {
+			return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+		}
+	}
+}
@@ -9,6 +9,8 @@ package org.hibernate.internal;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -21,6 +23,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.internal.PreparedStatementCache;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -76,6 +79,8 @@ import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.PessimisticLockScope;
 
 import static java.util.Collections.unmodifiableMap;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_INCREMENTAL_DIRTY_TRACKING;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
@@ -84,6 +89,11 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_COLUMNAR_LAYOUT;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Internal component.
@@ -175,6 +185,12 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	public final boolean usePrimitiveIdStorage;
+	public final int parallelDirtyCheckThreshold;
+	public final ForkJoinPool dirtyCheckPool;
+	public final boolean incrementalDirtyTracking;
+	public final boolean columnarQueryCacheLayout;
+	public final PreparedStatementCache preparedStatementCache;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -269,6 +285,32 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.usePrimitiveIdStorage = getBoolean( PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE, sessionFactory.getProperties() );
+		this.parallelDirtyCheckThreshold = getInt( FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, sessionFactory.getProperties(), 0 );
+		this.dirtyCheckPool = parallelDirtyCheckThreshold > 0 ? createDirtyCheckPool() : null;
+		this.incrementalDirtyTracking = getBoolean( FLUSH_INCREMENTAL_DIRTY_TRACKING, sessionFactory.getProperties() );
+		this.columnarQueryCacheLayout = getBoolean( QUERY_CACHE_COLUMNAR_LAYOUT, sessionFactory.getProperties() );
+		final int statementCacheSize = getInt( STATEMENT_CACHE_SIZE, sessionFactory.getProperties(), 0 );
+		this.preparedStatementCache = statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
+	}
+
+	/**
+	 * The pool used to compare the state of the entities with their
+	 * snapshot in parallel during flush, made of daemon threads so
+	 * that it never prevents the JVM from shutting down.
+	 */
+	private static ForkJoinPool createDirtyCheckPool() {
+		return new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-dirty-check-" + thread.getPoolIndex() );
+					thread.setDaemon( true );
+					return thread;
+				},
+				null,
+				false
+		);
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -321,6 +321,7 @@ public class FetchingScrollableResultsImpl<R> extends AbstractScrollableResults<
 		final PersistenceContext persistenceContext = rowProcessingState.getSession().getPersistenceContext();
 		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
 
+		beforeRowProcessing();
 		loadContexts.register( getJdbcValuesSourceProcessingState() );
 		persistenceContext.beforeLoad();
 		try {
@@ -354,6 +355,7 @@ public class FetchingScrollableResultsImpl<R> extends AbstractScrollableResults<
 			loadContexts.deregister( getJdbcValuesSourceProcessingState() );
 		}
 		persistenceContext.initializeNonLazyCollections();
+		afterRowProcessing();
 		afterScrollOperation();
 		return last;
 	}
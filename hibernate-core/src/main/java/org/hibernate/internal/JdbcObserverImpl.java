@@ -55,6 +55,11 @@ public final class JdbcObserverImpl implements JdbcObserver {
 		eventListenerManager.jdbcPrepareStatementStart();
 	}
 
+	@Override
+	public void jdbcPrepareStatementStart(String sql) {
+		eventListenerManager.jdbcPrepareStatementStart( sql );
+	}
+
 	@Override
 	public void jdbcPrepareStatementEnd() {
 		observer.statementPrepared();
@@ -66,6 +71,11 @@ public final class JdbcObserverImpl implements JdbcObserver {
 		eventListenerManager.jdbcExecuteStatementStart();
 	}
 
+	@Override
+	public void jdbcExecuteStatementStart(String sql) {
+		eventListenerManager.jdbcExecuteStatementStart( sql );
+	}
+
 	@Override
 	public void jdbcExecuteStatementEnd() {
 		eventListenerManager.jdbcExecuteStatementEnd();
@@ -76,6 +86,11 @@ public final class JdbcObserverImpl implements JdbcObserver {
 		eventListenerManager.jdbcExecuteBatchStart();
 	}
 
+	@Override
+	public void jdbcExecuteBatchStart(String sql) {
+		eventListenerManager.jdbcExecuteBatchStart( sql );
+	}
+
 	@Override
 	public void jdbcExecuteBatchEnd() {
 		eventListenerManager.jdbcExecuteBatchEnd();
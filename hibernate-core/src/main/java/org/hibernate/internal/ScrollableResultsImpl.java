@@ -126,6 +126,7 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 
 		final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
 		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
+		beforeRowProcessing();
 		loadContexts.register( getJdbcValuesSourceProcessingState() );
 		persistenceContext.beforeLoad();
 		try {
@@ -139,6 +140,7 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 			loadContexts.deregister( getJdbcValuesSourceProcessingState() );
 		}
 		persistenceContext.initializeNonLazyCollections();
+		afterRowProcessing();
 
 		afterScrollOperation();
 	}
@@ -900,6 +900,13 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			if ( eventEngine != null ) {
 				eventEngine.stop();
 			}
+
+			if ( fastSessionServices != null && fastSessionServices.preparedStatementCache != null ) {
+				fastSessionServices.preparedStatementCache.close();
+			}
+			if ( fastSessionServices != null && fastSessionServices.dirtyCheckPool != null ) {
+				fastSessionServices.dirtyCheckPool.shutdown();
+			}
 		}
 		finally {
 			status = Status.CLOSED;
@@ -6,7 +6,9 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import jakarta.persistence.EntityGraph;
 import org.hibernate.CacheMode;
@@ -68,6 +70,11 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size used by the bulk operations when none is configured
+	 */
+	private static final int DEFAULT_MULTIPLE_BATCH_SIZE = 100;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
@@ -205,6 +212,63 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		executeMultiple( entities, this::insert );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		executeMultiple( entities, this::update );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		executeMultiple( entities, this::delete );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		executeMultiple( entities, this::upsert );
+	}
+
+	/**
+	 * Execute the given operation for each of the given entities, in the order
+	 * of the list, which the caller might rely on to respect foreign keys, and
+	 * then execute any batch still pending. The statements for a run of entities
+	 * of the same type end up in the same JDBC batch.
+	 */
+	private void executeMultiple(List<?> entities, BiConsumer<String, Object> operation) {
+		checkOpen();
+		if ( entities.isEmpty() ) {
+			return;
+		}
+
+		// the batch size is set on the session even when it is configured globally,
+		// since the mutation executors don't see batch sizes defaulted by the Dialect
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		setJdbcBatchSize( configuredJdbcBatchSize > 1
+				? configuredJdbcBatchSize
+				: Math.min( entities.size(), DEFAULT_MULTIPLE_BATCH_SIZE ) );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( getEntityPersister( null, entity ).getEntityName(), entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
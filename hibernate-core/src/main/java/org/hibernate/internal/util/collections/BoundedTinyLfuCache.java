@@ -0,0 +1,562 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A bounded cache using the W-TinyLFU eviction policy, designed for
+ * read-mostly workloads with many concurrent readers.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}, so reads never lock.
+ * Instead of updating the eviction policy on every access, reads are
+ * recorded into striped, lossy ring buffers which are replayed against
+ * the policy in batches, by whichever thread manages to acquire the
+ * eviction lock without waiting. Writes are recorded into an unbounded
+ * buffer and replayed the same way, but do wait for the eviction lock, so
+ * that the cache never grows much beyond its maximum size.
+ * <p>
+ * The policy itself consists of a small LRU "window" in front of a
+ * segmented LRU "main" space. When the window overflows, its eldest entry
+ * only replaces the eldest entry of the main space if it was accessed more
+ * frequently, according to a compact count-min sketch of the recent access
+ * history. This keeps one-off entries (typically, queries built dynamically
+ * with inlined literals) from flushing the frequently used ones out of the
+ * cache.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @see BoundedConcurrentHashMap
+ */
+public class BoundedTinyLfuCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int MAX_READ_BUFFER_STRIPES = 64;
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+	private static final int REMOVED = 3;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+	private final Consumer<K> evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final ReadBuffer<K, V>[] readBuffers;
+	private final ConcurrentLinkedQueue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+
+	// Everything below is guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedQueue = new AccessOrderDeque<>();
+	private int windowSize;
+	private int probationSize;
+	private int protectedSize;
+
+	/**
+	 * Creates a new cache holding at most {@code maximumSize} entries
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified of the key of each entry evicted to
+	 * make room for new entries; called while holding the eviction lock
+	 */
+	public BoundedTinyLfuCache(int maximumSize, Consumer<K> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		final int maximumMainSize = maximumSize - maximumWindowSize;
+		this.maximumProtectedSize = (int) ( maximumMainSize * 0.8 );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+
+		final int stripes = Math.min(
+				MAX_READ_BUFFER_STRIPES,
+				ceilingPowerOfTwo( 4 * Runtime.getRuntime().availableProcessors() )
+		);
+		//noinspection unchecked
+		this.readBuffers = new ReadBuffer[stripes];
+		for ( int i = 0; i < stripes; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	public BoundedTinyLfuCache(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The approximate number of entries, which might transiently exceed the
+	 * maximum size while writes are pending
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing == null ) {
+			afterWrite( node );
+		}
+		else {
+			existing.value = value;
+			afterRead( existing );
+		}
+	}
+
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final Node<K, V> created = new Node<>( key, null );
+		final Node<K, V> node = data.computeIfAbsent(
+				key,
+				k -> {
+					final V value = mappingFunction.apply( k );
+					if ( value == null ) {
+						// like Map#computeIfAbsent, no mapping is recorded for a null value
+						return null;
+					}
+					created.value = value;
+					return created;
+				}
+		);
+		if ( node == null ) {
+			return null;
+		}
+		else if ( node == created ) {
+			afterWrite( node );
+		}
+		return node.value;
+	}
+
+	public V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterWrite( node );
+		return node.value;
+	}
+
+	/**
+	 * Removes all the entries, except those written concurrently, which might be kept
+	 */
+	public void clear() {
+		evictionLock.lock();
+		try {
+			// the pending reads are discarded, and the pending writes replayed,
+			// so that every entry is linked, and can be unlinked below
+			for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+				readBuffer.drainTo( null );
+			}
+			Node<K, V> node;
+			while ( ( node = writeBuffer.poll() ) != null ) {
+				onWrite( node );
+			}
+			clear( window );
+			clear( probation );
+			clear( protectedQueue );
+			windowSize = 0;
+			probationSize = 0;
+			protectedSize = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the entries of the given deque, marking their nodes as removed, so
+	 * that any read of them recorded later, or not yet published to the read
+	 * buffers, is skipped when replayed
+	 */
+	private void clear(AccessOrderDeque<K, V> deque) {
+		Node<K, V> node;
+		while ( ( node = deque.poll() ) != null ) {
+			node.queue = REMOVED;
+			data.remove( node.key, node );
+		}
+	}
+
+	/**
+	 * Replays all the pending reads and writes against the eviction policy
+	 */
+	public void cleanUp() {
+		evictionLock.lock();
+		try {
+			maintenance();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> buffer = readBuffers[ (int) Thread.currentThread().getId() & ( readBuffers.length - 1 ) ];
+		if ( !buffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				maintenance();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		writeBuffer.add( node );
+		evictionLock.lock();
+		try {
+			maintenance();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void maintenance() {
+		for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+			readBuffer.drainTo( this );
+		}
+		Node<K, V> node;
+		while ( ( node = writeBuffer.poll() ) != null ) {
+			onWrite( node );
+		}
+		evict();
+	}
+
+	private void onAccess(Node<K, V> node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				probationSize--;
+				node.queue = PROTECTED;
+				protectedQueue.add( node );
+				protectedSize++;
+				demoteFromProtected();
+				break;
+			case PROTECTED:
+				protectedQueue.moveToBack( node );
+				break;
+			default:
+				// the node was removed, or its addition is still pending in the write buffer
+		}
+	}
+
+	private void onWrite(Node<K, V> node) {
+		if ( node.queue == REMOVED ) {
+			return;
+		}
+		if ( data.get( node.key ) != node ) {
+			// the entry was removed
+			unlink( node );
+		}
+		else if ( node.queue == -1 ) {
+			sketch.increment( node.key );
+			node.queue = WINDOW;
+			window.add( node );
+			windowSize++;
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowSize--;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				probationSize--;
+				break;
+			case PROTECTED:
+				protectedQueue.remove( node );
+				protectedSize--;
+				break;
+			default:
+				// never linked
+		}
+		node.queue = REMOVED;
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedSize > maximumProtectedSize ) {
+			final Node<K, V> demoted = protectedQueue.poll();
+			protectedSize--;
+			demoted.queue = PROBATION;
+			probation.add( demoted );
+			probationSize++;
+		}
+	}
+
+	private void evict() {
+		while ( windowSize > maximumWindowSize ) {
+			final Node<K, V> candidate = window.poll();
+			windowSize--;
+			candidate.queue = PROBATION;
+			probation.add( candidate );
+			probationSize++;
+
+			if ( windowSize + probationSize + protectedSize > maximumSize ) {
+				final Node<K, V> victim = probation.peek();
+				if ( victim != candidate && sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evictEntry( victim );
+				}
+				else {
+					evictEntry( candidate );
+				}
+			}
+		}
+		// handles a main space overflowing on its own, e.g. after clear()
+		while ( windowSize + probationSize + protectedSize > maximumSize ) {
+			final Node<K, V> victim = probation.isEmpty() ? protectedQueue.peek() : probation.peek();
+			evictEntry( victim );
+		}
+	}
+
+	private void evictEntry(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros( x - 1 );
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the eviction lock
+		private int queue = -1;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A lossy, bounded, multiple producers / single consumer ring buffer of
+	 * accessed nodes; offers are dropped when the buffer is full or contended
+	 */
+	private static final class ReadBuffer<K, V> {
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code false} if the buffer is full and should be drained
+		 */
+		boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			if ( tail - head >= READ_BUFFER_SIZE ) {
+				return false;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) tail & READ_BUFFER_MASK, node );
+			}
+			return true;
+		}
+
+		void drainTo(BoundedTinyLfuCache<K, V> cache) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			while ( head < tail ) {
+				final int index = (int) head & READ_BUFFER_MASK;
+				final Node<K, V> node = buffer.get( index );
+				if ( node == null ) {
+					// the slot was claimed, but not yet published
+					break;
+				}
+				buffer.lazySet( index, null );
+				if ( cache != null ) {
+					cache.onAccess( node );
+				}
+				head++;
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes in access order, eldest first
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		boolean isEmpty() {
+			return first == null;
+		}
+
+		Node<K, V> peek() {
+			return first;
+		}
+
+		Node<K, V> poll() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void add(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				add( node );
+			}
+		}
+	}
+
+	/**
+	 * A count-min sketch of the access frequency of the keys, with 4-bit
+	 * counters which are all halved periodically, so that the history ages
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		FrequencySketch(int maximumSize) {
+			final int length = ceilingPowerOfTwo( Math.max( 8, Math.min( maximumSize, 1 << 24 ) ) );
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * Math.max( maximumSize, 1 );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -22,23 +22,27 @@ public final class StreamCopier {
 	}
 
 	public static final int BUFFER_SIZE = 1024 * 4;
+	/**
+	 * @deprecated no longer used, since sharing a buffer required
+	 * holding a monitor lock while reading from the stream
+	 */
+	@Deprecated(since = "6.4")
 	public static final byte[] BUFFER = new byte[ BUFFER_SIZE ];
 
 	public static long copy(InputStream from, OutputStream into) {
 		try {
+			final byte[] buffer = new byte[ BUFFER_SIZE ];
 			long totalRead = 0;
 			while ( true ) {
-				synchronized ( BUFFER ) {
-					int amountRead = from.read( BUFFER );
-					if ( amountRead == -1 ) {
-						break;
-					}
-					into.write( BUFFER, 0, amountRead );
-					totalRead += amountRead;
-					if ( amountRead < BUFFER_SIZE ) {
-						// should mean there is no more data in the stream, no need for next read
-						break;
-					}
+				int amountRead = from.read( buffer );
+				if ( amountRead == -1 ) {
+					break;
+				}
+				into.write( buffer, 0, amountRead );
+				totalRead += amountRead;
+				if ( amountRead < BUFFER_SIZE ) {
+					// should mean there is no more data in the stream, no need for next read
+					break;
 				}
 			}
 			return totalRead;
@@ -63,6 +63,27 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying a window, in rows, after which the entities
+	 * loaded by a {@linkplain org.hibernate.query.SelectionQuery#scroll
+	 * scrolled} or {@linkplain org.hibernate.query.SelectionQuery#stream
+	 * streamed} query are automatically detached from the persistence
+	 * context.
+	 * <p>
+	 * The entities loaded along with a row, including those loaded for
+	 * its eager associations, remain managed until the consumer has
+	 * advanced this many rows past it, so that the memory used by the
+	 * persistence context stays bounded however many rows are read.
+	 * Changes made to an entity must be flushed before it leaves the
+	 * window, and the entities which were already managed when the
+	 * results were opened are never detached.
+	 *
+	 * @see org.hibernate.query.spi.QueryOptions#getStreamDetachWindow
+	 *
+	 * @since 6.4
+	 */
+	String HINT_STREAM_DETACH_WINDOW = "org.hibernate.streamDetachWindow";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.Filter;
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Identifies the state of the {@link LoadQueryInfluencers} which affects the SQL of
+ * a loader: the enabled filters along with the values of their parameters, which are
+ * rendered into the SQL, the enabled fetch profiles, and the batch and subselect
+ * fetching settings. A loader built for some influencers can be reused for any
+ * influencers having an equal key.
+ */
+public final class LoadQueryInfluencersKey {
+	/**
+	 * The maximum number of loaders kept per entity or collection for the
+	 * different keys, the least recently used loader being evicted beyond
+	 */
+	public static final int MAX_INFLUENCED_LOADERS = 64;
+
+	private final LockMode lockMode;
+	private final @Nullable CascadingFetchProfile cascadingFetchProfile;
+	private final int batchSize;
+	private final boolean subselectFetchEnabled;
+	private final Map<String, Map<String, Object>> enabledFilters;
+	private final Set<String> enabledFetchProfileNames;
+	private final int hashCode;
+
+	private LoadQueryInfluencersKey(
+			LockMode lockMode,
+			@Nullable CascadingFetchProfile cascadingFetchProfile,
+			int batchSize,
+			boolean subselectFetchEnabled,
+			Map<String, Map<String, Object>> enabledFilters,
+			Set<String> enabledFetchProfileNames) {
+		this.lockMode = lockMode;
+		this.cascadingFetchProfile = cascadingFetchProfile;
+		this.batchSize = batchSize;
+		this.subselectFetchEnabled = subselectFetchEnabled;
+		this.enabledFilters = enabledFilters;
+		this.enabledFetchProfileNames = enabledFetchProfileNames;
+		this.hashCode = Objects.hash(
+				lockMode,
+				cascadingFetchProfile,
+				batchSize,
+				subselectFetchEnabled,
+				enabledFilters,
+				enabledFetchProfileNames
+		);
+	}
+
+	/**
+	 * Create the key of the given influencers, or return {@code null} if a loader
+	 * built for them can't be reused, because an entity graph is applied or a filter
+	 * parameter is bound to an array.
+	 */
+	public static @Nullable LoadQueryInfluencersKey from(LoadQueryInfluencers influencers, LockMode lockMode) {
+		if ( influencers.getEffectiveEntityGraph().getSemantic() != null ) {
+			// entity graphs are mutable, so they can't be part of a key
+			return null;
+		}
+
+		final Map<String, Map<String, Object>> enabledFilters;
+		if ( influencers.hasEnabledFilters() ) {
+			enabledFilters = new HashMap<>();
+			for ( Filter filter : influencers.getEnabledFilters().values() ) {
+				final Map<String, ?> parameters = ( (FilterImpl) filter ).getParameters();
+				final Map<String, Object> parameterValues = new HashMap<>( parameters.size() );
+				for ( Map.Entry<String, ?> entry : parameters.entrySet() ) {
+					final Object value = entry.getValue();
+					if ( value != null && value.getClass().isArray() ) {
+						return null;
+					}
+					// copy the lists, which might be modified after the loader is built
+					parameterValues.put(
+							entry.getKey(),
+							value instanceof Collection ? new ArrayList<>( (Collection<?>) value ) : value
+					);
+				}
+				enabledFilters.put( filter.getName(), parameterValues );
+			}
+		}
+		else {
+			enabledFilters = Collections.emptyMap();
+		}
+
+		return new LoadQueryInfluencersKey(
+				lockMode,
+				influencers.getEnabledCascadingFetchProfile(),
+				influencers.getBatchSize(),
+				influencers.getSubselectFetchEnabled(),
+				enabledFilters,
+				influencers.hasEnabledFetchProfiles()
+						? new HashSet<>( influencers.getEnabledFetchProfileNames() )
+						: Collections.emptySet()
+		);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof LoadQueryInfluencersKey ) ) {
+			return false;
+		}
+		final LoadQueryInfluencersKey that = (LoadQueryInfluencersKey) o;
+		return hashCode == that.hashCode
+				&& lockMode == that.lockMode
+				&& cascadingFetchProfile == that.cascadingFetchProfile
+				&& batchSize == that.batchSize
+				&& subselectFetchEnabled == that.subselectFetchEnabled
+				&& enabledFilters.equals( that.enabledFilters )
+				&& enabledFetchProfileNames.equals( that.enabledFetchProfileNames );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 import org.hibernate.Internal;
@@ -15,6 +16,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -30,6 +32,15 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 	private final EnumMap<LockMode, SingleIdLoadPlan<T>> selectByLockMode = new EnumMap<>( LockMode.class );
 	private EnumMap<CascadingFetchProfile, SingleIdLoadPlan<T>> selectByInternalCascadeProfile;
 
+	// load plans for the influencers affecting the loaded entity, so that
+	// enabling the same filters again reuses the rendered SQL
+	private final Map<LoadQueryInfluencersKey, SingleIdLoadPlan<T>> selectByInfluencers =
+			new BoundedConcurrentHashMap<>(
+					LoadQueryInfluencersKey.MAX_INFLUENCED_LOADERS,
+					4,
+					BoundedConcurrentHashMap.Eviction.LRU
+			);
+
 	private final BiFunction<LockOptions, LoadQueryInfluencers, SingleIdLoadPlan<T>> loadPlanCreator;
 
 	public SingleIdEntityLoaderStandardImpl(
@@ -100,7 +111,7 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 			// This case is special because the filters need to be applied in order to
 			// properly restrict the SQL/JDBC results.  For this reason it has higher
 			// precedence than even "internal" fetch profiles.
-			return loadPlanCreator.apply( lockOptions, loadQueryInfluencers );
+			return getInfluencedLoadPlan( lockOptions, loadQueryInfluencers );
 		}
 		else if ( loadQueryInfluencers.hasEnabledCascadingFetchProfile()
 				&& LockMode.WRITE.greaterThan( lockOptions.getLockMode() ) ) {
@@ -138,8 +149,29 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 			}
 		}
 		else {
+			return getInfluencedLoadPlan( lockOptions, loadQueryInfluencers );
+		}
+	}
+
+	private SingleIdLoadPlan<T> getInfluencedLoadPlan(
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers) {
+		final LoadQueryInfluencersKey key = lockOptions.getTimeOut() == LockOptions.WAIT_FOREVER
+				? LoadQueryInfluencersKey.from( loadQueryInfluencers, lockOptions.getLockMode() )
+				: null;
+		if ( key == null ) {
 			return loadPlanCreator.apply( lockOptions, loadQueryInfluencers );
 		}
+
+		final SingleIdLoadPlan<T> existing = selectByInfluencers.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		else {
+			final SingleIdLoadPlan<T> plan = loadPlanCreator.apply( lockOptions, loadQueryInfluencers );
+			selectByInfluencers.put( key, plan );
+			return plan;
+		}
 	}
 
 	private SingleIdLoadPlan<T> getInternalCascadeLoadPlan(
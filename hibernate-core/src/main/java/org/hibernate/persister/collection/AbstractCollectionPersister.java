@@ -11,6 +11,7 @@ import org.hibernate.FetchMode;
 import org.hibernate.Filter;
 import org.hibernate.HibernateException;
 import org.hibernate.Internal;
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
@@ -43,12 +44,14 @@ import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
 import org.hibernate.loader.ast.internal.CollectionLoaderSingleKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
+import org.hibernate.loader.ast.internal.LoadQueryInfluencersKey;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
@@ -229,6 +232,15 @@ public abstract class AbstractCollectionPersister
 
 	private CollectionLoader collectionLoader;
 //	private volatile CollectionLoader standardCollectionLoader;
+
+	// loaders for the influencers affecting the collection, so that
+	// enabling the same filters again reuses the rendered SQL
+	private final Map<LoadQueryInfluencersKey, CollectionLoader> collectionLoadersByInfluencers =
+			new BoundedConcurrentHashMap<>(
+					LoadQueryInfluencersKey.MAX_INFLUENCED_LOADERS,
+					4,
+					BoundedConcurrentHashMap.Eviction.LRU
+			);
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -773,7 +785,19 @@ public abstract class AbstractCollectionPersister
 					.createCollectionBatchLoader( batchSize, loadQueryInfluencers, attributeMapping, factory );
 		}
 		else {
-			return createSingleKeyCollectionLoader( loadQueryInfluencers );
+			final LoadQueryInfluencersKey key = LoadQueryInfluencersKey.from( loadQueryInfluencers, LockMode.NONE );
+			if ( key == null ) {
+				return createSingleKeyCollectionLoader( loadQueryInfluencers );
+			}
+			final CollectionLoader existing = collectionLoadersByInfluencers.get( key );
+			if ( existing != null ) {
+				return existing;
+			}
+			else {
+				final CollectionLoader loader = createSingleKeyCollectionLoader( loadQueryInfluencers );
+				collectionLoadersByInfluencers.put( key, loader );
+				return loader;
+			}
 		}
 	}
 
@@ -350,6 +350,7 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final boolean adaptiveBatchLoadable;
 	private final boolean hasSubselectLoadableCollections;
 	private final boolean hasPartitionedSelectionMapping;
 	private final boolean hasCollectionNotReferencingPK;
@@ -526,6 +527,10 @@ public abstract class AbstractEntityPersister
 		batchSize = persistentClass.getBatchSize() < 0
 				? factory.getSessionFactoryOptions().getDefaultBatchFetchSize()
 				: persistentClass.getBatchSize();
+		// batches are adapted to the use of the proxies only when no other batch size applies
+		adaptiveBatchLoadable = persistentClass.getBatchSize() < 0
+				&& batchSize <= 1
+				&& sessionFactoryOptions.getAdaptiveBatchFetchSize() > 1;
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
 		hasPartitionedSelectionMapping = persistentClass.hasPartitionedSelectionMapping();
 		hasCollectionNotReferencingPK = persistentClass.hasCollectionNotReferencingPK();
@@ -850,6 +855,12 @@ public abstract class AbstractEntityPersister
 					.getService( BatchLoaderFactory.class )
 					.createEntityBatchLoader( batchSize, this, factory );
 		}
+		else if ( adaptiveBatchLoadable ) {
+			// the BatchFetchQueue sizes each batch, up to the adaptive batch fetch size
+			return factory.getServiceRegistry()
+					.getService( BatchLoaderFactory.class )
+					.createEntityBatchLoader( factory.getSessionFactoryOptions().getAdaptiveBatchFetchSize(), this, factory );
+		}
 		else {
 			return new SingleIdEntityLoaderStandardImpl<>( this, factory );
 		}
@@ -1721,6 +1732,11 @@ public abstract class AbstractEntityPersister
 		return batchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchLoadable() {
+		return adaptiveBatchLoadable;
+	}
+
 	@Override
 	public String[] getIdentifierColumnNames() {
 		return rootTableKeyColumnNames;
@@ -2863,6 +2879,16 @@ public abstract class AbstractEntityPersister
 		insertCoordinator.coordinateInsert( id, fields, object, session );
 	}
 
+	@Override
+	public boolean isMultiRowInsertSupported() {
+		return insertCoordinator.isMultiRowInsertSupported();
+	}
+
+	@Override
+	public Object[] insertMultiple(List<Object[]> fields, List<Object> objects, SharedSessionContractImplementor session) {
+		return insertCoordinator.coordinateMultiRowInsert( fields, objects, session );
+	}
+
 	protected EntityTableMapping[] getTableMappings() {
 		return tableMappings;
 	}
@@ -619,6 +619,35 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Can multiple instances with natively generated identifiers be persisted
+	 * using a single multi-row insert statement, via {@link #insertMultiple}?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.4
+	 */
+	default boolean isMultiRowInsertSupported() {
+		return false;
+	}
+
+	/**
+	 * Persist multiple instances, using natively generated identifiers and a
+	 * single multi-row insert statement (optional operation)
+	 *
+	 * @return The generated identifiers, in the order of the given instances
+	 *
+	 * @see #isMultiRowInsertSupported()
+	 *
+	 * @since 6.4
+	 */
+	default Object[] insertMultiple(List<Object[]> fields, List<Object> objects, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException(
+				"EntityPersister implementation '" + getClass().getName()
+						+ "' does not support multi-row inserts"
+		);
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -783,6 +812,20 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 		return getBatchSize() > 1;
 	}
 
+	/**
+	 * Is the size of the batches adapted to the use of the proxies which
+	 * were initialized ahead of their first access? If so, only the
+	 * initialization of a proxy fetches a batch, of at most the adaptive
+	 * batch fetch size, and {@link #getBatchSize()} is unaffected.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 *
+	 * @since 6.4
+	 */
+	default boolean isAdaptiveBatchLoadable() {
+		return false;
+	}
+
 	/**
 	 * Is select snapshot before update enabled?
 	 */
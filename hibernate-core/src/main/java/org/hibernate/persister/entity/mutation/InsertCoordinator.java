@@ -6,6 +6,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,11 +19,15 @@ import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
@@ -33,9 +39,15 @@ import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.MutationGroup;
+import org.hibernate.sql.model.ast.TableMutation;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
+import org.hibernate.sql.model.internal.MutationOperationGroupFactory;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.sql.model.jdbc.JdbcMultiRowInsertMutation;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import static org.hibernate.generator.EventType.INSERT;
@@ -51,6 +63,7 @@ import static org.hibernate.generator.EventType.INSERT;
 public class InsertCoordinator extends AbstractMutationCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	private final JdbcMultiRowInsertMutation multiRowIdentityInsert;
 
 	public InsertCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -70,9 +83,14 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 			// the entity specified dynamic-insert - skip generating the
 			// static inserts as we will create them every time
 			staticInsertGroup = null;
+			multiRowIdentityInsert = null;
 		}
 		else {
-			staticInsertGroup = generateStaticOperationGroup();
+			final MutationGroup staticMutationGroup = generateStaticMutationGroup();
+			staticInsertGroup = createStaticOperationGroup( staticMutationGroup );
+			multiRowIdentityInsert = factory.getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+					? resolveMultiRowIdentityInsert( staticMutationGroup )
+					: null;
 		}
 	}
 
@@ -80,6 +98,130 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 		return staticInsertGroup;
 	}
 
+	/**
+	 * Whether consecutive insertions may be executed as a single multi-row
+	 * {@code insert} statement, via {@link #coordinateMultiRowInsert}.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public boolean isMultiRowInsertSupported() {
+		return multiRowIdentityInsert != null;
+	}
+
+	/**
+	 * Perform the insert of multiple entities, the identifiers of which are
+	 * generated by the database, using a single multi-row {@code insert}
+	 * statement.
+	 *
+	 * @param values The extracted attribute values of each entity
+	 * @param entities The entity instances being persisted
+	 * @param session The originating context
+	 *
+	 * @return The generated ids, in the order of the given entities
+	 *
+	 * @see #isMultiRowInsertSupported()
+	 */
+	public Object[] coordinateMultiRowInsert(
+			List<Object[]> values,
+			List<Object> entities,
+			SharedSessionContractImplementor session) {
+		assert isMultiRowInsertSupported();
+		assert values.size() == entities.size();
+
+		for ( int i = 0; i < values.size(); i++ ) {
+			preInsertInMemoryValueGeneration( values.get( i ), entities.get( i ), session );
+		}
+
+		final JdbcMultiRowInsertMutation operation = multiRowIdentityInsert;
+		final int parameterCount = operation.getNumberOfParametersPerRow();
+		final String tableName = operation.getTableDetails().getTableName();
+		final JdbcValueBindingsImpl jdbcValueBindings = new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				entityPersister(),
+				(table, column, usage) -> operation.findValueDescriptor( column, usage ),
+				session
+		);
+
+		final int rowCount = values.size();
+		return entityPersister().getIdentityInsertDelegate().performMultiRowInsert(
+				operation.getMultiRowMutation( rowCount, factory() ).getSqlString(),
+				rowCount,
+				session,
+				new Binder() {
+					@Override
+					public void bindValues(PreparedStatement statement) throws SQLException {
+						for ( int row = 0; row < rowCount; row++ ) {
+							final Object[] rowValues = values.get( row );
+							decomposeForInsert(
+									jdbcValueBindings,
+									null,
+									rowValues,
+									staticInsertGroup,
+									entityPersister().getPropertyInsertability(),
+									getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), rowValues ) ),
+									session
+							);
+							final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+							if ( bindingGroup != null ) {
+								final int offset = row * parameterCount;
+								for ( Binding binding : bindingGroup.getBindings() ) {
+									binding.getValueBinder().bind(
+											statement,
+											binding.getValue(),
+											binding.getPosition() + offset,
+											session
+									);
+								}
+							}
+							jdbcValueBindings.afterStatement( operation.getTableDetails() );
+						}
+					}
+
+					@Override
+					public Object getEntity() {
+						return entities.get( 0 );
+					}
+				}
+		);
+	}
+
+	/**
+	 * The static single-row {@code insert} statement, as a statement which may
+	 * also be rendered as a multi-row statement, including any clause returning
+	 * the generated identifiers, if it's possible to execute it as such.
+	 */
+	private JdbcMultiRowInsertMutation resolveMultiRowIdentityInsert(MutationGroup mutationGroup) {
+		final AbstractEntityPersister persister = entityPersister();
+		final Dialect dialect = factory().getJdbcServices().getDialect();
+		final InsertGeneratedIdentifierDelegate identityDelegate = persister.getIdentityInsertDelegate();
+		if ( staticInsertGroup.getNumberOfOperations() != 1
+				|| mutationGroup.getNumberOfTableMutations() != 1
+				|| persister.hasInsertGeneratedProperties()
+				|| identityDelegate == null
+				|| !identityDelegate.supportsMultiRowInsert()
+				|| !dialect.supportsMultiRowInsertGeneratedKeys()
+				|| !dialect.supportsValuesListForInsert() ) {
+			return null;
+		}
+		final TableMutation<?> tableMutation = mutationGroup.getSingleTableMutation();
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		final EntityTableMapping tableMapping = (EntityTableMapping) operation.getTableDetails();
+		if ( !( tableMutation instanceof TableInsertStandard )
+				|| !( operation instanceof JdbcInsertMutation )
+				|| !tableMapping.isIdentifierTable()
+				|| tableMapping.getInsertCustomSql() != null ) {
+			return null;
+		}
+		final TableInsertStandard tableInsert = (TableInsertStandard) tableMutation;
+		final JdbcInsertMutation insertMutation = (JdbcInsertMutation) operation;
+		if ( tableInsert.getNumberOfValueBindings() == 0
+				|| insertMutation.isCallable()
+				|| insertMutation.getExpectation().getNumberOfParametersUsed() != 0 ) {
+			return null;
+		}
+		return new JdbcMultiRowInsertMutation( tableInsert, insertMutation, dialect.getParameterCountLimit() );
+	}
+
 	@Override
 	protected BatchKey getBatchKey() {
 		return batchKey;
@@ -197,7 +339,25 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	protected void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
@@ -341,12 +501,60 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 	}
 
 	public MutationOperationGroup generateStaticOperationGroup() {
+		return createStaticOperationGroup( generateStaticMutationGroup() );
+	}
+
+	private MutationGroup generateStaticMutationGroup() {
 		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
 		entityPersister().forEachMutableTable(
 				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping ) )
 		);
 		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability() );
-		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+		return insertGroupBuilder.buildMutationGroup();
+	}
+
+	private MutationOperationGroup createStaticOperationGroup(MutationGroup mutationGroup) {
+		final MutationOperationGroup operationGroup = createOperationGroup( null, mutationGroup );
+		return factory().getSessionFactoryOptions().isMultiRowInsertBatchingEnabled()
+				? resolveMultiRowInsertGroup( mutationGroup, operationGroup )
+				: operationGroup;
+	}
+
+	/**
+	 * Replace the single-row {@code insert} statement of the group with one which
+	 * may also be executed as a multi-row statement, if the entity is mapped to a
+	 * single table, and its identifier isn't generated by the insertion.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	private MutationOperationGroup resolveMultiRowInsertGroup(
+			MutationGroup mutationGroup,
+			MutationOperationGroup operationGroup) {
+		final Dialect dialect = factory().getJdbcServices().getDialect();
+		if ( operationGroup.getNumberOfOperations() != 1
+				|| mutationGroup.getNumberOfTableMutations() != 1
+				|| entityPersister().getIdentityInsertDelegate() != null
+				|| !dialect.supportsValuesListForInsert() ) {
+			return operationGroup;
+		}
+		final TableMutation<?> tableMutation = mutationGroup.getSingleTableMutation();
+		final MutationOperation operation = operationGroup.getSingleOperation();
+		if ( !( tableMutation instanceof TableInsertStandard )
+				|| !( operation instanceof JdbcInsertMutation ) ) {
+			return operationGroup;
+		}
+		final TableInsertStandard tableInsert = (TableInsertStandard) tableMutation;
+		final JdbcInsertMutation insertMutation = (JdbcInsertMutation) operation;
+		if ( tableInsert.getNumberOfValueBindings() == 0
+				|| tableInsert.getNumberOfReturningColumns() != 0
+				|| insertMutation.isCallable()
+				|| insertMutation.getExpectation().getNumberOfParametersUsed() != 0 ) {
+			return operationGroup;
+		}
+		return MutationOperationGroupFactory.singleOperation(
+				mutationGroup,
+				new JdbcMultiRowInsertMutation( tableInsert, insertMutation, dialect.getParameterCountLimit() )
+		);
 	}
 
 	private TableInsertBuilder createTableInsertBuilder(EntityTableMapping tableMapping) {
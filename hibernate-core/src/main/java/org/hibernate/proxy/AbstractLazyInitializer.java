@@ -8,6 +8,7 @@ package org.hibernate.proxy;
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Internal;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.SessionException;
 import org.hibernate.TransientObjectException;
@@ -43,6 +44,7 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	private String sessionFactoryUuid;
 	private String sessionFactoryName;
 	private boolean allowLoadOutsideTransaction;
+	private transient boolean fetchedAhead;
 
 	/**
 	 * Main constructor.
@@ -255,8 +257,8 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 			final EntityPersister entityDescriptor = getSession().getFactory().getRuntimeMetamodels()
 					.getMappingMetamodel()
 					.getEntityDescriptor( getEntityName() );
-			final EntityKey key = session.generateEntityKey( getInternalIdentifier(), entityDescriptor );
-			final Object entity = session.getPersistenceContextInternal().getEntity( key );
+			final Object entity = session.getPersistenceContextInternal()
+					.getEntity( getInternalIdentifier(), entityDescriptor );
 			if ( entity != null ) {
 				setImplementation( entity );
 			}
@@ -312,9 +314,28 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	@Override
 	public final Object getImplementation() {
 		initialize();
+		if ( fetchedAhead ) {
+			fetchedAhead = false;
+			if ( isConnectedToSession() ) {
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.fetchedAheadEntityAccessed( entityName );
+			}
+		}
 		return target;
 	}
 
+	/**
+	 * Marks the proxy as initialized ahead of its first access by an adaptive batch,
+	 * so that its first access is reported to the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue} of the session.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_SIZE
+	 */
+	@Internal
+	public final void markFetchedAhead() {
+		fetchedAhead = true;
+	}
+
 	@Override
 	public final void setImplementation(Object target) {
 		this.target = target;
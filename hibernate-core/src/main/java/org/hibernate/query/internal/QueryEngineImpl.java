@@ -16,6 +16,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
@@ -202,7 +203,27 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final String eviction = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_PLAN_CACHE_EVICTION,
+					properties,
+					"lirs"
+			);
+			if ( "tinylfu".equalsIgnoreCase( eviction ) ) {
+				return new QueryInterpretationCacheStandardImpl(
+						size,
+						QueryInterpretationCacheStandardImpl.Eviction.TINY_LFU,
+						statisticsSupplier
+				);
+			}
+			else if ( "lirs".equalsIgnoreCase( eviction ) ) {
+				return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			}
+			else {
+				throw new ConfigurationException(
+						"Unrecognized query plan cache eviction policy '" + eviction + "' specified by setting '"
+								+ AvailableSettings.QUERY_PLAN_CACHE_EVICTION + "' (should be 'lirs' or 'tinylfu')"
+				);
+			}
 		}
 		else {
 			// disabled
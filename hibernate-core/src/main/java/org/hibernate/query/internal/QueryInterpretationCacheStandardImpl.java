@@ -7,10 +7,12 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedTinyLfuCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -28,7 +30,8 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
 
 /**
- * Standard QueryInterpretationCache implementation
+ * Standard QueryInterpretationCache implementation, whose bounded caches
+ * use the given {@linkplain Eviction eviction policy}.
  *
  * @author Steve Ebersole
  */
@@ -38,21 +41,36 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedCache<Object, HqlInterpretation> hqlInterpretationCache;
+	private final BoundedCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, Eviction.LIRS, statisticsSupplier );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Eviction eviction,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting QueryInterpretationCache(%s) using %s eviction", maxQueryPlanCount, eviction );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = eviction.create( maxQueryPlanCount, this::queryPlanEvicted );
+		this.hqlInterpretationCache = eviction.create( maxQueryPlanCount, null );
+		this.nativeQueryParamCache = eviction.create( maxQueryPlanCount, null );
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
+	private void queryPlanEvicted(Key key) {
+		log.tracef( "QueryPlan#evicted(%s)", key );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -212,7 +230,111 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		queryPlanCache.clear();
 	}
 
-	private static final class HqlInterpretationCacheKey {
+	/**
+	 * The eviction policy of the bounded caches.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION
+	 */
+	public enum Eviction {
+		/**
+		 * A segmented hash map using the LIRS policy. Its evictions are not reported.
+		 */
+		LIRS {
+			@Override
+			<K, V> BoundedCache<K, V> create(int maximumSize, Consumer<K> evictionListener) {
+				final BoundedConcurrentHashMap<K, V> map =
+						new BoundedConcurrentHashMap<>( maximumSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				return new BoundedCache<>() {
+					@Override
+					public V get(Object key) {
+						return map.get( key );
+					}
+
+					@Override
+					public void put(K key, V value) {
+						map.put( key, value );
+					}
+
+					@Override
+					public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+						return map.computeIfAbsent( key, mappingFunction );
+					}
+
+					@Override
+					public int size() {
+						return map.size();
+					}
+
+					@Override
+					public void clear() {
+						map.clear();
+					}
+				};
+			}
+		},
+		/**
+		 * A {@link BoundedTinyLfuCache}, whose cache hits never acquire a lock.
+		 */
+		TINY_LFU {
+			@Override
+			<K, V> BoundedCache<K, V> create(int maximumSize, Consumer<K> evictionListener) {
+				final BoundedTinyLfuCache<K, V> cache = evictionListener == null
+						? new BoundedTinyLfuCache<>( maximumSize )
+						: new BoundedTinyLfuCache<>( maximumSize, evictionListener );
+				return new BoundedCache<>() {
+					@Override
+					public V get(Object key) {
+						return cache.get( key );
+					}
+
+					@Override
+					public void put(K key, V value) {
+						cache.put( key, value );
+					}
+
+					@Override
+					public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+						return cache.computeIfAbsent( key, mappingFunction );
+					}
+
+					@Override
+					public int size() {
+						return cache.size();
+					}
+
+					@Override
+					public void clear() {
+						cache.clear();
+					}
+				};
+			}
+		};
+
+		/**
+		 * Creates a bounded cache.
+		 *
+		 * @param maximumSize The maximum number of entries
+		 * @param evictionListener Notified of the keys of evicted entries, may be {@code null}
+		 */
+		abstract <K, V> BoundedCache<K, V> create(int maximumSize, Consumer<K> evictionListener);
+	}
+
+	/**
+	 * The operations of a bounded cache used by the query interpretation cache.
+	 */
+	interface BoundedCache<K, V> {
+		V get(Object key);
+
+		void put(K key, V value);
+
+		V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+		int size();
+
+		void clear();
+	}
+
+	static final class HqlInterpretationCacheKey {
 		private final String queryString;
 		private final Class<?> expectedResultType;
 
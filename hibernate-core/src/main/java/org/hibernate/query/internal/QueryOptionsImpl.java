@@ -39,6 +39,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private final Limit limit = new Limit();
 	private final LockOptions lockOptions = new LockOptions();
 	private Integer fetchSize;
+	private Integer streamDetachWindow;
 	private CacheRetrieveMode cacheRetrieveMode;
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
@@ -125,6 +126,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public Integer getStreamDetachWindow() {
+		return streamDetachWindow;
+	}
+
+	@Override
+	public void setStreamDetachWindow(Integer streamDetachWindow) {
+		this.streamDetachWindow = streamDetachWindow;
+	}
+
 	@Override
 	public CacheRetrieveMode getCacheRetrieveMode() {
 		return cacheRetrieveMode;
@@ -72,6 +72,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_DETACH_WINDOW;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -184,6 +185,7 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
+		putIfNotNull( hints, HINT_STREAM_DETACH_WINDOW, getQueryOptions().getStreamDetachWindow() );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
@@ -304,6 +306,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_QUERY_PLAN_CACHEABLE:
 					applyQueryPlanCacheableHint( getBoolean( value ) );
 					return true;
+				case HINT_STREAM_DETACH_WINDOW:
+					applyStreamDetachWindowHint( getInteger( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					applyCacheableHint( getBoolean( value ) );
 					return true;
@@ -352,6 +357,13 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setQueryPlanCachingEnabled( isCacheable );
 	}
 
+	protected void applyStreamDetachWindowHint(int streamDetachWindow) {
+		if ( streamDetachWindow < 1 ) {
+			throw new IllegalArgumentException( "Stream detach window must be positive: " + streamDetachWindow );
+		}
+		getQueryOptions().setStreamDetachWindow( streamDetachWindow );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
@@ -111,6 +111,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getFetchSize();
 	}
 
+	@Override
+	public Integer getStreamDetachWindow() {
+		return queryOptions.getStreamDetachWindow();
+	}
+
 	@Override
 	public Set<String> getEnabledFetchProfiles() {
 		return queryOptions.getEnabledFetchProfiles();
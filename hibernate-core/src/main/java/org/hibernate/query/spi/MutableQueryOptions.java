@@ -74,6 +74,14 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Corollary to {@link #getStreamDetachWindow()}, ignored by default
+	 *
+	 * @since 6.4
+	 */
+	default void setStreamDetachWindow(Integer streamDetachWindow) {
+	}
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
@@ -143,6 +143,22 @@ public interface QueryOptions {
 	 */
 	Integer getFetchSize();
 
+	/**
+	 * The number of rows of a {@linkplain org.hibernate.ScrollableResults scrolled}
+	 * or {@linkplain org.hibernate.query.SelectionQuery#stream streamed} result
+	 * for which the entities loaded along with a row are kept in the persistence
+	 * context.  The entities are automatically detached once the consumer has
+	 * advanced past them by this many rows.  If {@code null}, the entities are
+	 * never detached automatically.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_DETACH_WINDOW
+	 *
+	 * @since 6.4
+	 */
+	default Integer getStreamDetachWindow() {
+		return null;
+	}
+
 	/**
 	 * The limit to the query results.  May also be accessed via
 	 * {@link #getFirstRow} and {@link #getMaxRows}
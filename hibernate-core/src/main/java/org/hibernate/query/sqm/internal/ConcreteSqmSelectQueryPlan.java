@@ -7,9 +7,14 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
@@ -21,21 +26,26 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.sql.internal.InArrayJdbcParameter;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -72,8 +82,33 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
+	/**
+	 * The maximum number of interpretations kept for the different sizes
+	 * of the lists bound to the parameters of the query, the least recently
+	 * used interpretation being evicted beyond
+	 */
+	private static final int MAX_PARAMETER_LIST_INTERPRETATIONS = 32;
+
+	/**
+	 * The size recorded for a list bound as a single array, since the interpretation
+	 * then serves all the sizes of the list
+	 */
+	private static final int ARRAY_LIST_SIZE = -2;
+
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
+	// The parameters allowing multi-valued bindings, and the interpretations of the
+	// query for the different sizes of the lists bound to them
+	private final List<QueryParameterImplementor<?>> listParameters;
+	private final Set<QueryParameterImplementor<?>> paddedListParameters;
+	private final Set<QueryParameterImplementor<?>> arrayListParameters;
+	private final Map<ParameterListSizes, CacheableSqmInterpretation> parameterListInterpretations;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock interpretationLock = new ReentrantLock();
+
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
 			String hql,
@@ -84,6 +119,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
 
+		this.listParameters = new ArrayList<>();
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				listParameters.add( queryParameter );
+			}
+		}
+		if ( listParameters.isEmpty() ) {
+			this.paddedListParameters = Collections.emptySet();
+			this.arrayListParameters = Collections.emptySet();
+			this.parameterListInterpretations = Collections.emptyMap();
+		}
+		else {
+			this.paddedListParameters = InListParameterCollector.collectInListParameters( sqm, domainParameterXref );
+			this.arrayListParameters = ConcurrentHashMap.newKeySet();
+			this.parameterListInterpretations = new BoundedConcurrentHashMap<>(
+					MAX_PARAMETER_LIST_INTERPRETATIONS,
+					4,
+					BoundedConcurrentHashMap.Eviction.LRU
+			);
+		}
+
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
 		final ListResultsConsumer.UniqueSemantic uniqueSemantic;
@@ -96,65 +152,53 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						uniqueSemantic
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					uniqueSemantic
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		entity graphs, etc - because those all cause the plan to not be
+		//		cached.  Multi-valued parameter expansion does not veto caching
+		//		of the plan, instead an interpretation is kept for each size of
+		//		the bound lists - see `#withParameterListInterpretation`.
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -257,14 +301,20 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
+		//		to protect access.  However, a simple lock is enough here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
+		final ParameterListSizes parameterListSizes = determineParameterListSizes( executionContext );
+		if ( parameterListSizes != null ) {
+			return withParameterListInterpretation( parameterListSizes, executionContext, context, interpreter );
+		}
+
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			interpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -277,6 +327,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					cacheableSqmInterpretation = localCopy;
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -305,11 +358,122 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * Execute the query with the interpretation translated for the sizes of the lists
+	 * bound to its parameters.  Each interpretation is translated with its own copy of
+	 * the {@link DomainParameterXref}, since the translation adds an expansion to the
+	 * xref for each element of the lists.
+	 */
+	private <T, X> T withParameterListInterpretation(
+			ParameterListSizes parameterListSizes,
+			DomainQueryExecutionContext executionContext,
+			X context,
+			SqmInterpreter<T, X> interpreter) {
+		CacheableSqmInterpretation interpretation = parameterListInterpretations.get( parameterListSizes );
+		JdbcParameterBindings jdbcParameterBindings = null;
+
+		if ( interpretation != null ) {
+			if ( interpretation.jdbcSelect.dependsOnParameterBindings() ) {
+				jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			}
+			if ( !interpretation.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation = null;
+				jdbcParameterBindings = null;
+			}
+		}
+
+		if ( interpretation == null ) {
+			interpretation = buildCacheableSqmInterpretation( sqm, domainParameterXref.copy(), executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			collectArrayListParameters( interpretation );
+			parameterListInterpretations.put( determineParameterListSizes( executionContext ), interpretation );
+		}
+		else if ( jdbcParameterBindings == null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+		}
+
+		return interpreter.interpret( context, executionContext, interpretation, jdbcParameterBindings );
+	}
+
+	/**
+	 * Determine the sizes of the lists bound to the parameters of the query,
+	 * padded when {@code in} clause parameter padding is enabled, or return
+	 * {@code null} if no parameter is bound to a list.
+	 */
+	private ParameterListSizes determineParameterListSizes(DomainQueryExecutionContext executionContext) {
+		if ( listParameters.isEmpty() ) {
+			return null;
+		}
+
+		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+		final boolean paddingEnabled = sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int inExprLimit = sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+
+		final int[] sizes = new int[listParameters.size()];
+		boolean multiValued = false;
+		for ( int i = 0; i < sizes.length; i++ ) {
+			final QueryParameterImplementor<?> listParameter = listParameters.get( i );
+			final QueryParameterBinding<?> binding = parameterBindings.getBinding( listParameter );
+			if ( binding.isMultiValued() ) {
+				multiValued = true;
+				if ( arrayListParameters.contains( listParameter ) ) {
+					sizes[i] = ARRAY_LIST_SIZE;
+					continue;
+				}
+				final int size = binding.getBindValues().size();
+				// the lists of parameters only used as the single element of an
+				// in list predicate are padded by the translation, so all the
+				// sizes with the same padding share the interpretation
+				sizes[i] = size > 0 && paddingEnabled && paddedListParameters.contains( listParameter )
+						? AbstractSqlAstTranslator.addPadding( size, inExprLimit )
+						: size;
+			}
+			else {
+				sizes[i] = -1;
+			}
+		}
+		return multiValued ? new ParameterListSizes( sizes ) : null;
+	}
+
+	/**
+	 * Remember the parameters whose lists were bound as a single array by the given
+	 * interpretation, as per {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER},
+	 * since the size of these lists then doesn't affect the interpretation.
+	 */
+	private void collectArrayListParameters(CacheableSqmInterpretation interpretation) {
+		for ( QueryParameterImplementor<?> listParameter : listParameters ) {
+			if ( !arrayListParameters.contains( listParameter )
+					&& isBoundAsArray( interpretation.getJdbcParamsXref().get( listParameter ) ) ) {
+				arrayListParameters.add( listParameter );
+			}
+		}
+	}
+
+	private static boolean isBoundAsArray(Map<SqmParameter<?>, List<JdbcParametersList>> jdbcParamsBySqmParam) {
+		if ( jdbcParamsBySqmParam == null || jdbcParamsBySqmParam.isEmpty() ) {
+			return false;
+		}
+		for ( List<JdbcParametersList> jdbcParamsLists : jdbcParamsBySqmParam.values() ) {
+			if ( jdbcParamsLists == null ) {
+				return false;
+			}
+			for ( int i = 0; i < jdbcParamsLists.size(); i++ ) {
+				final JdbcParametersList jdbcParams = jdbcParamsLists.get( i );
+				if ( jdbcParams.size() != 1 || !( jdbcParams.get( 0 ) instanceof InArrayJdbcParameter ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -375,6 +539,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -393,6 +558,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -401,12 +567,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -424,6 +592,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -441,6 +613,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		}
 	}
 
+	private static final class ParameterListSizes {
+		private final int[] sizes;
+		private final int hashCode;
+
+		ParameterListSizes(int[] sizes) {
+			this.sizes = sizes;
+			this.hashCode = Arrays.hashCode( sizes );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ParameterListSizes
+					&& Arrays.equals( sizes, ( (ParameterListSizes) o ).sizes );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private static class MySqmJdbcExecutionContextAdapter extends SqmJdbcExecutionContextAdapter {
 		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
 		private final String hql;
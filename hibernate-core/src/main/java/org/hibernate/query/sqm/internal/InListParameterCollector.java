@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+
+/**
+ * Collects the query parameters which only occur as the single element of the
+ * list of an {@code in} predicate, for example {@code :ids} in {@code id in :ids}.
+ * <p>
+ * A list bound to such a parameter can be padded with copies of its last element
+ * without changing the meaning of the query, which allows the SQL translated for a
+ * list to be reused for all the lists having the same padded size.
+ */
+public class InListParameterCollector extends BaseSemanticQueryWalker {
+
+	public static Set<QueryParameterImplementor<?>> collectInListParameters(
+			SqmStatement<?> statement,
+			DomainParameterXref domainParameterXref) {
+		final InListParameterCollector collector = new InListParameterCollector( domainParameterXref );
+		statement.accept( collector );
+		collector.inListParameters.removeAll( collector.otherParameters );
+		return collector.inListParameters.isEmpty()
+				? Collections.emptySet()
+				: collector.inListParameters;
+	}
+
+	private final DomainParameterXref domainParameterXref;
+	private final Set<QueryParameterImplementor<?>> inListParameters = new HashSet<>();
+	private final Set<QueryParameterImplementor<?>> otherParameters = new HashSet<>();
+
+	private InListParameterCollector(DomainParameterXref domainParameterXref) {
+		this.domainParameterXref = domainParameterXref;
+	}
+
+	@Override
+	public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+		final List<? extends SqmExpression<?>> listExpressions = predicate.getListExpressions();
+		if ( listExpressions.size() == 1 && listExpressions.get( 0 ) instanceof SqmParameter ) {
+			predicate.getTestExpression().accept( this );
+			addParameter( inListParameters, (SqmParameter<?>) listExpressions.get( 0 ) );
+			return predicate;
+		}
+		return super.visitInListPredicate( predicate );
+	}
+
+	@Override
+	public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+		addParameter( otherParameters, expression );
+		return expression;
+	}
+
+	@Override
+	public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+		addParameter( otherParameters, expression );
+		return expression;
+	}
+
+	@Override
+	public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+		otherParameters.add( expression );
+		return expression;
+	}
+
+	private void addParameter(Set<QueryParameterImplementor<?>> parameters, SqmParameter<?> sqmParameter) {
+		final QueryParameterImplementor<?> queryParameter = domainParameterXref.getQueryParameter( sqmParameter );
+		if ( queryParameter != null ) {
+			parameters.add( queryParameter );
+		}
+	}
+}
@@ -10,7 +10,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -20,7 +19,6 @@ import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
-import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
 
 /**
@@ -33,7 +31,6 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
@@ -89,14 +86,9 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 				// At the moment we cannot cache query plan if there is filter enabled.
 			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null;
+		// Note that multi-valued parameters don't prevent caching, since the plan
+		// keeps an interpretation per size of the lists bound to the parameters
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
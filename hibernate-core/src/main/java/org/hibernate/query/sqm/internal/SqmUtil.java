@@ -42,6 +42,7 @@ import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SqmQuerySource;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.internal.InArrayJdbcParameter;
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
@@ -263,6 +264,20 @@ public class SqmUtil {
 						);
 					}
 				}
+				else if ( domainParamBinding.isMultiValued()
+						&& jdbcParamsBinds.get( 0 ).get( 0 ) instanceof InArrayJdbcParameter ) {
+					// the list is bound as a single array
+					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+						final InArrayJdbcParameter jdbcParameter = (InArrayJdbcParameter) jdbcParamsBinds.get( i ).get( 0 );
+						jdbcParameterBindings.addBinding(
+								jdbcParameter,
+								new JdbcParameterBindingImpl(
+										jdbcParameter.getJdbcMapping(),
+										jdbcParameter.toArray( domainParamBinding.getBindValues(), session )
+								)
+						);
+					}
+				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
@@ -285,12 +300,17 @@ public class SqmUtil {
 
 					// an then one for each of the expansions
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					final int expansionCount = bindValues.size() - 1;
 					final int parameterUseCount = jdbcParamsBinds.size();
+					// the list might have been padded when translated, in which case there are
+					// more expansions than bind values, and the padding is bound to the last value
+					final int expansionCount = expansions.size() / parameterUseCount;
 					assert expansions.size() == expansionCount * parameterUseCount;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final Object expandedValue = valueItr.next();
+					assert expansionCount >= bindValues.size() - 1;
+					Object expandedValue = firstValue;
+					for ( int expansionPosition = 0; expansionPosition < expansionCount; expansionPosition++ ) {
+						if ( valueItr.hasNext() ) {
+							expandedValue = valueItr.next();
+						}
 						for ( int j = 0; j < parameterUseCount; j++ ) {
 							final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
 							final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
@@ -308,7 +328,6 @@ public class SqmUtil {
 								);
 							}
 						}
-						expansionPosition++;
 					}
 				}
 				else if ( domainParamBinding.getBindValue() == null ) {
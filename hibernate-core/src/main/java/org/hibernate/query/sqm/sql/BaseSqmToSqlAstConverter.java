@@ -35,6 +35,7 @@ import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.AssociationKey;
@@ -125,6 +126,7 @@ import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescript
 import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpression;
 import org.hibernate.query.sqm.function.SelfRenderingFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.InListParameterCollector;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
 import org.hibernate.query.sqm.mutation.internal.SqmInsertStrategyHelper;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
@@ -137,6 +139,7 @@ import org.hibernate.query.sqm.sql.internal.DomainResultProducer;
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedExpression;
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.EntityValuedPathInterpretation;
+import org.hibernate.query.sqm.sql.internal.InArrayJdbcParameter;
 import org.hibernate.query.sqm.sql.internal.NonAggregatedCompositeValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.PluralValuedSimplePathInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqlAstProcessingStateImpl;
@@ -269,6 +272,7 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.SqlTreeCreationException;
 import org.hibernate.sql.ast.SqlTreeCreationLogger;
+import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.spi.SqlAliasBase;
 import org.hibernate.sql.ast.spi.SqlAliasBaseGenerator;
@@ -341,6 +345,7 @@ import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -381,6 +386,7 @@ import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiati
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.internal.StandardEntityGraphTraversalStateImpl;
+import org.hibernate.type.BasicPluralType;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BottomType;
 import org.hibernate.type.JavaObjectType;
@@ -395,6 +401,7 @@ import org.hibernate.usertype.UserVersionType;
 import org.hibernate.usertype.internal.AbstractTimeZoneStorageCompositeUserType;
 import org.jboss.logging.Logger;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.PreparedStatement;
@@ -443,6 +450,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 	private final SqlAstCreationContext creationContext;
 	private final boolean jpaQueryComplianceEnabled;
 	private final SqmStatement<?> statement;
+	private Set<QueryParameterImplementor<?>> inListParameters;
 
 	private final QueryOptions queryOptions;
 	private final LoadQueryInfluencers loadQueryInfluencers;
@@ -5637,7 +5645,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				for ( List<JdbcParameter> parameters : jdbcParamsForSqmParameter ) {
 					assert parameters.size() == 1;
 					final JdbcParameter jdbcParameter = parameters.get( 0 );
-					if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
+					if ( !( jdbcParameter instanceof InArrayJdbcParameter )
+							&& ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
 						final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
 						parameters.set( 0, newJdbcParameter );
 						jdbcParameters.getJdbcParameters().remove( jdbcParameter );
@@ -7667,6 +7676,10 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				final SqmParameter<?> sqmParameter = (SqmParameter<?>) sqmExpression;
 
 				if ( sqmParameter.allowMultiValuedBinding() ) {
+					final Predicate arrayCase = processInListWithArrayParameter( predicate, sqmParameter );
+					if ( arrayCase != null ) {
+						return arrayCase;
+					}
 					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
 						handleTypeComparison( specialCase );
@@ -7751,6 +7764,73 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Bind the list bound to the parameter as a single array when
+	 * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER} is enabled,
+	 * so that the SQL doesn't depend on the size of the list.  Returns {@code null} if
+	 * the parameter is not bound to a list, or the list can't be bound as an array.
+	 */
+	private Predicate processInListWithArrayParameter(
+			SqmInListPredicate<?> sqmPredicate,
+			SqmParameter<?> sqmParameter) {
+		if ( !creationContext.getSessionFactory().getSessionFactoryOptions().inClauseArrayParameterEnabled()
+				|| !getDialect().useArrayForMultiValuedParameters() ) {
+			return null;
+		}
+
+		final QueryParameterImplementor<?> domainParam;
+		final SqmParameter<?> sqmParameterToConsume;
+		if ( sqmParameter instanceof JpaCriteriaParameter ) {
+			domainParam = (JpaCriteriaParameter<?>) sqmParameter;
+			sqmParameterToConsume = jpaCriteriaParamResolutions.get( sqmParameter );
+		}
+		else {
+			domainParam = domainParameterXref.getQueryParameter( sqmParameter );
+			sqmParameterToConsume = sqmParameter;
+		}
+		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
+		// a parameter also occurring outside in lists must be expanded anyway
+		if ( !domainParamBinding.isMultiValued() || !getInListParameters().contains( domainParam ) ) {
+			return null;
+		}
+
+		final MappingModelExpressible<?> valueMapping = determineValueMapping(
+				sqmPredicate.getTestExpression(),
+				fromClauseIndexStack.getCurrent()
+		);
+		if ( !( valueMapping instanceof BasicValuedMapping ) ) {
+			return null;
+		}
+		final JdbcMapping elementJdbcMapping = ( (BasicValuedMapping) valueMapping ).getJdbcMapping();
+		if ( !( elementJdbcMapping instanceof BasicType<?> )
+				|| elementJdbcMapping instanceof BasicPluralType<?, ?>
+				|| elementJdbcMapping.getValueConverter() != null ) {
+			return null;
+		}
+		final Class<?> arrayClass = Array.newInstance(
+				elementJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass(),
+				0
+		).getClass();
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( arrayClass ),
+				elementJdbcMapping,
+				arrayClass,
+				creationContext.getSessionFactory()
+		);
+
+		final Expression testExpression = (Expression) sqmPredicate.getTestExpression().accept( this );
+		final JdbcParameter jdbcParameter = new InArrayJdbcParameter( arrayJdbcMapping, elementJdbcMapping );
+		sqmParameterMappingModelTypes.put( sqmParameterToConsume, valueMapping );
+		jdbcParameters.addParameter( jdbcParameter );
+		jdbcParamsBySqmParam.computeIfAbsent( sqmParameterToConsume, k -> new ArrayList<>( 1 ) )
+				.add( Collections.singletonList( jdbcParameter ) );
+		//noinspection rawtypes,unchecked
+		domainParamBinding.setType( (MappingModelExpressible) valueMapping );
+
+		final InArrayPredicate inArrayPredicate = new InArrayPredicate( testExpression, jdbcParameter, getBooleanType() );
+		return sqmPredicate.isNegated() ? new NegatedPredicate( inArrayPredicate ) : inArrayPredicate;
+	}
+
 	private InListPredicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
@@ -7816,12 +7896,28 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		try {
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
 			iterator.next();
+			int bindValueCount = 1;
 			while ( iterator.hasNext() ) {
 				iterator.next();
 				// for each bind value create an "expansion"
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+				bindValueCount++;
+			}
+			if ( isPaddedInListParameter( domainParam ) ) {
+				// pad the list here rather than when rendering it, so that the translation can
+				// be reused for all the lists with the same padded size: the expansions added
+				// for the padding are bound to the last value of the list
+				final int bindValueCountWithPadding = AbstractSqlAstTranslator.addPadding(
+						bindValueCount,
+						getDialect().getInExpressionCountLimit()
+				);
+				for ( int i = bindValueCount; i < bindValueCountWithPadding; i++ ) {
+					final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
+					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+					inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
+				}
 			}
 			return inListPredicate;
 		}
@@ -7830,6 +7926,23 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Whether the lists bound to the given parameter are padded, which requires
+	 * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} and
+	 * that the parameter only occurs as the single element of {@code in} lists.
+	 */
+	private boolean isPaddedInListParameter(QueryParameterImplementor<?> domainParam) {
+		return creationContext.getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				&& getInListParameters().contains( domainParam );
+	}
+
+	private Set<QueryParameterImplementor<?>> getInListParameters() {
+		if ( inListParameters == null ) {
+			inListParameters = InListParameterCollector.collectInListParameters( statement, domainParameterXref );
+		}
+		return inListParameters;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
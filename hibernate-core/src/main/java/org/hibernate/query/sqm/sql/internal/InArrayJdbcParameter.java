@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.sql.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * The JDBC parameter of an {@link org.hibernate.sql.ast.tree.predicate.InArrayPredicate}
+ * to which the list bound to a multi-valued query parameter is bound as a single array.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER
+ */
+public class InArrayJdbcParameter extends AbstractJdbcParameter {
+	private final JdbcMapping elementJdbcMapping;
+
+	public InArrayJdbcParameter(JdbcMapping arrayJdbcMapping, JdbcMapping elementJdbcMapping) {
+		super( arrayJdbcMapping );
+		this.elementJdbcMapping = elementJdbcMapping;
+	}
+
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+
+	/**
+	 * Create the array bound to this parameter from the values of a multi-valued binding
+	 */
+	public Object toArray(Collection<?> values, SharedSessionContractImplementor session) {
+		//noinspection unchecked
+		final JavaType<Object> elementJavaType = (JavaType<Object>) elementJdbcMapping.getJavaTypeDescriptor();
+		final Object array = Array.newInstance( elementJavaType.getJavaTypeClass(), values.size() );
+		int index = 0;
+		for ( Object value : values ) {
+			Array.set( array, index++, elementJavaType.wrap( value, session ) );
+		}
+		return array;
+	}
+}
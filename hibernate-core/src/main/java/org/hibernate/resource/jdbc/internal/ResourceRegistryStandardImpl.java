@@ -14,6 +14,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.function.Predicate;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -50,6 +51,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final Predicate<Statement> statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -65,7 +67,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache Offered the statements being released, and returning {@code true}
+	 * if it takes a statement back, in which case the statement is not closed; may be null
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, Predicate<Statement> statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -105,7 +116,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		releaseStatement( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -160,9 +171,15 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		releaseStatement( s );
+	}
+
+	private void releaseStatement(final Statement statement) {
+		if ( statementCache == null || !statementCache.test( statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -332,7 +349,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
@@ -23,12 +23,21 @@ public interface JdbcObserver {
 	void jdbcConnectionReleaseEnd();
 
 	void jdbcPrepareStatementStart();
+	default void jdbcPrepareStatementStart(String sql) {
+		jdbcPrepareStatementStart();
+	}
 	void jdbcPrepareStatementEnd();
 
 	void jdbcExecuteStatementStart();
+	default void jdbcExecuteStatementStart(String sql) {
+		jdbcExecuteStatementStart();
+	}
 	void jdbcExecuteStatementEnd();
 
 	void jdbcExecuteBatchStart();
+	default void jdbcExecuteBatchStart(String sql) {
+		jdbcExecuteBatchStart();
+	}
 	void jdbcExecuteBatchEnd();
 
 	default void jdbcReleaseRegistryResourcesStart() {}
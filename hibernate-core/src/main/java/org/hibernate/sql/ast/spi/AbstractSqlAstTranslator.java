@@ -201,6 +201,7 @@ import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableDeleteCustomSql;
 import org.hibernate.sql.model.internal.TableDeleteStandard;
 import org.hibernate.sql.model.internal.TableInsertCustomSql;
+import org.hibernate.sql.model.internal.TableInsertMultiRow;
 import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.sql.model.internal.TableUpdateCustomSql;
 import org.hibernate.sql.model.internal.TableUpdateStandard;
@@ -6998,7 +6999,16 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( OPEN_PARENTHESIS );
 	}
 
-	private static int addPadding(int bindValueCount, int inExprLimit) {
+	/**
+	 * The number of parameters of an {@code in} list of the given size when
+	 * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+	 * is enabled.
+	 *
+	 * @param bindValueCount The number of values of the {@code in} list
+	 * @param inExprLimit The maximum number of expressions of an {@code in} list,
+	 * or {@code 0} if there is no limit
+	 */
+	public static int addPadding(int bindValueCount, int inExprLimit) {
 		int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
 		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
 			return ceilingPowerOfTwo;
@@ -7994,12 +8004,20 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		try {
 			sqlBuffer.append( ") values (" );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
+			final int numberOfRows = tableInsert instanceof TableInsertMultiRow
+					? ( (TableInsertMultiRow) tableInsert ).getNumberOfRows()
+					: 1;
+			for ( int row = 0; row < numberOfRows; row++ ) {
+				if ( row > 0 ) {
+					sqlBuffer.append( "),(" );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
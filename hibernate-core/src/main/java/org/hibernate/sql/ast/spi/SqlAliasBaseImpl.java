@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.ast.spi;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hibernate.sql.ast.SqlTreeCreationLogger;
 
 /**
@@ -15,7 +17,7 @@ import org.hibernate.sql.ast.SqlTreeCreationLogger;
  */
 public class SqlAliasBaseImpl implements SqlAliasBase {
 	private final String stem;
-	private int aliasCount;
+	private final AtomicInteger aliasCount = new AtomicInteger();
 
 	public SqlAliasBaseImpl(String stem) {
 		this.stem = stem;
@@ -28,11 +30,9 @@ public class SqlAliasBaseImpl implements SqlAliasBase {
 
 	@Override
 	public String generateNewAlias() {
-		synchronized (this) {
-			final String alias = stem + "_" + ( aliasCount++ );
-			SqlTreeCreationLogger.LOGGER.debugf( "Created new SQL alias : %s", alias );
-			return alias;
-		}
+		final String alias = stem + "_" + aliasCount.getAndIncrement();
+		SqlTreeCreationLogger.LOGGER.debugf( "Created new SQL alias : %s", alias );
+		return alias;
 	}
 
 	@Override
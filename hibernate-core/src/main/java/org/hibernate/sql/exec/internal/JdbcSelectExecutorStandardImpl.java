@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -41,6 +40,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -48,6 +48,7 @@ import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesColumnarCacheHit;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -227,6 +228,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
 		final Integer fetchSize = queryOptions.getFetchSize();
+		final Integer streamDetachWindow = queryOptions.getStreamDetachWindow();
 		final Limit limit = queryOptions.getLimit();
 
 		return new JdbcSelectExecutionContext(
@@ -244,6 +246,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				comment,
 				databaseHints,
 				fetchSize,
+				streamDetachWindow,
 				limit,
 				context
 		);
@@ -368,12 +371,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		);
 
 		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
+			statistics.queryExecutionCompleted(
 					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
 					getResultSize( result ),
-					milliseconds
+					System.nanoTime() - startTime
 			);
 		}
 
@@ -502,6 +503,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			else {
 				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), session.getLoadQueryInfluencers(), factory );
 			}
+			if ( cachedResults instanceof ColumnarQueryResults ) {
+				return new JdbcValuesColumnarCacheHit( (ColumnarQueryResults) cachedResults, jdbcValuesMapping );
+			}
 			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
 		}
 	}
@@ -659,6 +663,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		private final String comment;
 		private final List<String> databaseHints;
 		private final Integer fetchSize;
+		private final Integer streamDetachWindow;
 		private final Limit limit;
 		private final ExecutionContext context;
 
@@ -677,6 +682,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				String comment,
 				List<String> databaseHints,
 				Integer fetchSize,
+				Integer streamDetachWindow,
 				Limit limit,
 				ExecutionContext context) {
 			super( context.getSession() );
@@ -694,6 +700,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			this.comment = comment;
 			this.databaseHints = databaseHints;
 			this.fetchSize = fetchSize;
+			this.streamDetachWindow = streamDetachWindow;
 			this.limit = limit;
 			this.context = context;
 		}
@@ -783,6 +790,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			return fetchSize;
 		}
 
+		@Override
+		public Integer getStreamDetachWindow() {
+			return streamDetachWindow;
+		}
+
 		@Override
 		public Limit getLimit() {
 			return limit;
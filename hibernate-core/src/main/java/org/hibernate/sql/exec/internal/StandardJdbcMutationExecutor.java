@@ -78,7 +78,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
-				session.getEventListenerManager().jdbcExecuteStatementStart();
+				session.getEventListenerManager().jdbcExecuteStatementStart( finalSql );
 				try {
 					int rows = preparedStatement.executeUpdate();
 					expectationCheck.accept( rows, preparedStatement );
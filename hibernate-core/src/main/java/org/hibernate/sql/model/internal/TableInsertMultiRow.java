@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.model.internal;
+
+/**
+ * A {@link TableInsertStandard} inserting a given number of rows at once,
+ * rendered as an {@code insert ... values (...), (...)} statement which
+ * repeats the tuple of values of the single-row insert once per row.
+ * The parameters of the statement are those of the single-row insert,
+ * repeated in the same way. Any returning clause of the single-row insert
+ * is rendered once, for all the rows.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+ */
+public class TableInsertMultiRow extends TableInsertStandard {
+	private final int numberOfRows;
+
+	public TableInsertMultiRow(TableInsertStandard singleRowInsert, int numberOfRows) {
+		super(
+				singleRowInsert.getMutatingTable(),
+				singleRowInsert.getMutationTarget(),
+				singleRowInsert.getValueBindings(),
+				singleRowInsert.getReturningColumns(),
+				singleRowInsert.getParameters()
+		);
+		assert singleRowInsert.getNumberOfValueBindings() > 0;
+		this.numberOfRows = numberOfRows;
+	}
+
+	/**
+	 * The number of rows inserted by the statement
+	 */
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+}
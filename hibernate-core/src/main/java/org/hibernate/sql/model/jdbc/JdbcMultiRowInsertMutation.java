@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.model.jdbc;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.model.internal.TableInsertMultiRow;
+import org.hibernate.sql.model.internal.TableInsertStandard;
+
+/**
+ * A single-row {@link JdbcInsertMutation} which may also be executed as a
+ * multi-row {@code insert} statement, when its executions are batched, or
+ * when a group of insertions of entities with generated identifiers is
+ * executed at once.
+ * <p>
+ * The multi-row statements are rendered on demand, from the {@link TableInsertStandard}
+ * of the single-row statement, and cached by number of rows. When batching, the number
+ * of rows of the statements is limited to the size of the batch, and to powers of two, so
+ * that a given batch size leads to at most {@code log2(batchSize) + 1} distinct statements,
+ * which keeps the statement cache of the driver effective.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_MULTI_ROW_INSERTS
+ * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+ * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch
+ */
+public class JdbcMultiRowInsertMutation extends JdbcInsertMutation {
+	private final TableInsertStandard tableInsert;
+	private final int maximumNumberOfRows;
+	private final ConcurrentMap<Integer, JdbcInsertMutation> multiRowMutations = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tableInsert The single-row insert, from which {@code singleRowMutation} was translated
+	 * @param singleRowMutation The single-row statement
+	 * @param parameterCountLimit The maximum number of parameters of a statement, or a
+	 * non-positive integer if there is no limit
+	 */
+	public JdbcMultiRowInsertMutation(
+			TableInsertStandard tableInsert,
+			JdbcInsertMutation singleRowMutation,
+			int parameterCountLimit) {
+		super(
+				singleRowMutation.getTableDetails(),
+				singleRowMutation.getMutationTarget(),
+				singleRowMutation.getSqlString(),
+				singleRowMutation.isCallable(),
+				singleRowMutation.getExpectation(),
+				singleRowMutation.getParameterBinders()
+		);
+		this.tableInsert = tableInsert;
+
+		final int numberOfParameters = singleRowMutation.getParameterBinders().size();
+		this.maximumNumberOfRows = parameterCountLimit > 0 && numberOfParameters > 0
+				? Math.max( 1, parameterCountLimit / numberOfParameters )
+				: Integer.MAX_VALUE;
+	}
+
+	/**
+	 * The number of parameters of each row of the multi-row statements
+	 */
+	public int getNumberOfParametersPerRow() {
+		return getParameterBinders().size();
+	}
+
+	/**
+	 * The number of rows of the next statement executing the given number of
+	 * remaining rows of a batch of the given size, that is, the full batch size,
+	 * or else the largest power of two not exceeding the remaining rows.
+	 */
+	public int resolveNumberOfRows(int remainingRows, int batchSize) {
+		final int fullBatchSize = Math.min( batchSize, maximumNumberOfRows );
+		return remainingRows >= fullBatchSize ? fullBatchSize : Integer.highestOneBit( remainingRows );
+	}
+
+	/**
+	 * The statement inserting the given number of rows, as {@linkplain #resolveNumberOfRows resolved}
+	 * for the batch
+	 */
+	public JdbcInsertMutation getMultiRowMutation(int numberOfRows, SessionFactoryImplementor factory) {
+		if ( numberOfRows == 1 ) {
+			return this;
+		}
+
+		final JdbcInsertMutation existing = multiRowMutations.get( numberOfRows );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final JdbcInsertMutation created = new TableInsertMultiRow( tableInsert, numberOfRows )
+				.createMutationOperation( null, factory );
+		assert created.getParameterBinders().size() == numberOfRows * getNumberOfParametersPerRow();
+		final JdbcInsertMutation previous = multiRowMutations.putIfAbsent( numberOfRows, created );
+		return previous == null ? created : previous;
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcMultiRowInsertMutation(" + getTableDetails().getTableName() + ")";
+	}
+}
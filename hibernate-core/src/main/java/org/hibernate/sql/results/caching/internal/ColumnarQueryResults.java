@@ -0,0 +1,308 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * Query results cached column by column, instead of as one array of JDBC
+ * values per row. Columns of {@link Long}, {@link Integer} and {@link Double}
+ * values are stored in primitive arrays, and repetitive {@link String} columns
+ * are stored as codes into a dictionary of their distinct values.
+ * <p>
+ * As a {@link java.util.List}, it's read-only and has the same elements as
+ * the list of rows cached by {@link QueryCachePutManagerEnabledImpl}: the
+ * {@link JdbcValuesMetadata}, if any, followed by the rows, which are built
+ * on demand. The rows are read more efficiently through {@link #getValue}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR_LAYOUT
+ */
+public final class ColumnarQueryResults extends AbstractList<Object> implements Serializable {
+	private final JdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final Column[] columns;
+
+	private ColumnarQueryResults(JdbcValuesMetadata metadata, int rowCount, Column[] columns) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	public JdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	/**
+	 * Copy the values of the given row into the given array
+	 */
+	public void copyRow(int row, Object[] values) {
+		for ( int i = 0; i < columns.length; i++ ) {
+			values[i] = columns[i].get( row );
+		}
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata != null ) {
+			if ( index == 0 ) {
+				return metadata;
+			}
+			index--;
+		}
+		if ( index < 0 || index >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size() );
+		}
+		final Object[] values = new Object[columns.length];
+		copyRow( index, values );
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return metadata == null ? rowCount : rowCount + 1;
+	}
+
+	public static Builder builder(JdbcValuesMetadata metadata) {
+		return new Builder( metadata );
+	}
+
+	/**
+	 * Collects the rows of JDBC values, and encodes them column by column
+	 */
+	public static final class Builder {
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final JdbcValuesMetadata metadata;
+		private Object[][] columnValues;
+		private int rowCount;
+
+		private Builder(JdbcValuesMetadata metadata) {
+			this.metadata = metadata;
+		}
+
+		public void addRow(Object[] values) {
+			if ( columnValues == null ) {
+				columnValues = new Object[values.length][INITIAL_CAPACITY];
+			}
+			else if ( rowCount == columnValues[0].length ) {
+				for ( int i = 0; i < columnValues.length; i++ ) {
+					columnValues[i] = Arrays.copyOf( columnValues[i], rowCount << 1 );
+				}
+			}
+			for ( int i = 0; i < columnValues.length; i++ ) {
+				columnValues[i][rowCount] = values[i];
+			}
+			rowCount++;
+		}
+
+		public ColumnarQueryResults build() {
+			final Column[] columns;
+			if ( columnValues == null ) {
+				columns = new Column[0];
+			}
+			else {
+				columns = new Column[columnValues.length];
+				for ( int i = 0; i < columns.length; i++ ) {
+					columns[i] = encode( columnValues[i], rowCount );
+				}
+			}
+			return new ColumnarQueryResults( metadata, rowCount, columns );
+		}
+	}
+
+	private static Column encode(Object[] values, int rowCount) {
+		Class<?> valueClass = null;
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object value = values[i];
+			if ( value != null ) {
+				if ( valueClass == null ) {
+					valueClass = value.getClass();
+				}
+				else if ( valueClass != value.getClass() ) {
+					return new ObjectColumn( values, rowCount );
+				}
+			}
+		}
+
+		if ( valueClass == Long.class ) {
+			return new LongColumn( values, rowCount );
+		}
+		else if ( valueClass == Integer.class ) {
+			return new IntColumn( values, rowCount );
+		}
+		else if ( valueClass == Double.class ) {
+			return new DoubleColumn( values, rowCount );
+		}
+		else if ( valueClass == String.class ) {
+			final Column column = StringDictionaryColumn.encode( values, rowCount );
+			if ( column != null ) {
+				return column;
+			}
+		}
+		return new ObjectColumn( values, rowCount );
+	}
+
+	private static BitSet nulls(Object[] values, int rowCount) {
+		BitSet nulls = null;
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( values[i] == null ) {
+				if ( nulls == null ) {
+					nulls = new BitSet( rowCount );
+				}
+				nulls.set( i );
+			}
+		}
+		return nulls;
+	}
+
+	private interface Column extends Serializable {
+		Object get(int row);
+	}
+
+	private static final class LongColumn implements Column {
+		private final long[] values;
+		private final BitSet nulls;
+
+		private LongColumn(Object[] values, int rowCount) {
+			this.values = new long[rowCount];
+			this.nulls = nulls( values, rowCount );
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Long) values[i];
+				}
+			}
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntColumn implements Column {
+		private final int[] values;
+		private final BitSet nulls;
+
+		private IntColumn(Object[] values, int rowCount) {
+			this.values = new int[rowCount];
+			this.nulls = nulls( values, rowCount );
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Integer) values[i];
+				}
+			}
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn implements Column {
+		private final double[] values;
+		private final BitSet nulls;
+
+		private DoubleColumn(Object[] values, int rowCount) {
+			this.values = new double[rowCount];
+			this.nulls = nulls( values, rowCount );
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Double) values[i];
+				}
+			}
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : values[row];
+		}
+	}
+
+	private static final class StringDictionaryColumn implements Column {
+		private final String[] dictionary;
+		// the index of each value in the dictionary, or -1 for null
+		private final int[] codes;
+
+		private StringDictionaryColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return the encoded column, or {@code null} if there are too many
+		 * distinct values for a dictionary to be worthwhile
+		 */
+		private static Column encode(Object[] values, int rowCount) {
+			final int maxDictionarySize = rowCount >> 1;
+			final Map<Object, Integer> dictionary = new HashMap<>();
+			final int[] codes = new int[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				final Object value = values[i];
+				if ( value == null ) {
+					codes[i] = -1;
+				}
+				else {
+					final Integer code = dictionary.get( value );
+					if ( code == null ) {
+						if ( dictionary.size() == maxDictionarySize ) {
+							return null;
+						}
+						codes[i] = dictionary.size();
+						dictionary.put( value, codes[i] );
+					}
+					else {
+						codes[i] = code;
+					}
+				}
+			}
+			final String[] distinctValues = new String[dictionary.size()];
+			for ( Map.Entry<Object, Integer> entry : dictionary.entrySet() ) {
+				distinctValues[entry.getValue()] = (String) entry.getKey();
+			}
+			return new StringDictionaryColumn( distinctValues, codes );
+		}
+
+		@Override
+		public Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static final class ObjectColumn implements Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values, int rowCount) {
+			this.values = Arrays.copyOf( values, rowCount );
+		}
+
+		@Override
+		public Object get(int row) {
+			return values[row];
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * QueryCachePutManager implementation for cases where we will be putting
+ * Query results into the cache as {@link ColumnarQueryResults}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR_LAYOUT
+ */
+public class QueryCachePutManagerColumnarImpl implements QueryCachePutManager {
+	private final QueryResultsCache queryCache;
+	private final StatisticsImplementor statistics;
+	private final QueryKey queryKey;
+	private final String queryIdentifier;
+	private final ColumnarQueryResults.Builder dataToCache;
+
+	public QueryCachePutManagerColumnarImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache) {
+		this.queryCache = queryCache;
+		this.statistics = statistics;
+		this.queryKey = queryKey;
+		this.queryIdentifier = queryIdentifier;
+		this.dataToCache = ColumnarQueryResults.builder( metadataForCache );
+	}
+
+	@Override
+	public void registerJdbcRow(Object[] values) {
+		dataToCache.addRow( values );
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		if ( queryKey != null ) {
+			final boolean put = queryCache.put(
+					queryKey,
+					dataToCache.build(),
+					session
+			);
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+			}
+		}
+	}
+}
@@ -236,7 +236,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				executeStartNanos = System.nanoTime();
 			}
 			try {
-				eventListenerManager.jdbcExecuteStatementStart();
+				eventListenerManager.jdbcExecuteStatementStart( finalSql );
 				resultSet = wrapResultSet( preparedStatement.executeQuery() );
 			}
 			finally {
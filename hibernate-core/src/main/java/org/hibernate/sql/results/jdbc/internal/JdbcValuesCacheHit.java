@@ -38,6 +38,14 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		this( extractData( cachedResults ), resolvedMapping );
 	}
 
+	/**
+	 * For subclasses which hold the cached data themselves
+	 */
+	protected JdbcValuesCacheHit(int numberOfRows, JdbcValuesMapping resolvedMapping) {
+		this.numberOfRows = numberOfRows;
+		this.resolvedMapping = resolvedMapping;
+	}
+
 	private static Object[][] extractData(List<?> cachedResults) {
 		if ( CollectionHelper.isEmpty( cachedResults ) ) {
 			return NO_DATA;
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+
+/**
+ * A {@link JdbcValuesCacheHit} reading the JDBC values directly from the
+ * columns of {@link ColumnarQueryResults}, without building an array per row.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR_LAYOUT
+ */
+public class JdbcValuesColumnarCacheHit extends JdbcValuesCacheHit {
+	private ColumnarQueryResults cachedResults;
+	private final int numberOfRows;
+	private final Object[] currentRowValues;
+
+	public JdbcValuesColumnarCacheHit(ColumnarQueryResults cachedResults, JdbcValuesMapping resolvedMapping) {
+		super( cachedResults.getRowCount(), resolvedMapping );
+		this.cachedResults = cachedResults;
+		this.numberOfRows = cachedResults.getRowCount();
+		this.currentRowValues = new Object[cachedResults.getColumnCount()];
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		final int position = getPosition();
+		if ( position >= numberOfRows ) {
+			return null;
+		}
+		cachedResults.copyRow( position, currentRowValues );
+		return currentRowValues;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		final int position = getPosition();
+		if ( position >= numberOfRows ) {
+			return null;
+		}
+		return cachedResults.getValue( position, valueIndex );
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		super.finishUp( session );
+		cachedResults = null;
+	}
+}
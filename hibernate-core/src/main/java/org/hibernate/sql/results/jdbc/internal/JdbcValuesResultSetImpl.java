@@ -20,6 +20,7 @@ import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerColumnarImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
@@ -80,6 +81,15 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 			final QueryResultsCache queryCache = factory.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+			if ( factory.getFastSessionServices().columnarQueryCacheLayout ) {
+				return new QueryCachePutManagerColumnarImpl(
+						queryCache,
+						factory.getStatistics(),
+						queryCacheKey,
+						queryIdentifier,
+						metadataForCache
+				);
+			}
 			return new QueryCachePutManagerEnabledImpl(
 					queryCache,
 					factory.getStatistics(),
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the values recorded for a statistic, for example of
+ * the execution times of a query, allowing to observe its percentiles rather
+ * than only its average and maximum.
+ * <p>
+ * Values are counted in buckets whose width grows with the magnitude of the
+ * values they hold, so that any percentile is reported with a relative error
+ * of at most 12.5%, whatever the range of the recorded values.
+ * <p>
+ * Like the distribution statistics of Micrometer, the maximum and percentiles
+ * only account for the values recorded in the last couple of minutes, so that
+ * they reflect the current behavior of the application, while the count covers
+ * all recorded values.
+ *
+ * @since 6.4
+ */
+public interface Histogram extends Serializable {
+	/**
+	 * A histogram without any recorded value.
+	 */
+	Histogram EMPTY = new Histogram() {
+		@Override
+		public long getCount() {
+			return 0;
+		}
+
+		@Override
+		public long getMaxValue() {
+			return 0;
+		}
+
+		@Override
+		public long getValueAtPercentile(double percentile) {
+			return 0;
+		}
+	};
+
+	/**
+	 * The number of recorded values.
+	 */
+	long getCount();
+
+	/**
+	 * The largest recently recorded value, or {@code 0} if no value has been recorded recently.
+	 */
+	long getMaxValue();
+
+	/**
+	 * The value below or equal to which the given percentage of the recently
+	 * recorded values fall, or {@code 0} if no value has been recorded recently.
+	 *
+	 * @param percentile The percentage of values, between {@code 0} and {@code 100},
+	 * for example {@code 99.9} for the 999th permille
+	 */
+	long getValueAtPercentile(double percentile);
+}
@@ -105,4 +105,28 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The distribution of the execution times of this query, in
+	 * nanoseconds.
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getExecutionTimeHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
+
+	/**
+	 * The distribution of the number of rows returned by the
+	 * executions of this query, excluding those of
+	 * {@link org.hibernate.query.SelectionQuery#stream()} and
+	 * {@link org.hibernate.query.SelectionQuery#scroll()}.
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getExecutionRowCountHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
 }
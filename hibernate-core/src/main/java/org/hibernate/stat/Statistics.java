@@ -165,6 +165,49 @@ public interface Statistics {
 	 */
 	@Nullable String getQueryExecutionMaxTimeQueryString();
 
+	/**
+	 * The distribution of the execution times of all queries, in nanoseconds.
+	 *
+	 * @see QueryStatistics#getExecutionTimeHistogram()
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getQueryExecutionTimeHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
+
+	/**
+	 * The distribution of the times taken to load an entity by id from the
+	 * database, in nanoseconds.
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getEntityLoadTimeHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
+
+	/**
+	 * The distribution of the times taken by flushes, in nanoseconds.
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getFlushTimeHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
+
+	/**
+	 * The distribution of the execution times of JDBC batches, in nanoseconds.
+	 *
+	 * @since 6.4
+	 */
+	default Histogram getBatchExecutionTimeHistogram() {
+		//For backward compatibility
+		return Histogram.EMPTY;
+	}
+
     /**
      * The global number of cached queries successfully retrieved from
 	 * the cache.
@@ -243,6 +286,22 @@ public interface Statistics {
      */
 	long getFlushCount();
 
+	/**
+	 * The global number of batches of statements executed by flush operations,
+	 * where a batch is a run of consecutive statements of the same kind against
+	 * the same entity or collection. Divided by the {@linkplain #getFlushCount()
+	 * number of flushes}, this measures how well the statements were grouped.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_INSERTS
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_UPDATES
+	 *
+	 * @since 6.4
+	 */
+	default long getFlushBatchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The global number of connections requested by sessions.
 	 * <p>
@@ -395,4 +454,17 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache to make room
+	 * for other query plans.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 *
+	 * @since 6.4
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -0,0 +1,250 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.stat.Histogram;
+
+/**
+ * {@link Histogram} counting values in log-linear buckets: values below
+ * {@value #SUB_BUCKET_COUNT} have a bucket each, and every power of two
+ * above is split into {@value #SUB_BUCKET_COUNT} buckets of equal width.
+ * Values greater than the highest trackable value are counted in the last
+ * bucket. The percentiles are thus approximate, the highest value of a
+ * bucket exceeding its lowest one by up to 1/{@value #SUB_BUCKET_COUNT},
+ * that is a relative error of 12.5%.
+ * <p>
+ * The buckets are held by a ring of {@value #WINDOW_COUNT} windows, every
+ * value being recorded in each of them. The oldest window, which the maximum
+ * and percentiles are read from, is cleared and becomes the newest one at
+ * regular intervals, so that recorded values expire after a while, like the
+ * distribution statistics of Micrometer. The windows are only allocated when
+ * the first value is recorded, since there is a histogram for each query.
+ * <p>
+ * Neither recording nor rotating takes a lock. To spare reading the clock on
+ * every record, recording only checks whether the windows are due for
+ * rotation every {@value #ROTATION_CHECK_INTERVAL} values, or when it is the
+ * first value since the last read, so values may be accounted for by the
+ * window preceding the one they belong to.
+ */
+public class HistogramImpl implements Histogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int WINDOW_COUNT = 3;
+	private static final int ROTATION_CHECK_INTERVAL = 64;
+
+	/**
+	 * The highest trackable value of histograms of durations in nanoseconds,
+	 * which is roughly one hour
+	 */
+	public static final long HIGHEST_TRACKABLE_NANOSECONDS = 1L << 42;
+
+	/**
+	 * The highest trackable value of histograms of row counts
+	 */
+	public static final long HIGHEST_TRACKABLE_ROW_COUNT = 1L << 31;
+
+	/**
+	 * The default time after which recorded values stop being accounted for by the
+	 * maximum and the percentiles, which is the default expiry of Micrometer
+	 */
+	public static final long DEFAULT_EXPIRY_NANOSECONDS = TimeUnit.MINUTES.toNanos( 2 );
+
+	private final AtomicReference<Window[]> windows = new AtomicReference<>();
+	private final int bucketCount;
+	private final long rotationInterval;
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicInteger recordsSinceRotationCheck = new AtomicInteger();
+	private final AtomicLong lastRotation;
+	// The position of the oldest window within the ring
+	private volatile int oldest;
+
+	public HistogramImpl(long highestTrackableValue) {
+		this( highestTrackableValue, DEFAULT_EXPIRY_NANOSECONDS );
+	}
+
+	/**
+	 * @param highestTrackableValue The highest value counted in a bucket of its own
+	 * @param expiryNanoseconds The time after which the recorded values expire
+	 */
+	public HistogramImpl(long highestTrackableValue, long expiryNanoseconds) {
+		if ( expiryNanoseconds <= 0 ) {
+			throw new IllegalArgumentException( "Histogram expiry must be positive" );
+		}
+		this.bucketCount = bucketIndex( highestTrackableValue ) + 1;
+		this.rotationInterval = Math.max( 1, expiryNanoseconds / WINDOW_COUNT );
+		this.lastRotation = new AtomicLong( System.nanoTime() );
+	}
+
+	/**
+	 * Record the given value, negative values being ignored
+	 */
+	public void record(long value) {
+		if ( value < 0 ) {
+			return;
+		}
+		if ( recordsSinceRotationCheck.getAndIncrement() % ROTATION_CHECK_INTERVAL == 0 ) {
+			rotate();
+		}
+		count.incrementAndGet();
+		final int index = Math.min( bucketIndex( value ), bucketCount - 1 );
+		for ( Window window : allocateWindows() ) {
+			window.record( index, value );
+		}
+	}
+
+	private Window[] allocateWindows() {
+		final Window[] current = windows.get();
+		if ( current != null ) {
+			return current;
+		}
+		final Window[] allocated = new Window[WINDOW_COUNT];
+		for ( int i = 0; i < WINDOW_COUNT; i++ ) {
+			allocated[i] = new Window( bucketCount );
+		}
+		return windows.compareAndSet( null, allocated ) ? allocated : allocateWindows();
+	}
+
+	/**
+	 * The number of values recorded since this histogram was created or cleared,
+	 * including the expired ones, like the count of a Micrometer timer
+	 */
+	@Override
+	public long getCount() {
+		return count.get();
+	}
+
+	@Override
+	public long getMaxValue() {
+		final Window window = readOldestWindow();
+		return window == null ? 0 : window.maxValue.get();
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		final Window window = readOldestWindow();
+		if ( window == null ) {
+			return 0;
+		}
+		final AtomicLongArray buckets = window.buckets;
+		final long[] counts = new long[buckets.length()];
+		long count = 0;
+		for ( int i = 0; i < counts.length; i++ ) {
+			counts[i] = buckets.get( i );
+			count += counts[i];
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+
+		final long maxValue = window.maxValue.get();
+		final double clampedPercentile = Math.min( Math.max( percentile, 0d ), 100d );
+		final long rank = Math.max( 1, (long) Math.ceil( clampedPercentile / 100d * count ) );
+		long accumulated = 0;
+		for ( int i = 0; i < counts.length; i++ ) {
+			accumulated += counts[i];
+			if ( accumulated >= rank ) {
+				return Math.min( highestValueInBucket( i ), maxValue );
+			}
+		}
+		return maxValue;
+	}
+
+	public void clear() {
+		windows.set( null );
+		count.set( 0 );
+		recordsSinceRotationCheck.set( 0 );
+		lastRotation.set( System.nanoTime() );
+	}
+
+	/**
+	 * Rotate the windows if they are due and return the oldest one, so that the next
+	 * value recorded checks the clock again
+	 */
+	private Window readOldestWindow() {
+		recordsSinceRotationCheck.set( 0 );
+		rotate();
+		final Window[] current = windows.get();
+		return current == null ? null : current[oldest];
+	}
+
+	/**
+	 * Clear the oldest window, which becomes the newest one, for each rotation interval elapsed,
+	 * the thread advancing the time of the last rotation being the one clearing the windows
+	 */
+	private void rotate() {
+		final long last = lastRotation.get();
+		final long rotations = ( System.nanoTime() - last ) / rotationInterval;
+		if ( rotations > 0 && lastRotation.compareAndSet( last, last + rotations * rotationInterval ) ) {
+			final Window[] current = windows.get();
+			if ( current != null ) {
+				int position = oldest;
+				for ( long i = 0; i < Math.min( rotations, WINDOW_COUNT ); i++ ) {
+					current[position].clear();
+					position = ( position + 1 ) % WINDOW_COUNT;
+				}
+				oldest = position;
+			}
+		}
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long lowestValue = (long) ( SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT ) << shift;
+		return lowestValue + ( 1L << shift ) - 1;
+	}
+
+	private static class Window implements Serializable {
+		private final AtomicLongArray buckets;
+		private final AtomicLong maxValue = new AtomicLong();
+
+		private Window(int bucketCount) {
+			this.buckets = new AtomicLongArray( bucketCount );
+		}
+
+		private void record(int index, long value) {
+			buckets.incrementAndGet( index );
+			//noinspection StatementWithEmptyBody
+			for ( long old = maxValue.get(); value > old && !maxValue.compareAndSet( old, value ); old = maxValue.get() ) {
+			}
+		}
+
+		private void clear() {
+			for ( int i = 0; i < buckets.length(); i++ ) {
+				buckets.set( i, 0 );
+			}
+			maxValue.set( 0 );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ",max=" + getMaxValue()
+				+ ']';
+	}
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.Histogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -38,6 +39,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final HistogramImpl executionTimeHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+	private final HistogramImpl executionRowCountHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_ROW_COUNT );
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -133,6 +137,16 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return totalExecutionTime.get();
 	}
 
+	@Override
+	public Histogram getExecutionTimeHistogram() {
+		return executionTimeHistogram;
+	}
+
+	@Override
+	public Histogram getExecutionRowCountHistogram() {
+		return executionRowCountHistogram;
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -170,6 +184,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
 			executionCount.increment();
 			executionRowCount.add( rows );
+			executionRowCountHistogram.record( rows );
 			totalExecutionTime.addAndGet( time );
 		}
 		finally {
@@ -177,6 +192,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	/**
+	 * add the execution time of a DB query, in nanoseconds
+	 */
+	void executionCompleted(long nanoseconds) {
+		executionTimeHistogram.record( nanoseconds );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -28,6 +29,7 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.Histogram;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -61,6 +63,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder sessionOpenCount = new LongAdder();
 	private final LongAdder sessionCloseCount = new LongAdder();
 	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushBatchCount = new LongAdder();
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
@@ -98,6 +101,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -108,6 +112,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final HistogramImpl queryExecutionTimeHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+	private final HistogramImpl entityLoadTimeHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+	private final HistogramImpl flushTimeHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+	private final HistogramImpl batchExecutionTimeHistogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -168,6 +177,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		sessionCloseCount.reset();
 		sessionOpenCount.reset();
 		flushCount.reset();
+		flushBatchCount.reset();
 		connectCount.reset();
 
 		prepareStatementCount.reset();
@@ -201,6 +211,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		optimisticFailureCount.reset();
 
+		queryExecutionTimeHistogram.clear();
+		entityLoadTimeHistogram.clear();
+		flushTimeHistogram.clear();
+		batchExecutionTimeHistogram.clear();
+
 		entityStatsMap.clear();
 		collectionStatsMap.clear();
 		naturalIdQueryStatsMap.clear();
@@ -209,6 +224,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -293,6 +309,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementLoadCount();
 	}
 
+	@Override
+	public void entityLoadCompleted(String entityName, long nanoseconds) {
+		entityLoadTimeHistogram.record( nanoseconds );
+	}
+
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
@@ -702,6 +723,35 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryExecutionMaxTime.get();
 	}
 
+	@Override
+	public Histogram getQueryExecutionTimeHistogram() {
+		return queryExecutionTimeHistogram;
+	}
+
+	@Override
+	public Histogram getEntityLoadTimeHistogram() {
+		return entityLoadTimeHistogram;
+	}
+
+	@Override
+	public Histogram getFlushTimeHistogram() {
+		return flushTimeHistogram;
+	}
+
+	@Override
+	public Histogram getBatchExecutionTimeHistogram() {
+		return batchExecutionTimeHistogram;
+	}
+
+	@Override
+	public void queryExecutionCompleted(String hql, int rows, long nanoseconds) {
+		queryExecutionTimeHistogram.record( nanoseconds );
+		if ( hql != null ) {
+			getQueryStatistics( hql ).executionCompleted( nanoseconds );
+		}
+		queryExecuted( hql, rows, TimeUnit.NANOSECONDS.toMillis( nanoseconds ) );
+	}
+
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
 		LOG.hql( hql, time, (long) rows );
@@ -773,6 +823,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -800,6 +855,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -827,6 +887,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return flushCount.sum();
 	}
 
+	@Override
+	public long getFlushBatchCount() {
+		return flushBatchCount.sum();
+	}
+
 	@Override
 	public long getConnectCount() {
 		return connectCount.sum();
@@ -867,6 +932,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		flushCount.increment();
 	}
 
+	@Override
+	public void flushBatches(int batchCount) {
+		flushBatchCount.add( batchCount );
+	}
+
+	@Override
+	public void flushCompleted(long nanoseconds) {
+		flushTimeHistogram.record( nanoseconds );
+	}
+
+	@Override
+	public void batchExecuted(long nanoseconds) {
+		batchExecutionTimeHistogram.record( nanoseconds );
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -943,6 +1023,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",successful transactions=" + committedTransactionCount +
 				",optimistic lock failures=" + optimisticFailureCount +
 				",flushes=" + flushCount +
+				",flush batches=" + flushBatchCount +
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
@@ -972,8 +1053,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",update timestamps cache hits=" + updateTimestampsCacheHitCount +
 				",update timestamps cache misses=" + updateTimestampsCacheMissCount +
 				",max query time=" + queryExecutionMaxTime +
+				",query execution time histogram=" + queryExecutionTimeHistogram +
+				",entity load time histogram=" + entityLoadTimeHistogram +
+				",flush time histogram=" + flushTimeHistogram +
+				",batch execution time histogram=" + batchExecutionTimeHistogram +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -11,6 +11,7 @@ import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyMap;
 
@@ -35,6 +36,31 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void flush();
 
+	/**
+	 * Callback about the number of batches of statements executed by a flush
+	 */
+	default void flushBatches(int batchCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the time taken by a flush
+	 *
+	 * @param nanoseconds execution time
+	 */
+	default void flushCompleted(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the time taken by the execution of a JDBC batch
+	 *
+	 * @param nanoseconds execution time
+	 */
+	default void batchExecuted(long nanoseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
 	 */
@@ -65,6 +91,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void loadEntity(String entityName);
 
+	/**
+	 * Callback about the time taken to load an entity by id from the database.
+	 *
+	 * @param entityName The name of the entity loaded.
+	 * @param nanoseconds execution time
+	 */
+	default void entityLoadCompleted(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about an entity being fetched.  Unlike {@link #loadEntity} this indicates a separate query being
 	 * performed.
@@ -236,6 +272,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query, timed in nanoseconds
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param nanoseconds execution time
+	 */
+	default void queryExecutionCompleted(String hql, int rows, long nanoseconds) {
+		queryExecuted( hql, rows, TimeUnit.NANOSECONDS.toMillis( nanoseconds ) );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -269,6 +316,13 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a query plan was evicted from the query plan cache.
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
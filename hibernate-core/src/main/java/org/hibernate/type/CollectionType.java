@@ -297,22 +297,13 @@ public abstract class CollectionType extends AbstractType implements Association
 
 	private CollectionPersister getPersister(SessionFactoryImplementor factory) {
 		CollectionPersister p = this.persister;
-		if ( p != null ) {
-			return p;
-		}
-		else {
-			synchronized ( this ) {
-				p  = this.persister;
-				if ( p != null ) {
-					return p;
-				}
-				else {
-					p = factory.getRuntimeMetamodels().getMappingMetamodel().getCollectionDescriptor( role );
-					this.persister = p;
-					return p;
-				}
-			}
+		if ( p == null ) {
+			// the lookup is idempotent, so there's no need
+			// to lock when two threads race to resolve it
+			p = factory.getRuntimeMetamodels().getMappingMetamodel().getCollectionDescriptor( role );
+			this.persister = p;
 		}
+		return p;
 	}
 
 	@Override
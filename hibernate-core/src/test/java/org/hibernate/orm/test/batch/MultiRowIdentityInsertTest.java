@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value BatchSettings#BATCH_IDENTITY_INSERTS}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowIdentityInsertTest.Parent.class,
+		MultiRowIdentityInsertTest.Child.class,
+		MultiRowIdentityInsertTest.Node.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_IDENTITY_INSERTS, value = "true"),
+		@Setting(name = BatchSettings.ORDER_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsertGeneratedKeys.class)
+public class MultiRowIdentityInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Node set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Node" ).executeUpdate();
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersist(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Parent> parents = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				final Parent parent = new Parent( "parent " + i );
+				session.persist( parent );
+				parents.add( parent );
+			}
+			// the insertions are delayed until flush
+			assertThat( parents ).allMatch( parent -> parent.id == null );
+
+			statementInspector.clear();
+			session.flush();
+			assertThat( insertions( statementInspector ) ).hasSize( 3 );
+
+			for ( int i = 1; i < parents.size(); i++ ) {
+				assertThat( parents.get( i ).id ).isGreaterThan( parents.get( i - 1 ).id );
+			}
+			assertThat( parents ).allMatch( session::contains );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Parent parent : parents ) {
+				assertThat( session.find( Parent.class, parent.id ).name ).isEqualTo( parent.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testAssociations(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Child> children = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Parent parent = new Parent( "parent " + i );
+				session.persist( parent );
+				final Child child = new Child( "child " + i, parent );
+				session.persist( child );
+				children.add( child );
+			}
+			statementInspector.clear();
+		} );
+		// the insertions are ordered by entity type, and each type inserted by a single statement
+		assertThat( insertions( statementInspector ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			for ( Child child : children ) {
+				final Child loaded = session.find( Child.class, child.id );
+				assertThat( loaded.name ).isEqualTo( child.name );
+				assertThat( loaded.parent.id ).isEqualTo( child.parent.id );
+				assertThat( loaded.parent.name ).isEqualTo( child.parent.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testSelfReference(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Node> nodes = new ArrayList<>();
+		scope.inTransaction( session -> {
+			Node previous = null;
+			for ( int i = 0; i < 4; i++ ) {
+				final Node node = new Node( "node " + i, previous );
+				session.persist( node );
+				nodes.add( node );
+				previous = node;
+			}
+			for ( int i = 0; i < 4; i++ ) {
+				final Node node = new Node( "root " + i, null );
+				session.persist( node );
+				nodes.add( node );
+			}
+			statementInspector.clear();
+		} );
+		// a node can't be inserted along with the node it references,
+		// since the identifier of the latter isn't known yet
+		assertThat( insertions( statementInspector ) ).hasSize( 4 );
+
+		scope.inTransaction( session -> {
+			for ( Node node : nodes ) {
+				final Node loaded = session.find( Node.class, node.id );
+				assertThat( loaded.name ).isEqualTo( node.name );
+				if ( node.parent == null ) {
+					assertThat( loaded.parent ).isNull();
+				}
+				else {
+					assertThat( loaded.parent.id ).isEqualTo( node.parent.id );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testAutoFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 15; i++ ) {
+				session.persist( new Parent( "parent " + i ) );
+			}
+			assertThat( session.createSelectionQuery( "select count(*) from Parent", Long.class ).getSingleResult() )
+					.isEqualTo( 15L );
+		} );
+	}
+
+	private static List<String> insertions(SQLStatementInspector statementInspector) {
+		final List<String> insertions = new ArrayList<>();
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase().startsWith( "insert" ) ) {
+				insertions.add( sql );
+			}
+		}
+		return insertions;
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(String name, Parent parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value BatchSettings#BATCH_MULTI_ROW_INSERTS}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Author.class,
+		MultiRowInsertTest.Book.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_MULTI_ROW_INSERTS, value = "true"),
+		@Setting(name = BatchSettings.ORDER_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFullBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Author> authors = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				authors.add( author );
+			}
+			statementInspector.clear();
+			scope.getSessionFactory().getStatistics().clear();
+		} );
+		assertThat( rowsPerInsertion( statementInspector ) ).containsExactly( 10, 10 );
+		assertThat( scope.getSessionFactory().getStatistics().getBatchExecutionTimeHistogram().getCount() )
+				.isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			for ( Author author : authors ) {
+				assertThat( session.find( Author.class, author.id ).name ).isEqualTo( author.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testPartialBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 17; i++ ) {
+				session.persist( new Author( "author " + i ) );
+			}
+			statementInspector.clear();
+		} );
+		// the rest of the batch is split by powers of two
+		assertThat( rowsPerInsertion( statementInspector ) ).containsExactly( 10, 4, 2, 1 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult()
+		).isEqualTo( 17L ) );
+	}
+
+	@Test
+	public void testAssociations(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 8; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+			statementInspector.clear();
+		} );
+		assertThat( rowsPerInsertion( statementInspector ) ).containsExactly( 8, 8 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 8; i++ ) {
+				final Book book = session.find( Book.class, i );
+				assertThat( book.title ).isEqualTo( "book " + i );
+				assertThat( book.author.name ).isEqualTo( "author " + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testConstraintViolation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 3, "book 3", null ) ) );
+
+		assertThatThrownBy( () -> scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Book( i, "book " + i, null ) );
+			}
+		} ) ).isInstanceOf( ConstraintViolationException.class );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 1L ) );
+	}
+
+	private static List<Integer> rowsPerInsertion(SQLStatementInspector statementInspector) {
+		final List<Integer> rows = new ArrayList<>();
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			if ( sql.toLowerCase().startsWith( "insert" ) ) {
+				rows.add( sql.split( "\\),\\(", -1 ).length );
+			}
+		}
+		return rows;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.JDBCException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value BatchSettings#STATEMENT_BATCH_PIPELINING}
+ */
+@DomainModel(annotatedClasses = PipelinedBatchTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.STATEMENT_BATCH_PIPELINING, value = "true"),
+		// disable in-vm nullability checking, to force in-db not-null constraint violations
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+@SessionFactory
+public class PipelinedBatchTest {
+	private static final int COUNT = 105;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			assertThat( items ).hasSize( COUNT );
+			items.forEach( item -> item.name = item.name + " updated" );
+		} );
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).allMatch( item -> item.name.endsWith( " updated" ) );
+			items.subList( 0, 50 ).forEach( session::remove );
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( COUNT - 50 ) );
+	}
+
+	@Test
+	public void testQueryDuringFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			// the auto-flush must wait for the batches executed in the background
+			assertThat( session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult() )
+					.isEqualTo( 25 );
+		} );
+	}
+
+	@Test
+	public void testFailureIsReportedByFlush(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < 25; i++ ) {
+					// fails in the first batch, which is executed in the background
+					session.persist( new Item( i, i == 3 ? null : "item " + i ) );
+				}
+				assertThatThrownBy( session::flush ).isInstanceOf( JDBCException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 0 ) );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "pipelined_item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@Column(nullable = false)
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
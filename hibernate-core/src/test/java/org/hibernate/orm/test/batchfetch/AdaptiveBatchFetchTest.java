@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#ADAPTIVE_BATCH_FETCH_SIZE}
+ */
+@DomainModel(
+		annotatedClasses = { AdaptiveBatchFetchTest.Child.class, AdaptiveBatchFetchTest.Parent.class }
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_SIZE, value = "100"))
+public class AdaptiveBatchFetchTest {
+
+	private static final int COUNT = 20;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= COUNT; i++ ) {
+						final Parent parent = new Parent( i, "parent " + i );
+						session.persist( parent );
+						session.persist( new Child( i, parent ) );
+					}
+					session.persist( new Parent( COUNT + 1L, "orphan" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Child" ).executeUpdate();
+					session.createMutationQuery( "delete from Parent" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testPendingProxiesFetchedAhead(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					final List<Child> children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					for ( Child child : children ) {
+						assertThat( child.getParent().getName() ).isEqualTo( "parent " + child.getId() );
+					}
+					// every pending proxy is fetched along with the first one accessed
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+				}
+		);
+	}
+
+	@Test
+	public void testBatchSizeAdaptedToAccess(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					List<Child> children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					// only one of the proxies fetched ahead is accessed
+					children.get( 0 ).getParent().getName();
+					children.get( 1 ).getParent().getName();
+					assertThat( countInitializedParents( children ) ).isEqualTo( COUNT );
+
+					session.clear();
+
+					children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					children.get( 0 ).getParent().getName();
+					// the next batch is sized by the use of the proxies
+					assertThat( countInitializedParents( children ) ).isLessThan( COUNT / 2 );
+				}
+		);
+	}
+
+	@Test
+	public void testOtherLoadsNotBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Child> children = session.createQuery( "from Child order by id", Child.class )
+							.getResultList();
+					statementInspector.clear();
+					assertThat( session.find( Parent.class, COUNT + 1L ).getName() ).isEqualTo( "orphan" );
+					// the pending proxies are fetched only along with a proxy
+					assertThat( countInitializedParents( children ) ).isEqualTo( 0 );
+					assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+				}
+		);
+	}
+
+	private static int countInitializedParents(List<Child> children) {
+		int count = 0;
+		for ( Child child : children ) {
+			if ( Hibernate.isInitialized( child.getParent() ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "CHILD_TABLE")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "PARENT_TABLE")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
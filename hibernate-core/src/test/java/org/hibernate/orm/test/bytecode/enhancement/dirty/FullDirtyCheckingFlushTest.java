@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the scenarios of {@link IncrementalDirtyTrackingFlushTest} with the
+ * default flush, which dirty checks every entity, as the baseline the
+ * incremental dirty tracking must match.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class FullDirtyCheckingFlushTest extends IncrementalDirtyTrackingFlushTest {
+	@Override
+	protected boolean isIncrementalDirtyTracking() {
+		return false;
+	}
+}
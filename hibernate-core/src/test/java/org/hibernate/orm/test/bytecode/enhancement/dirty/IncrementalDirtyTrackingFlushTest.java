@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#FLUSH_INCREMENTAL_DIRTY_TRACKING}
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class IncrementalDirtyTrackingFlushTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int COUNT = 50;
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class };
+	}
+
+	protected boolean isIncrementalDirtyTracking() {
+		return true;
+	}
+
+	@Override
+	protected void addSettings(Map<String, Object> settings) {
+		settings.put( AvailableSettings.FLUSH_INCREMENTAL_DIRTY_TRACKING, Boolean.toString( isIncrementalDirtyTracking() ) );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction( s -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				author.getTags().add( "tag " + i );
+				s.persist( author );
+				s.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		inTransaction( s -> {
+			s.createMutationQuery( "delete from Book" ).executeUpdate();
+			s.createQuery( "from Author", Author.class ).getResultList().forEach( s::remove );
+		} );
+	}
+
+	@Test
+	public void testCleanFlush() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( s -> {
+			final List<Author> authors = s.createQuery( "from Author", Author.class ).getResultList();
+			// initialize the collections, which must still be reachable at flush time
+			authors.forEach( author -> assertThat( author.getTags() ).hasSize( 1 ) );
+			s.createQuery( "from Book", Book.class ).getResultList();
+			s.flush();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+		assertThat( statistics.getCollectionRemoveCount() ).isEqualTo( 0 );
+		assertThat( statistics.getCollectionUpdateCount() ).isEqualTo( 0 );
+		assertTags( COUNT );
+	}
+
+	@Test
+	public void testModifiedEntitiesAreFlushed() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction( s -> {
+			final List<Author> authors = s.createQuery( "from Author order by id", Author.class ).getResultList();
+			final List<Book> books = s.createQuery( "from Book order by id", Book.class ).getResultList();
+			authors.forEach( author -> assertThat( author.getTags() ).hasSize( 1 ) );
+
+			// a field write
+			books.get( 3 ).setTitle( "renamed" );
+			// a modified collection of an otherwise unmodified entity
+			authors.get( 5 ).getTags().add( "added" );
+			// a new entity only reachable through a cascade from a modified collection
+			final Author author = authors.get( 7 );
+			author.getBooks().add( new Book( 1000L, "new book", author ) );
+		} );
+
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+		// the book, and the version of the author owning the modified tags
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+		assertThat( statistics.getCollectionRemoveCount() ).isEqualTo( 0 );
+
+		inTransaction( s -> {
+			assertThat( s.find( Book.class, 3L ).getTitle() ).isEqualTo( "renamed" );
+			assertThat( s.find( Book.class, 4L ).getTitle() ).isEqualTo( "book 4" );
+			final Author author = s.find( Author.class, 5L );
+			assertThat( author.getTags() ).containsExactlyInAnyOrder( "tag 5", "added" );
+			assertThat( author.getVersion() ).isEqualTo( 1 );
+			assertThat( s.find( Author.class, 7L ).getBooks() ).hasSize( 2 );
+			assertThat( s.find( Author.class, 8L ).getVersion() ).isEqualTo( 0 );
+		} );
+		assertTags( COUNT + 1 );
+	}
+
+	@Test
+	public void testModificationsAfterFlush() {
+		inTransaction( s -> {
+			final Book book = s.find( Book.class, 1L );
+			book.setTitle( "first" );
+			s.flush();
+			book.setTitle( "second" );
+			s.flush();
+			s.find( Author.class, 2L ).getTags().clear();
+		} );
+
+		inTransaction( s -> {
+			assertThat( s.find( Book.class, 1L ).getTitle() ).isEqualTo( "second" );
+			assertThat( s.find( Author.class, 2L ).getTags() ).isEmpty();
+		} );
+	}
+
+	private void assertTags(int count) {
+		inTransaction( s -> assertThat(
+				s.createQuery( "select count(t) from Author a join a.tags t", Long.class ).getSingleResult()
+		).isEqualTo( count ) );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+
+		String name;
+
+		@Version
+		int version;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#NEAR_CACHE_MAX_ENTRIES}
+ */
+@DomainModel(annotatedClasses = { NearCacheTest.Country.class, NearCacheTest.Account.class })
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100")
+})
+@SessionFactory(generateStatistics = true)
+public class NearCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadFromNearCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( "FR", "France" ) ) );
+		scope.inTransaction( session -> session.find( Country.class, "FR" ) );
+
+		// entries read once are served by the near cache, whatever the remote storage holds
+		final NearCacheDomainDataStorageAccess storageAccess = storageAccess( scope, Country.class );
+		storageAccess.getDelegate().evictData();
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Country.class, "FR" ).name ).isEqualTo( "France" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testMutableRegionNotNearCachedWithoutTimeToLive(SessionFactoryScope scope) {
+		// the writes made by other nodes of a cluster would never be seen
+		assertThat( ( (DomainDataRegionTemplate) scope.getSessionFactory()
+				.getCache()
+				.getRegion( Account.class.getName() ) ).getCacheStorageAccess() )
+				.isNotInstanceOf( NearCacheDomainDataStorageAccess.class );
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Country( "IT", "Italy" ) ) );
+		scope.inTransaction( session -> session.find( Country.class, "IT" ) );
+
+		scope.getSessionFactory().getCache().evictEntityData( Country.class, "IT" );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Country.class, "IT" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBounds() throws InterruptedException {
+		final MapStorageAccessImpl remote = new MapStorageAccessImpl();
+		final NearCacheDomainDataStorageAccess storageAccess = new NearCacheDomainDataStorageAccess( remote, 2, 50 );
+		storageAccess.putIntoCache( "a", "A", null );
+		storageAccess.putIntoCache( "b", "B", null );
+		storageAccess.putIntoCache( "c", "C", null );
+		// writes are not kept on-heap
+		remote.evictData();
+		assertThat( storageAccess.getFromCache( "a", null ) ).isNull();
+
+		storageAccess.putIntoCache( "a", "A", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "A" );
+		remote.evictData();
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "A" );
+
+		// time to live
+		Thread.sleep( 60 );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isNull();
+	}
+
+	private static NearCacheDomainDataStorageAccess storageAccess(SessionFactoryScope scope, Class<?> entityClass) {
+		final DomainDataStorageAccess storageAccess = ( (DomainDataRegionTemplate) scope.getSessionFactory()
+				.getCache()
+				.getRegion( entityClass.getName() ) ).getCacheStorageAccess();
+		assertThat( storageAccess ).isInstanceOf( NearCacheDomainDataStorageAccess.class );
+		return (NearCacheDomainDataStorageAccess) storageAccess;
+	}
+
+	@Entity(name = "Country")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Country {
+		@Id
+		private String code;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Account {
+		@Id
+		private Long id;
+
+		private int balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+}
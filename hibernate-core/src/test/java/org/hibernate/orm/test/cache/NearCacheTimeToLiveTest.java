@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#NEAR_CACHE_TIME_TO_LIVE}
+ */
+@DomainModel(annotatedClasses = NearCacheTimeToLiveTest.Account.class)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100"),
+		@Setting(name = CacheSettings.NEAR_CACHE_TIME_TO_LIVE, value = "60000")
+})
+@SessionFactory
+public class NearCacheTimeToLiveTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testInvalidatedByUpdate(SessionFactoryScope scope) {
+		assertThat( ( (DomainDataRegionTemplate) scope.getSessionFactory()
+				.getCache()
+				.getRegion( Account.class.getName() ) ).getCacheStorageAccess() )
+				.isInstanceOf( NearCacheDomainDataStorageAccess.class );
+
+		scope.inTransaction( session -> session.persist( new Account( 1L, 10 ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1L ).balance ).isEqualTo( 10 ) );
+
+		scope.inTransaction( session -> session.find( Account.class, 1L ).balance = 20 );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1L ).balance ).isEqualTo( 20 ) );
+
+		scope.inTransaction( session -> session.remove( session.find( Account.class, 1L ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1L ) ).isNull() );
+	}
+
+	@Entity(name = "Account")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Account {
+		@Id
+		private Long id;
+
+		private int balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the connection pool of {@link DriverManagerConnectionProviderImpl}
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	private DriverManagerConnectionProviderImpl.PooledConnections configure(String... settings) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pool" );
+		for ( int i = 0; i < settings.length; i += 2 ) {
+			properties.put( settings[i], settings[i + 1] );
+		}
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( PropertiesHelper.map( properties ) );
+		return connectionProvider.getPooledConnections();
+	}
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		final DriverManagerConnectionProviderImpl.PooledConnections pool = configure(
+				AvailableSettings.POOL_SIZE, "1",
+				DriverManagerConnectionProviderImpl.CONNECTION_TIMEOUT, "10000"
+		);
+		final Connection connection = connectionProvider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		while ( pool.getPendingCount() == 0 ) {
+			Thread.sleep( 10 );
+		}
+		connectionProvider.closeConnection( connection );
+
+		assertThat( waiting.get( 10, TimeUnit.SECONDS ) ).isSameAs( connection );
+		connectionProvider.closeConnection( connection );
+		assertThat( pool.getCreatedCount() ).isEqualTo( 1 );
+		assertThat( pool.getAcquiredCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		final DriverManagerConnectionProviderImpl.PooledConnections pool = configure(
+				AvailableSettings.POOL_SIZE, "1",
+				DriverManagerConnectionProviderImpl.CONNECTION_TIMEOUT, "100"
+		);
+		final Connection connection = connectionProvider.getConnection();
+		try {
+			assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+			assertThat( pool.getTimeoutCount() ).isEqualTo( 1 );
+			assertThat( pool.getPendingCount() ).isEqualTo( 0 );
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+
+	@Test
+	public void testConcurrentAcquisition() throws Exception {
+		final DriverManagerConnectionProviderImpl.PooledConnections pool = configure(
+				AvailableSettings.POOL_SIZE, "4",
+				DriverManagerConnectionProviderImpl.CONNECTION_TIMEOUT, "10000"
+		);
+		final ExecutorService executor = Executors.newFixedThreadPool( 32 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 32; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < 100; j++ ) {
+						final Connection connection = connectionProvider.getConnection();
+						connection.createStatement().close();
+						connectionProvider.closeConnection( connection );
+					}
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( pool.getAcquiredCount() ).isEqualTo( 3200 );
+		assertThat( pool.getCreatedCount() ).isLessThanOrEqualTo( 4 );
+		assertThat( pool.getActiveCount() ).isEqualTo( 0 );
+		assertThat( pool.getTimeoutCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testMaxLifetime() throws Exception {
+		final DriverManagerConnectionProviderImpl.PooledConnections pool = configure(
+				DriverManagerConnectionProviderImpl.INITIAL_SIZE, "0",
+				DriverManagerConnectionProviderImpl.MAX_LIFETIME, "100"
+		);
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+		assertThat( pool.getCreatedCount() ).isEqualTo( 1 );
+
+		Thread.sleep( 200 );
+		connectionProvider.closeConnection( connectionProvider.getConnection() );
+
+		assertThat( pool.getCreatedCount() ).isEqualTo( 2 );
+		assertThat( pool.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIdleTimeout() throws Exception {
+		final DriverManagerConnectionProviderImpl.PooledConnections pool = configure(
+				DriverManagerConnectionProviderImpl.MIN_SIZE, "1",
+				DriverManagerConnectionProviderImpl.IDLE_TIMEOUT, "1"
+		);
+		final List<Connection> connections = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ ) {
+			connections.add( connectionProvider.getConnection() );
+		}
+		for ( Connection connection : connections ) {
+			connectionProvider.closeConnection( connection );
+		}
+		assertThat( pool.size() ).isEqualTo( 3 );
+
+		Thread.sleep( 10 );
+		pool.validate();
+
+		assertThat( pool.size() ).isEqualTo( 1 );
+		assertThat( pool.getIdleCount() ).isEqualTo( 1 );
+	}
+}
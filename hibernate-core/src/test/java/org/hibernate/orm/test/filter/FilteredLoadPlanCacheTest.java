@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
+import org.hibernate.loader.ast.internal.SingleIdLoadPlan;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the reuse of the loaders built for enabled filters
+ */
+@DomainModel(annotatedClasses = {
+		FilteredLoadPlanCacheTest.Client.class,
+		FilteredLoadPlanCacheTest.Account.class
+})
+@SessionFactory
+public class FilteredLoadPlanCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+			session.createMutationQuery( "delete from Client" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadPlanReusedForSameFilterValues(SessionFactoryScope scope) {
+		final List<SingleIdLoadPlan<?>> plans = new ArrayList<>();
+		scope.inSession( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+			plans.add( resolveLoadPlan( session ) );
+			plans.add( resolveLoadPlan( session ) );
+		} );
+		scope.inSession( session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+			plans.add( resolveLoadPlan( session ) );
+			session.enableFilter( "region" ).setParameter( "region", "US" );
+			plans.add( resolveLoadPlan( session ) );
+		} );
+
+		assertThat( plans.get( 1 ) ).isSameAs( plans.get( 0 ) );
+		assertThat( plans.get( 2 ) ).isSameAs( plans.get( 0 ) );
+		assertThat( plans.get( 3 ) ).isNotSameAs( plans.get( 0 ) );
+	}
+
+	@Test
+	public void testFilteredCollection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Client client = new Client( 1L );
+			client.accounts.add( new Account( 1L, "EU", client ) );
+			client.accounts.add( new Account( 2L, "US", client ) );
+			client.accounts.add( new Account( 3L, "EU", client ) );
+			session.persist( client );
+		} );
+
+		for ( String region : List.of( "EU", "US", "EU" ) ) {
+			scope.inTransaction( session -> {
+				session.enableFilter( "region" ).setParameter( "region", region );
+				final Client client = session.find( Client.class, 1L );
+				assertThat( client.accounts )
+						.extracting( account -> account.region )
+						.containsOnly( region )
+						.hasSize( region.equals( "EU" ) ? 2 : 1 );
+			} );
+		}
+	}
+
+	private static SingleIdLoadPlan<?> resolveLoadPlan(SessionImplementor session) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Account.class );
+		final SingleIdEntityLoaderStandardImpl<?> loader =
+				(SingleIdEntityLoaderStandardImpl<?>) persister.getSingleIdLoader();
+		return loader.resolveLoadPlan( LockOptions.NONE, session.getLoadQueryInfluencers(), session.getFactory() );
+	}
+
+	@Entity(name = "Client")
+	public static class Client {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "client", cascade = CascadeType.ALL)
+		@Filter(name = "region", condition = "region = :region")
+		private List<Account> accounts = new ArrayList<>();
+
+		public Client() {
+		}
+
+		public Client(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Account")
+	@FilterDef(name = "region", parameters = @ParamDef(name = "region", type = String.class))
+	@Filter(name = "region", condition = "region = :region")
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String region;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Client client;
+
+		public Account() {
+		}
+
+		public Account(Long id, String region, Client client) {
+			this.id = id;
+			this.region = region;
+			this.client = client;
+		}
+	}
+}
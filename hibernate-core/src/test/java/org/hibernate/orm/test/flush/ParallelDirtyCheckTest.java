@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Account.class,
+		ParallelDirtyCheckTest.Transfer.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, value = "100"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckTest {
+	private static final int COUNT = 2_000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				final Account account = new Account( i, "account " + i, new Address( "street " + i, "city" ) );
+				session.persist( account );
+				session.persist( new Transfer( i, account ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Transfer" ).executeUpdate();
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testDirtyEntitiesAreUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.getResultList();
+			final List<Transfer> transfers = session.createSelectionQuery( "from Transfer order by id", Transfer.class )
+					.getResultList();
+			for ( int i = 0; i < COUNT; i += 10 ) {
+				accounts.get( i ).name = "renamed " + i;
+			}
+			for ( int i = 5; i < COUNT; i += 100 ) {
+				accounts.get( i ).address.city = "elsewhere";
+			}
+			for ( int i = 0; i < COUNT; i += 50 ) {
+				transfers.get( i ).amount = 42;
+			}
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT / 10 + COUNT / 100 + COUNT / 50 );
+
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.getResultList();
+			for ( Account account : accounts ) {
+				final int i = (int) (long) account.id;
+				assertThat( account.name ).isEqualTo( i % 10 == 0 ? "renamed " + i : "account " + i );
+				assertThat( account.address.city ).isEqualTo( i % 100 == 5 ? "elsewhere" : "city" );
+				assertThat( account.version ).isEqualTo( i % 10 == 0 || i % 100 == 5 ? 1 : 0 );
+			}
+			assertThat( session.createSelectionQuery( "select count(*) from Transfer where amount = 42", Long.class )
+								.getSingleResult() ).isEqualTo( COUNT / 50 );
+		} );
+	}
+
+	@Test
+	public void testCleanFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Account", Account.class ).getResultList();
+			session.flush();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Address address;
+
+		@Version
+		private int version;
+
+		public Account() {
+		}
+
+		public Account(Long id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Transfer")
+	public static class Transfer {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Account account;
+
+		private int amount;
+
+		public Transfer() {
+		}
+
+		public Transfer(Long id, Account account) {
+			this.id = id;
+			this.account = account;
+		}
+	}
+}
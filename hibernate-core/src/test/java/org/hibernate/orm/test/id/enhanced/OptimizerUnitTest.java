@@ -6,6 +6,14 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +25,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -304,6 +313,69 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 10 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// the middle of the block triggers the fetch of the next block
+		assertEquals( 6, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+10), sequence.getCurrentValue() );
+
+		// which is used once the current block is exhausted
+		for ( int i = 7; i <= 15; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+10), optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoConcurrentOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int idsPerThread = 10_000;
+		final int increment = 100;
+		final SourceMock sequence = new SourceMock( 1, increment );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, increment );
+
+		final Set<Long> ids = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < idsPerThread; j++ ) {
+						assertTrue( ids.add( (Long) optimizer.generate( sequence ) ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertEquals( threads * idsPerThread, ids.size() );
+		// no values are lost, apart from those of the current and prefetched blocks
+		final long total = (long) threads * idsPerThread;
+		assertTrue( sequence.getTimesCalled() <= total / increment + 2 );
+		for ( Long id : ids ) {
+			assertTrue( id >= 1 && id < sequence.getTimesCalled() * increment + 1 );
+		}
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +396,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests insert ordering of entities whose associations form a cycle,
+ * which used to make the sort fall back to the original order.
+ */
+public class InsertOrderingCircularDependencyTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Department.class, Employee.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builer) {
+		super.applySettings( builer );
+		builer.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testCycleBetweenEntities() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final Long[] ids = new Long[2];
+		sessionFactoryScope().inTransaction( session -> {
+			final Department sales = new Department( "sales", null );
+			session.persist( sales );
+			final Employee alice = new Employee( "alice", sales, null );
+			session.persist( alice );
+			final Department marketing = new Department( "marketing", null );
+			session.persist( marketing );
+			final Employee bob = new Employee( "bob", marketing, alice );
+			session.persist( bob );
+			final Employee carol = new Employee( "carol", sales, bob );
+			session.persist( carol );
+			final Department board = new Department( "board", alice );
+			session.persist( board );
+			final Employee dave = new Employee( "dave", board, carol );
+			session.persist( dave );
+			ids[0] = board.id;
+			ids[1] = dave.id;
+
+			statistics.clear();
+			clearBatches();
+		} );
+
+		// departments without manager, employees of these, the board, and its employee
+		assertThat( statistics.getFlushCount() ).isEqualTo( 1 );
+		assertThat( statistics.getFlushBatchCount() ).isEqualTo( 4 );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final Employee dave = session.find( Employee.class, ids[1] );
+			assertThat( dave.department.id ).isEqualTo( ids[0] );
+			assertThat( dave.department.manager.name ).isEqualTo( "alice" );
+			assertThat( dave.supervisor.supervisor.supervisor.name ).isEqualTo( "alice" );
+		} );
+	}
+
+	@Test
+	public void testSelfReference() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		sessionFactoryScope().inTransaction( session -> {
+			final Department department = new Department( "engineering", null );
+			session.persist( department );
+			Employee supervisor = null;
+			for ( int i = 0; i < 5; i++ ) {
+				final Employee employee = new Employee( "employee " + i, department, supervisor );
+				session.persist( employee );
+				supervisor = employee;
+			}
+
+			statistics.clear();
+			clearBatches();
+		} );
+
+		assertThat( statistics.getFlushBatchCount() ).isEqualTo( 2 );
+		verifyContainsBatches(
+				new Batch( "insert into Department (manager_id,name,id) values (?,?,?)" ),
+				new Batch( "insert into Employee (department_id,name,supervisor_id,id) values (?,?,?,?)", 5 )
+		);
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Employee manager;
+
+		public Department() {
+		}
+
+		public Department(String name, Employee manager) {
+			this.name = name;
+			this.manager = manager;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Department department;
+
+		@ManyToOne
+		Employee supervisor;
+
+		public Employee() {
+		}
+
+		public Employee(String name, Department department, Employee supervisor) {
+			this.name = name;
+			this.department = department;
+			this.supervisor = supervisor;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs a load and flush workload on virtual threads, and verifies that no
+ * {@code jdk.VirtualThreadPinned} event is recorded while a virtual thread
+ * holds a monitor of Hibernate code.
+ */
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.POOL_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.SHOW_SQL, value = "false")
+})
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int TASKS = 500;
+	// the built-in pool fails, rather than waits, when it's exhausted
+	private static final int CONCURRENT_SESSIONS = 8;
+
+	@Test
+	public void testNoPinning(SessionFactoryScope scope) throws Exception {
+		assumeTrue( Runtime.version().feature() >= 21, "Virtual threads require JDK 21" );
+
+		final Path file = Files.createTempFile( "hibernate-pinning", ".jfr" );
+		try {
+			try ( Recording recording = new Recording() ) {
+				recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+				recording.start();
+				runWorkload( scope );
+				recording.stop();
+				recording.dump( file );
+			}
+
+			final List<String> pinnedStackTraces = RecordingFile.readAllEvents( file ).stream()
+					.filter( event -> event.getEventType().getName().equals( PINNED_EVENT ) )
+					.filter( VirtualThreadPinningTest::isPinnedByHibernate )
+					.map( event -> event.getStackTrace().toString() )
+					.collect( Collectors.toList() );
+			assertThat( pinnedStackTraces ).isEmpty();
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private static void runWorkload(SessionFactoryScope scope) throws Exception {
+		final Semaphore sessions = new Semaphore( CONCURRENT_SESSIONS );
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		for ( int i = 0; i < TASKS; i++ ) {
+			final String name = "item " + i;
+			tasks.add( () -> {
+				sessions.acquire();
+				try {
+					final Long id = scope.fromTransaction( session -> {
+						final Item item = new Item( name );
+						session.persist( item );
+						return item.id;
+					} );
+					scope.inTransaction( session -> {
+						final Item item = session.find( Item.class, id );
+						item.name = item.name + " updated";
+						session.createSelectionQuery( "from Item where name = :name", Item.class )
+								.setParameter( "name", name )
+								.getResultList();
+					} );
+					scope.inTransaction( session -> assertThat( session.find( Item.class, id ).name )
+							.isEqualTo( name + " updated" ) );
+				}
+				finally {
+					sessions.release();
+				}
+				return null;
+			} );
+		}
+
+		// created reflectively, since the build baseline predates virtual threads
+		final ExecutorService executor =
+				(ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		try {
+			for ( Future<Void> future : executor.invokeAll( tasks ) ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Whether the pinning happened in Hibernate code, as opposed to in the JDBC
+	 * driver, or in this test
+	 */
+	private static boolean isPinnedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		boolean hibernate = false;
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			final String typeName = frame.getMethod().getType().getName();
+			if ( typeName.startsWith( "org.h2." ) ) {
+				return false;
+			}
+			hibernate = hibernate
+					|| typeName.startsWith( "org.hibernate." )
+					&& !typeName.startsWith( "org.hibernate.orm.test." )
+					&& !typeName.startsWith( "org.hibernate.testing." );
+		}
+		return hibernate;
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
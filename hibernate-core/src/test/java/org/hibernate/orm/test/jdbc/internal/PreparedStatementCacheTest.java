@@ -0,0 +1,318 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value JdbcSettings#STATEMENT_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.jdbc.internal.PreparedStatementCacheTest$SingleConnectionProvider")
+})
+@SessionFactory
+public class PreparedStatementCacheTest {
+	private static final String SELECT_NAME = "select name from Item where id = ?";
+	private static final String SELECT_ID = "select id from Item where name = ?";
+	private static final String COUNT = "select count(*) from Item";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReuseWithinSession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PreparedStatement statement = prepare( session, SELECT_NAME );
+			// a statement in use is not shared
+			final PreparedStatement concurrentStatement = prepare( session, SELECT_NAME );
+			assertThat( concurrentStatement ).isNotSameAs( statement );
+			release( session, concurrentStatement );
+			release( session, statement );
+
+			assertThat( prepare( session, SELECT_NAME ) ).isIn( statement, concurrentStatement );
+		} );
+	}
+
+	@Test
+	public void testReuseAcrossSessions(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( 1L, "first" ) ) );
+
+		final PreparedStatement[] statements = new PreparedStatement[1];
+		scope.inTransaction( session -> {
+			statements[0] = prepare( session, SELECT_NAME );
+			assertThat( selectName( statements[0], 1L ) ).isEqualTo( "first" );
+			release( session, statements[0] );
+		} );
+		// the pool closed the statements prepared through its wrapper, but not the cached ones
+		assertThat( isClosed( statements[0] ) ).isFalse();
+
+		scope.inTransaction( session -> {
+			final PreparedStatement statement = prepare( session, SELECT_NAME );
+			assertThat( statement ).isSameAs( statements[0] );
+			assertThat( selectName( statement, 1L ) ).isEqualTo( "first" );
+			release( session, statement );
+		} );
+	}
+
+	@Test
+	public void testEvictionOnConnectionClose(SessionFactoryScope scope) {
+		final PreparedStatement[] statements = new PreparedStatement[1];
+		scope.inTransaction( session -> {
+			statements[0] = prepare( session, SELECT_NAME );
+			release( session, statements[0] );
+		} );
+		try {
+			statements[0].getConnection().close();
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+
+		scope.inTransaction( session -> {
+			final PreparedStatement statement = prepare( session, SELECT_NAME );
+			assertThat( statement ).isNotSameAs( statements[0] );
+			assertThat( isClosed( statement ) ).isFalse();
+			release( session, statement );
+		} );
+	}
+
+	@Test
+	public void testResetOnRelease(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PreparedStatement statement = prepare( session, SELECT_NAME );
+			final boolean poolable;
+			try {
+				poolable = statement.isPoolable();
+				statement.setPoolable( !poolable );
+				statement.setMaxRows( 5 );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			release( session, statement );
+
+			final PreparedStatement reused = prepare( session, SELECT_NAME );
+			assertThat( reused ).isSameAs( statement );
+			try {
+				assertThat( reused.isPoolable() ).isEqualTo( poolable );
+				assertThat( reused.getMaxRows() ).isEqualTo( 0 );
+				// a statement closing on completion can't be reset
+				reused.closeOnCompletion();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			release( session, reused );
+
+			assertThat( isClosed( reused ) ).isTrue();
+			assertThat( prepare( session, SELECT_NAME ) ).isNotSameAs( reused );
+		} );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PreparedStatement selectName = prepare( session, SELECT_NAME );
+			release( session, selectName );
+			final PreparedStatement selectId = prepare( session, SELECT_ID );
+			release( session, selectId );
+			release( session, prepare( session, SELECT_NAME ) );
+			final PreparedStatement count = prepare( session, COUNT );
+			release( session, count );
+
+			assertThat( isClosed( selectId ) ).isTrue();
+			assertThat( isClosed( selectName ) ).isFalse();
+			assertThat( prepare( session, SELECT_NAME ) ).isSameAs( selectName );
+			assertThat( prepare( session, COUNT ) ).isSameAs( count );
+		} );
+	}
+
+	@Test
+	public void testEntityOperations(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 5; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				assertThat( session.find( Item.class, 3L ).name ).isEqualTo( "item 3" );
+				assertThat( session.createSelectionQuery( "from Item where name = :name", Item.class )
+									.setParameter( "name", "item 4" )
+									.setMaxResults( 1 )
+									.getSingleResult().id ).isEqualTo( 4L );
+				assertThat( session.createSelectionQuery( "from Item", Item.class ).getResultList() ).hasSize( 5 );
+			} );
+		}
+	}
+
+	private static PreparedStatement prepare(SessionImplementor session, String sql) {
+		return session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+	}
+
+	private static void release(SessionImplementor session, PreparedStatement statement) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private static String selectName(PreparedStatement statement, long id) {
+		try {
+			statement.setLong( 1, id );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				return resultSet.next() ? resultSet.getString( 1 ) : null;
+			}
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static boolean isClosed(Statement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	/**
+	 * Hands out a single physical connection, wrapped like connection pools do, and
+	 * closing the statements prepared through the wrapper when it is returned
+	 */
+	public static class SingleConnectionProvider extends ConnectionProviderDelegate {
+		private static final long serialVersionUID = 1L;
+
+		private Connection physicalConnection;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if ( physicalConnection == null || physicalConnection.isClosed() ) {
+				physicalConnection = super.getConnection();
+			}
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { Connection.class },
+					new PooledConnectionHandler( physicalConnection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			( (PooledConnectionHandler) Proxy.getInvocationHandler( connection ) ).closeStatements();
+		}
+
+		@Override
+		public void stop() {
+			if ( physicalConnection != null ) {
+				try {
+					super.closeConnection( physicalConnection );
+				}
+				catch (SQLException e) {
+					throw new RuntimeException( e );
+				}
+				physicalConnection = null;
+			}
+			super.stop();
+		}
+	}
+
+	private static class PooledConnectionHandler implements InvocationHandler {
+		private final Connection physicalConnection;
+		private final List<Statement> statements = new ArrayList<>();
+
+		private PooledConnectionHandler(Connection physicalConnection) {
+			this.physicalConnection = physicalConnection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch ( method.getName() ) {
+				case "unwrap":
+					return ( (Class<?>) args[0] ).isInstance( physicalConnection )
+							? physicalConnection
+							: physicalConnection.unwrap( (Class<?>) args[0] );
+				case "close":
+					closeStatements();
+					return null;
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode( proxy );
+			}
+			final Object result;
+			try {
+				result = method.invoke( physicalConnection, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			if ( result instanceof Statement ) {
+				statements.add( (Statement) result );
+			}
+			return result;
+		}
+
+		private void closeStatements() throws SQLException {
+			for ( Statement statement : statements ) {
+				statement.close();
+			}
+			statements.clear();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pc;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE}
+ */
+@DomainModel(annotatedClasses = {
+		PrimitiveIdStorageTest.Parent.class,
+		PrimitiveIdStorageTest.Child.class,
+		PrimitiveIdStorageTest.Tag.class,
+		PrimitiveIdStorageTest.Composite.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_PRIMITIVE_ID_STORAGE, value = "true"))
+@SessionFactory
+public class PrimitiveIdStorageTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+			session.createMutationQuery( "delete from Tag" ).executeUpdate();
+			session.createMutationQuery( "delete from Composite" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLookupsAndRemovals(SessionFactoryScope scope) {
+		final List<UUID> tagIds = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 200; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				session.persist( new Child( (int) i, parent ) );
+				final Tag tag = new Tag( UUID.randomUUID() );
+				tagIds.add( tag.id );
+				session.persist( tag );
+				session.persist( new Composite( i, "c" + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery( "from Parent", Parent.class ).getResultList();
+			session.createSelectionQuery( "from Tag", Tag.class ).getResultList();
+			session.createSelectionQuery( "from Composite", Composite.class ).getResultList();
+			assertThat( parents ).hasSize( 200 );
+
+			final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class )
+					.getPersistenceContextInternal();
+			final EntityPersister parentPersister = persister( session, Parent.class );
+			final EntityPersister tagPersister = persister( session, Tag.class );
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 600 );
+			assertThat( persistenceContext.getEntity( 42L, parentPersister ) ).isSameAs( session.find( Parent.class, 42L ) );
+			assertThat( persistenceContext.getEntity( tagIds.get( 7 ), tagPersister ) ).isSameAs( session.find( Tag.class, tagIds.get( 7 ) ) );
+			assertThat( persistenceContext.containsEntity( 500L, parentPersister ) ).isFalse();
+			assertThat( persistenceContext.containsEntity( new EntityKey( 3L, parentPersister ) ) ).isTrue();
+
+			// removing entries shifts the entries of the open-addressing tables
+			for ( int i = 0; i < 200; i += 2 ) {
+				session.remove( parents.get( i ) );
+			}
+			session.flush();
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 500 );
+			for ( Parent parent : parents ) {
+				final boolean removed = parent.id % 2 == 0;
+				assertThat( persistenceContext.containsEntity( parent.id, parentPersister ) ).isNotEqualTo( removed );
+				assertThat( persistenceContext.getEntity( parent.id, parentPersister ) ).isSameAs( removed ? null : parent );
+			}
+
+			final Set<Object> managed = new HashSet<>();
+			persistenceContext.managedEntitiesIterator().forEachRemaining( managed::add );
+			assertThat( managed ).hasSize( 500 );
+			assertThat( managed ).contains( session.find( Composite.class, new CompositeId( 5L, "c5" ) ) );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( long i = 1; i < 200; i += 2 ) {
+				final Parent parent = session.find( Parent.class, i );
+				assertThat( parent.children ).hasSize( 1 );
+				assertThat( parent.children.iterator().next().parent ).isSameAs( parent );
+			}
+			final Child child = session.find( Child.class, 0 );
+			assertThat( child ).isNull();
+		} );
+	}
+
+	@Test
+	public void testIteratorRemoval(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 300; i++ ) {
+				session.persist( new Parent( i ) );
+				session.persist( new Tag( UUID.randomUUID() ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Parent", Parent.class ).getResultList();
+			session.createSelectionQuery( "from Tag", Tag.class ).getResultList();
+
+			final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class )
+					.getPersistenceContextInternal();
+			final EntityPersister parentPersister = persister( session, Parent.class );
+			final Map<EntityKey, Object> entitiesByKey = persistenceContext.getEntitiesByKey();
+			assertThat( entitiesByKey ).hasSize( 600 );
+
+			// removing entries while iterating shifts the entries which are not yet visited
+			final Set<EntityKey> visited = new HashSet<>();
+			final Iterator<Map.Entry<EntityKey, Object>> iterator = entitiesByKey.entrySet().iterator();
+			while ( iterator.hasNext() ) {
+				final Map.Entry<EntityKey, Object> entry = iterator.next();
+				assertThat( visited.add( entry.getKey() ) ).isTrue();
+				if ( entry.getValue() instanceof Tag || ( (Parent) entry.getValue() ).id % 3 == 0 ) {
+					iterator.remove();
+				}
+			}
+			assertThat( visited ).hasSize( 600 );
+			assertThat( entitiesByKey ).hasSize( 200 );
+			for ( long i = 0; i < 300; i++ ) {
+				assertThat( persistenceContext.containsEntity( i, parentPersister ) ).isEqualTo( i % 3 != 0 );
+			}
+
+			final Iterator<Object> values = entitiesByKey.values().iterator();
+			values.next();
+			entitiesByKey.remove( new EntityKey( 1L, parentPersister ) );
+			assertThatThrownBy( values::next ).isInstanceOf( ConcurrentModificationException.class );
+
+			session.clear();
+		} );
+	}
+
+	private static EntityPersister persister(Session session, Class<?> entityClass) {
+		return session.getSessionFactory().unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "parent", orphanRemoval = true, cascade = CascadeType.ALL)
+		private Set<Child> children = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+			parent.children.add( this );
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private UUID id;
+
+		public Tag() {
+		}
+
+		public Tag(UUID id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Composite")
+	@IdClass(CompositeId.class)
+	public static class Composite {
+		@Id
+		private Long number;
+
+		@Id
+		private String code;
+
+		public Composite() {
+		}
+
+		public Composite(Long number, String code) {
+			this.number = number;
+			this.code = code;
+		}
+	}
+
+	public static class CompositeId implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private Long number;
+		private String code;
+
+		public CompositeId() {
+		}
+
+		public CompositeId(Long number, String code) {
+			this.number = number;
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof CompositeId ) ) {
+				return false;
+			}
+			final CompositeId that = (CompositeId) o;
+			return Objects.equals( number, that.number ) && Objects.equals( code, that.code );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( number, code );
+		}
+	}
+}
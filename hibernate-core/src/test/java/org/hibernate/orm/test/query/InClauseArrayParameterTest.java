@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#IN_CLAUSE_ARRAY_PARAMETER}
+ */
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Person.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testHql(SessionFactoryScope scope) {
+		final String query = "select p.id from Person p where p.id in :ids order by p.id";
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( query, Integer.class )
+					.setParameterList( "ids", List.of( 3, 1, 2 ) )
+					.getResultList() ).containsExactly( 1, 2, 3 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+					.setParameterList( "ids", List.of( 4, 5, 6, 7, 8 ) )
+					.getResultList() ).containsExactly( 4, 5, 6, 7, 8 );
+			assertThat( session.createSelectionQuery( query, Integer.class )
+					.setParameterList( "ids", List.of() )
+					.getResultList() ).isEmpty();
+			assertThat( session.createSelectionQuery( query, Integer.class )
+					.setParameter( "ids", 9 )
+					.getResultList() ).containsExactly( 9 );
+		} );
+
+		if ( supportsArrayParameter( scope ) ) {
+			assertThat( statementInspector.getSqlQueries().get( 0 ) )
+					.isEqualTo( statementInspector.getSqlQueries().get( 1 ) );
+			assertThat( statementInspector.getSqlQueries().get( 1 ) ).doesNotContain( "?,?" );
+		}
+		else {
+			assertThat( statementInspector.getSqlQueries().get( 1 ) ).contains( "?,?,?,?,?" );
+		}
+	}
+
+	@Test
+	public void testNegatedHql(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select p.id from Person p where p.id not in :ids order by p.id", Integer.class )
+						.setParameterList( "ids", List.of( 1, 2, 3, 4, 5, 6 ) )
+						.getResultList()
+		).containsExactly( 7, 8, 9 ) );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<String> criteria = cb.createQuery( String.class );
+			final Root<Person> root = criteria.from( Person.class );
+			@SuppressWarnings("unchecked")
+			final ParameterExpression<List<String>> names =
+					cb.parameter( (Class<List<String>>) (Class<?>) List.class, "names" );
+			criteria.select( root.get( "name" ) )
+					.where( root.get( "name" ).in( names ) )
+					.orderBy( cb.asc( root.get( "name" ) ) );
+			assertThat( session.createQuery( criteria )
+					.setParameter( "names", List.of( "Person nr 2", "Person nr 4" ) )
+					.getResultList() ).containsExactly( "Person nr 2", "Person nr 4" );
+		} );
+
+		if ( supportsArrayParameter( scope ) ) {
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "?,?" );
+		}
+	}
+
+	private static boolean supportsArrayParameter(SessionFactoryScope scope) {
+		final Dialect dialect = scope.getSessionFactory().getJdbcServices().getDialect();
+		return MultiKeyLoadHelper.supportsSqlArrayType( dialect );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the caching of the translation of queries with parameter lists
+ * when {@value AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled
+ */
+@DomainModel(annotatedClasses = InClauseParameterPaddingPlanCacheTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+		@Setting(name = AvailableSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+})
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+public class InClauseParameterPaddingPlanCacheTest {
+	private static final String QUERY = "select p.id from Person p where p.id in :ids order by p.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				session.persist( new Person( i, "Person nr " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPaddedListsShareTranslation(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		assertThat( selectIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		statistics.clear();
+		statementInspector.clear();
+
+		assertThat( selectIds( scope, List.of( 4, 5, 6, 7 ) ) ).containsExactly( 4, 5, 6, 7 );
+		assertThat( selectIds( scope, List.of( 8, 9, 1 ) ) ).containsExactly( 1, 8, 9 );
+		// the query plan is reused: unlike hits, misses only count the query plans, not the HQL interpretations
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		assertThat( statementInspector.getSqlQueries() )
+				.allMatch( sql -> sql.contains( " in (?,?,?,?)" ) );
+
+		assertThat( selectIds( scope, List.of( 1, 2, 3, 4, 5 ) ) ).containsExactly( 1, 2, 3, 4, 5 );
+		assertThat( selectIds( scope, List.of( 9, 8, 7, 6, 5, 4, 3 ) ) ).containsExactly( 3, 4, 5, 6, 7, 8, 9 );
+		assertThat( selectIds( scope, List.of( 2 ) ) ).containsExactly( 2 );
+		assertThat( selectIds( scope, List.of( 2, 3 ) ) ).containsExactly( 2, 3 );
+	}
+
+	@Test
+	public void testSeveralParameterLists(SessionFactoryScope scope) {
+		final String query = "select p.id from Person p where p.id in :ids or p.name in :names order by p.id";
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( query, Integer.class )
+							.setParameterList( "ids", List.of( 1, 2, 3 ) )
+							.setParameterList( "names", List.of( "Person nr 5" ) )
+							.getResultList()
+			).containsExactly( 1, 2, 3, 5 ) );
+		}
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( query, Integer.class )
+						.setParameterList( "ids", List.of( 1, 2, 3, 4 ) )
+						.setParameterList( "names", List.of( "Person nr 5", "Person nr 6" ) )
+						.getResultList()
+		).containsExactly( 1, 2, 3, 4, 5, 6 ) );
+	}
+
+	private static List<Integer> selectIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Integer.class )
+				.setParameterList( "ids", ids )
+				.getResultList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_CACHE_COLUMNAR_LAYOUT}
+ */
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_COLUMNAR_LAYOUT, value = "true")
+})
+@SessionFactory(generateStatistics = true)
+public class ColumnarQueryCacheTest {
+	private static final int COUNT = 100;
+	private static final String QUERY =
+			"select p.id, p.quantity, p.price, p.category, p.name, p.added from Product p order by p.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				session.persist( new Product(
+						i,
+						(int) i * 3,
+						i % 7 == 0 ? null : i / 4d,
+						i % 10 == 0 ? null : "category " + i % 3,
+						"product " + i,
+						LocalDate.of( 2023, 1, 1 ).plusDays( i )
+				) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testCachedTuples(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Object[]> results = scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		final List<Object[]> cachedResults = scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		assertThat( cachedResults ).hasSize( COUNT );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertThat( cachedResults.get( i ) ).containsExactly( results.get( i ) );
+		}
+		assertThat( cachedResults.get( 0 )[2] ).isNull();
+		assertThat( cachedResults.get( 0 )[3] ).isNull();
+		assertThat( cachedResults.get( 5 )[3] ).isEqualTo( "category 2" );
+	}
+
+	@Test
+	public void testCachedEntities(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final String query = "from Product where category = :category order by id";
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Product> products = session.createSelectionQuery( query, Product.class )
+						.setParameter( "category", "category 1" )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( products ).hasSize( 30 );
+				assertThat( products ).allMatch( product -> product.category.equals( "category 1" ) );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testSerialization() {
+		final ColumnarQueryResults.Builder builder = ColumnarQueryResults.builder( null );
+		for ( int i = 0; i < COUNT; i++ ) {
+			builder.addRow( new Object[] {
+					(long) i,
+					i % 5 == 0 ? null : i,
+					i / 2d,
+					"value " + i % 4,
+					i % 2 == 0 ? "string " + i : LocalDate.of( 2023, 1, 1 )
+			} );
+		}
+
+		final ColumnarQueryResults results = builder.build();
+		final ColumnarQueryResults copy = (ColumnarQueryResults) SerializationHelper.clone( results );
+		assertThat( copy.getRowCount() ).isEqualTo( COUNT );
+		assertThat( copy.getColumnCount() ).isEqualTo( 5 );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertThat( (Object[]) copy.get( i ) ).containsExactly( (Object[]) results.get( i ) );
+		}
+		assertThat( copy.getValue( 3, 0 ) ).isEqualTo( 3L );
+		assertThat( copy.getValue( 10, 1 ) ).isNull();
+		assertThat( copy.getValue( 7, 3 ) ).isEqualTo( "value 3" );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private int quantity;
+
+		private Double price;
+
+		private String category;
+
+		private String name;
+
+		private LocalDate added;
+
+		public Product() {
+		}
+
+		public Product(Long id, int quantity, Double price, String category, String name, LocalDate added) {
+			this.id = id;
+			this.quantity = quantity;
+			this.price = price;
+			this.category = category;
+			this.name = name;
+			this.added = added;
+		}
+	}
+}
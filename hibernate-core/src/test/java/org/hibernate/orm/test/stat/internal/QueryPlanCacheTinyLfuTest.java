@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryPlanCacheTinyLfuTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION, value = "tinylfu")
+})
+@SessionFactory
+public class QueryPlanCacheTinyLfuTest {
+
+	@Test
+	public void testHitsMissesAndEvictions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		assertThat( interpretationCache ).isInstanceOf( QueryInterpretationCacheStandardImpl.class );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.createSelectionQuery( "from Employee e where e.id = " + i, Employee.class ).getResultList();
+			}
+			session.createSelectionQuery( "from Employee e where e.id = 49", Employee.class ).getResultList();
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isGreaterThanOrEqualTo( 50 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( 0 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 10 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
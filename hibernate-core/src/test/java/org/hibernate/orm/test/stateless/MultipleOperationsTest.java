@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the bulk operations of {@link org.hibernate.StatelessSession}
+ */
+@DomainModel(annotatedClasses = {
+		MultipleOperationsTest.Record.class,
+		MultipleOperationsTest.Item.class,
+		MultipleOperationsTest.Note.class,
+		MultipleOperationsTest.Folder.class,
+		MultipleOperationsTest.Document.class
+})
+@SessionFactory(generateStatistics = true)
+public class MultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Record" ).executeUpdate();
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+			session.createMutationQuery( "delete from Document" ).executeUpdate();
+			session.createMutationQuery( "delete from Folder" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Record> records = new ArrayList<>();
+		for ( long i = 1; i <= 10; i++ ) {
+			records.add( new Record( i, "hello " + i ) );
+		}
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( records ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( countRecords( scope ) ).isEqualTo( 10 );
+
+		records.forEach( record -> record.message = "goodbye " + record.id );
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( records ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( records ).allMatch( record -> record.version == 1 );
+		scope.inStatelessTransaction( session -> assertThat( session.get( Record.class, 5L ).message )
+				.isEqualTo( "goodbye 5" ) );
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( records.subList( 0, 6 ) ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( countRecords( scope ) ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testMixedEntityTypes(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( long i = 1; i <= 5; i++ ) {
+			entities.add( new Record( i, "record " + i ) );
+			entities.add( new Item( "item " + i ) );
+		}
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		assertThat( entities ).filteredOn( Item.class::isInstance )
+				.allMatch( item -> ( (Item) item ).id != null );
+		assertThat( countRecords( scope ) ).isEqualTo( 5 );
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		).isEqualTo( 5L ) );
+	}
+
+	@Test
+	public void testForeignKeyOrder(SessionFactoryScope scope) {
+		final Folder folder = new Folder( 1L );
+		final List<Object> entities = List.of(
+				new Document( 1L, null ),
+				folder,
+				new Document( 2L, folder )
+		);
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+		scope.inStatelessTransaction( session -> assertThat( session.get( Document.class, 2L ).folder.id )
+				.isEqualTo( 1L ) );
+
+		final List<Object> reversed = new ArrayList<>( entities );
+		Collections.reverse( reversed );
+		scope.inStatelessTransaction( session -> session.deleteMultiple( reversed ) );
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Folder", Long.class ).getSingleResult()
+		).isEqualTo( 0L ) );
+	}
+
+	@Test
+	public void testUpsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inStatelessTransaction( session -> session.insert( new Note( 1L, "hello earth" ) ) );
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Note( 1L, "goodbye earth" ),
+				new Note( 2L, "hello mars" )
+		) ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Note.class, 1L ).text ).isEqualTo( "goodbye earth" );
+			assertThat( session.get( Note.class, 2L ).text ).isEqualTo( "hello mars" );
+		} );
+	}
+
+	private static long countRecords(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery(
+				"select count(*) from Record",
+				Long.class
+		).getSingleResult() );
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		private Long id;
+
+		@Version
+		private Integer version;
+
+		private String message;
+
+		public Record() {
+		}
+
+		public Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Long id;
+
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		private Long id;
+
+		public Folder() {
+		}
+
+		public Folder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Folder folder;
+
+		public Document() {
+		}
+
+		public Document(Long id, Folder folder) {
+			this.id = id;
+			this.folder = folder;
+		}
+	}
+}
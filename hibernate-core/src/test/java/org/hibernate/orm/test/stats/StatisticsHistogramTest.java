@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.stat.Histogram;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.internal.HistogramImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for the {@link Histogram}s of {@link Statistics}
+ */
+@DomainModel(annotatedClasses = StatisticsHistogramTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"))
+@SessionFactory(generateStatistics = true)
+public class StatisticsHistogramTest {
+	private static final String QUERY = "from Item where id > :id";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final HistogramImpl histogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS );
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isEqualTo( 0 );
+
+		for ( long value = 1; value <= 10_000; value++ ) {
+			histogram.record( value * 1_000 );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 10_000 );
+		assertThat( histogram.getMaxValue() ).isEqualTo( 10_000_000 );
+		assertThat( (double) histogram.getValueAtPercentile( 50 ) ).isCloseTo( 5_000_000, within( 625_000d ) );
+		assertThat( (double) histogram.getValueAtPercentile( 99 ) ).isCloseTo( 9_900_000, within( 1_237_500d ) );
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isGreaterThanOrEqualTo( 9_900_000 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 10_000_000 );
+
+		// small values are exact
+		final HistogramImpl rows = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_ROW_COUNT );
+		rows.record( 3 );
+		rows.record( 5 );
+		rows.record( -1 );
+		rows.record( Long.MAX_VALUE );
+		assertThat( rows.getCount() ).isEqualTo( 3 );
+		assertThat( rows.getValueAtPercentile( 10 ) ).isEqualTo( 3 );
+		assertThat( rows.getValueAtPercentile( 50 ) ).isEqualTo( 5 );
+
+		rows.clear();
+		assertThat( rows.getCount() ).isEqualTo( 0 );
+		assertThat( rows.getMaxValue() ).isEqualTo( 0 );
+		assertThat( rows.getValueAtPercentile( 50 ) ).isEqualTo( 0 );
+
+		// recording again after clearing
+		rows.record( 7 );
+		assertThat( rows.getCount() ).isEqualTo( 1 );
+		assertThat( rows.getMaxValue() ).isEqualTo( 7 );
+	}
+
+	@Test
+	public void testExpiry() throws InterruptedException {
+		final long expiry = TimeUnit.MILLISECONDS.toNanos( 300 );
+		final HistogramImpl histogram = new HistogramImpl( HistogramImpl.HIGHEST_TRACKABLE_NANOSECONDS, expiry );
+		histogram.record( 1_000_000 );
+		assertThat( histogram.getMaxValue() ).isEqualTo( 1_000_000 );
+
+		TimeUnit.NANOSECONDS.sleep( expiry + expiry / 2 );
+		histogram.record( 1_000 );
+		// the percentiles and the maximum only account for recent values, the count for all of them
+		assertThat( histogram.getCount() ).isEqualTo( 2 );
+		assertThat( histogram.getMaxValue() ).isEqualTo( 1_000 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1_000 );
+	}
+
+	@Test
+	public void testRecordedStatistics(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 10; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+		assertThat( statistics.getFlushTimeHistogram().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getBatchExecutionTimeHistogram().getCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			session.find( Item.class, 1L );
+			session.createSelectionQuery( QUERY, Item.class ).setParameter( "id", 2L ).getResultList();
+			session.createSelectionQuery( QUERY, Item.class ).setParameter( "id", 7L ).getResultList();
+		} );
+		assertThat( statistics.getEntityLoadTimeHistogram().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryExecutionTimeHistogram().getCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryExecutionTimeHistogram().getMaxValue() ).isGreaterThan( 0 );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( QUERY );
+		assertThat( queryStatistics.getExecutionTimeHistogram().getCount() ).isEqualTo( 2 );
+		assertThat( queryStatistics.getExecutionRowCountHistogram().getValueAtPercentile( 50 ) ).isEqualTo( 2 );
+		assertThat( queryStatistics.getExecutionRowCountHistogram().getValueAtPercentile( 100 ) ).isEqualTo( 7 );
+
+		statistics.clear();
+		assertThat( statistics.getQueryExecutionTimeHistogram().getCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		public Item() {
+		}
+
+		public Item(Long id) {
+			this.id = id;
+		}
+	}
+}
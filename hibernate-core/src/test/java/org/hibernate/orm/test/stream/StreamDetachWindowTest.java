@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value HibernateHints#HINT_STREAM_DETACH_WINDOW}
+ */
+@DomainModel(annotatedClasses = {
+		StreamDetachWindowTest.Author.class,
+		StreamDetachWindowTest.Book.class,
+		StreamDetachWindowTest.Publisher.class,
+		StreamDetachWindowTest.Edition.class
+})
+@SessionFactory
+public class StreamDetachWindowTest {
+	private static final int COUNT = 100;
+	private static final int WINDOW = 10;
+	private static final int BATCH_SIZE = 10;
+	private static final String QUERY = "from Book order by id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+			final Publisher publisher = new Publisher( 0, "publisher" );
+			session.persist( publisher );
+			for ( int i = 0; i < WINDOW * 2; i++ ) {
+				session.persist( new Edition( i, publisher ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Edition" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery( QUERY, Book.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACH_WINDOW, WINDOW )
+					.getResultStream() ) {
+				stream.forEach( book -> {
+					assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+					assertThat( book.author.name ).isEqualTo( "author " + book.id );
+					// the books of the window and their authors, along with the
+					// authors batch loaded ahead of their books
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( ( WINDOW + 1 ) * 2 + BATCH_SIZE );
+					books.add( book );
+				} );
+			}
+
+			assertThat( books ).hasSize( COUNT );
+			for ( int i = 0; i < COUNT - WINDOW; i++ ) {
+				assertThat( session.contains( books.get( i ) ) ).isFalse();
+				assertThat( session.contains( books.get( i ).author ) ).isFalse();
+			}
+			for ( int i = COUNT - WINDOW; i < COUNT; i++ ) {
+				assertThat( session.contains( books.get( i ) ) ).isTrue();
+				assertThat( session.contains( books.get( i ).author ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testScrollKeepsManagedEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 0 );
+			try ( ScrollableResults<Book> results = session.createSelectionQuery( QUERY, Book.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACH_WINDOW, 1 )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Book book = results.get();
+					assertThat( session.contains( book ) ).isTrue();
+					book.title = book.title + " revised";
+					// changes must be flushed before the entity leaves the window
+					session.flush();
+				}
+			}
+			// the author was managed before the results were opened
+			assertThat( session.contains( author ) ).isTrue();
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book where title like '% revised'", Long.class )
+						.getSingleResult()
+		).isEqualTo( COUNT ) );
+	}
+
+	@Test
+	public void testEvictionNotCascaded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Edition> stream = session.createSelectionQuery( "from Edition order by id", Edition.class )
+					.setHint( HibernateHints.HINT_STREAM_DETACH_WINDOW, 2 )
+					.getResultStream() ) {
+				// the publisher shared by all the editions stays in the window,
+				// even though the editions leaving it cascade their detachment
+				stream.forEach( edition -> assertThat( session.contains( edition.publisher ) ).isTrue() );
+			}
+		} );
+	}
+
+	@Test
+	public void testNoWindow(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> stream = session.createSelectionQuery( QUERY, Book.class ).getResultStream() ) {
+				assertThat( stream.filter( session::contains ).count() ).isEqualTo( COUNT );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( COUNT * 2 );
+		} );
+	}
+
+	@Test
+	public void testInvalidWindow(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery( QUERY, Book.class )
+						.setHint( HibernateHints.HINT_STREAM_DETACH_WINDOW, 0 )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "Author")
+	@BatchSize(size = BATCH_SIZE)
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.EAGER)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Edition")
+	public static class Edition {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.DETACH)
+		private Publisher publisher;
+
+		public Edition() {
+		}
+
+		public Edition(Integer id, Publisher publisher) {
+			this.id = id;
+			this.publisher = publisher;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.BoundedTinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedTinyLfuCacheTest {
+	@Test
+	public void testBasicOperations() {
+		final BoundedTinyLfuCache<String, Integer> cache = new BoundedTinyLfuCache<>( 10 );
+		assertNull( cache.get( "a" ) );
+
+		cache.put( "a", 1 );
+		assertEquals( 1, cache.get( "a" ) );
+		cache.put( "a", 2 );
+		assertEquals( 2, cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+
+		assertEquals( 3, cache.computeIfAbsent( "b", k -> 3 ) );
+		assertEquals( 3, cache.computeIfAbsent( "b", k -> 4 ) );
+
+		assertNull( cache.computeIfAbsent( "c", k -> null ) );
+		assertEquals( 2, cache.size() );
+		assertEquals( 5, cache.computeIfAbsent( "c", k -> 5 ) );
+		cache.remove( "c" );
+
+		assertEquals( 2, cache.remove( "a" ) );
+		assertNull( cache.get( "a" ) );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "b" ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final List<Integer> evicted = new ArrayList<>();
+		final BoundedTinyLfuCache<Integer, Integer> cache = new BoundedTinyLfuCache<>( 100, evicted::add );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		assertEquals( 100, cache.size() );
+		assertEquals( 900, evicted.size() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesAreRetained() {
+		final BoundedTinyLfuCache<Integer, Integer> cache = new BoundedTinyLfuCache<>( 100 );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( i, i );
+		}
+		// make the first ten entries "hot"
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				assertNotNull( cache.get( i ) );
+			}
+		}
+		cache.cleanUp();
+
+		// a scan of one-off entries should not flush out the hot ones
+		for ( int i = 1000; i < 5000; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals( i, cache.get( i ) );
+		}
+		assertEquals( 100, cache.size() );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final BoundedTinyLfuCache<Integer, Integer> cache = new BoundedTinyLfuCache<>( 50 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				final int seed = t;
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 20_000; i++ ) {
+						final int key = ( i * 31 + seed ) % 200;
+						final Integer value = cache.get( key );
+						if ( value == null ) {
+							cache.put( key, key );
+						}
+						else {
+							assertEquals( key, value );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		cache.cleanUp();
+		assertTrue( cache.size() <= 50 );
+	}
+
+	@Test
+	public void testConcurrentClear() throws Exception {
+		final BoundedTinyLfuCache<Integer, Integer> cache = new BoundedTinyLfuCache<>( 50 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 3; t++ ) {
+				final int seed = t;
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 20_000; i++ ) {
+						final int key = ( i * 31 + seed ) % 100;
+						if ( cache.get( key ) == null ) {
+							cache.put( key, key );
+						}
+					}
+				} ) );
+			}
+			futures.add( executor.submit( () -> {
+				for ( int i = 0; i < 2_000; i++ ) {
+					cache.clear();
+				}
+			} ) );
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// reads replayed after a clear must not corrupt the eviction policy
+		for ( int i = 1000; i < 2000; i++ ) {
+			assertEquals( i, cache.computeIfAbsent( i, k -> k ) );
+			assertEquals( i, cache.get( i ) );
+		}
+		cache.cleanUp();
+		assertEquals( 50, cache.size() );
+	}
+}
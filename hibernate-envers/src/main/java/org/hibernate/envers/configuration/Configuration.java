@@ -72,6 +72,7 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean directAuditWrites;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -131,6 +132,7 @@ public class Configuration {
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
+		directAuditWrites = configProps.getBoolean( EnversSettings.DIRECT_AUDIT_WRITES, false );
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
@@ -240,6 +242,10 @@ public class Configuration {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isDirectAuditWrites() {
+		return directAuditWrites;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
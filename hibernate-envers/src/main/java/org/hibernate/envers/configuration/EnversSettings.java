@@ -186,6 +186,17 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether audit rows should be inserted directly using the prepared insert statement of their audit table,
+	 * batched according to the JDBC batch size, rather than being saved through the session. Audit rows written
+	 * this way are never added to the persistence context, and bypass the event listeners and interceptors.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.4
+	 */
+	String DIRECT_AUDIT_WRITES = "org.hibernate.envers.direct_audit_writes";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
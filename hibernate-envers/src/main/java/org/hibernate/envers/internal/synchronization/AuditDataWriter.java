@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Class responsible for writing the audit data of new audit rows.
+ * <p>
+ * By default, the audit data is saved through the session, and scheduled for removal from the session
+ * level cache. When {@link org.hibernate.envers.configuration.EnversSettings#DIRECT_AUDIT_WRITES} is
+ * enabled, the audit data is instead inserted directly by the persister of the audit entity, using the
+ * statically prepared insert statement of its table, and batched by the JDBC coordinator of the session.
+ * The audit data is then never added to the persistence context.
+ */
+public class AuditDataWriter {
+	private final SessionCacheCleaner sessionCacheCleaner;
+
+	public AuditDataWriter() {
+		sessionCacheCleaner = new SessionCacheCleaner();
+	}
+
+	/**
+	 * Writes the audit data of a new audit row.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param configuration The Envers configuration.
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data to be written.
+	 */
+	public void write(Session session, Configuration configuration, String auditEntityName, Object data) {
+		if ( configuration.isDirectAuditWrites() ) {
+			insert( (SessionImplementor) session, auditEntityName, data );
+		}
+		else {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
+	}
+
+	private void insert(SessionImplementor session, String auditEntityName, Object data) {
+		// The audit row references the revision entity, so any pending insert of
+		// the revision entity has to be executed before the row is inserted
+		if ( session.getActionQueue().hasAnyQueuedActions() ) {
+			session.flush();
+		}
+
+		final EntityPersister persister = session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( auditEntityName );
+		final Object id = persister.getIdentifier( data, session );
+		persister.insert( id, persister.getValues( data ), data, session );
+	}
+}
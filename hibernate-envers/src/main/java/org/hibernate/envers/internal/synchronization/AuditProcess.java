@@ -7,14 +7,17 @@
 package org.hibernate.envers.internal.synchronization;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
@@ -37,6 +40,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final Map<Class<?>, BeforeTransactionCompletionProcess> processes;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
@@ -47,6 +51,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
+		processes = new LinkedHashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
 	}
 
@@ -127,6 +132,22 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 	}
 
+	/**
+	 * Returns the process of the given type registered with this audit process, registering the one
+	 * created by the given supplier if there is none. The registered processes are executed once the
+	 * work units have been performed and the audit data flushed, in the same session.
+	 */
+	public <T extends BeforeTransactionCompletionProcess> T getProcess(Class<T> type, Supplier<T> supplier) {
+		return type.cast( processes.computeIfAbsent( type, processType -> supplier.get() ) );
+	}
+
+	private void executeProcesses(Session session) {
+		for ( BeforeTransactionCompletionProcess process : processes.values() ) {
+			process.doBeforeTransactionCompletion( (SessionImplementor) session );
+		}
+		processes.clear();
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -164,6 +185,8 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.openSession();
 				executeInSession( temporarySession );
 				temporarySession.flush();
+				executeAuditDataBatch( temporarySession );
+				executeProcesses( temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -176,6 +199,14 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 			// Explicitly flushing the session, as the auto-flush may have already happened.
 			session.flush();
+			executeAuditDataBatch( session );
+			executeProcesses( session );
 		}
 	}
+
+	private void executeAuditDataBatch(Session session) {
+		// Audit data inserted directly is batched outside of the action queue, so a
+		// flush finding no pending changes would leave the batch pending.
+		( (SharedSessionContractImplementor) session ).getJdbcCoordinator().executeBatch();
+	}
 }
@@ -11,7 +11,7 @@ import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
-import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.internal.synchronization.AuditDataWriter;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -29,10 +29,10 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public class DefaultAuditStrategy implements AuditStrategy {
-	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditDataWriter auditDataWriter;
 
 	public DefaultAuditStrategy() {
-		sessionCacheCleaner = new SessionCacheCleaner();
+		auditDataWriter = new AuditDataWriter();
 	}
 
 	@Override
@@ -43,8 +43,7 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Object id,
 			Object data,
 			Object revision) {
-		session.save( configuration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		auditDataWriter.write( session, configuration, configuration.getAuditEntityName( entityName ), data );
 	}
 
 	@Override
@@ -55,8 +54,12 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Configuration configuration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditDataWriter.write(
+				session,
+				configuration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
 	}
 
 	/**
@@ -10,13 +10,23 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -32,13 +42,17 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditDataWriter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.envers.tools.Pair;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
@@ -47,6 +61,9 @@ import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.sql.ComparisonRestriction;
 import org.hibernate.sql.Update;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcUpdateMutation;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
@@ -54,6 +71,8 @@ import org.hibernate.type.MapType;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
+import org.jboss.logging.Logger;
+
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
@@ -70,7 +89,8 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * <p>
  * This has a few important consequences which must be considered:
  * <ul>
- * <li>Persisting audit information is sightly slower due to an extra update required</li>
+ * <li>Persisting audit information is sightly slower due to an extra update required, although the
+ * updates of the rows of each audit table are executed in JDBC batches</li>
  * <li>Retreiving audit information is considerably faster</li>
  * </ul>
  *
@@ -80,6 +100,13 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public class ValidityAuditStrategy implements AuditStrategy {
+	private static final Logger LOG = Logger.getLogger( ValidityAuditStrategy.class );
+
+	/**
+	 * The number of end revision updates executed in a JDBC batch, unless a batch size is configured
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
 	/**
 	 * getter for the revision entity field annotated with @RevisionTimestamp
 	 */
@@ -87,8 +114,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	private final AuditDataWriter auditDataWriter;
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditDataWriter = new AuditDataWriter();
 	}
 
 	@Override
@@ -162,7 +192,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		auditDataWriter.write( session, configuration, auditedEntityName, data );
 
 		// Update the end date of the previous row.
 		//
@@ -172,50 +202,21 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Register the update for execution at the end of the audit process, to guarantee its execution
+			// after INSERT, along with the updates of the other audit rows of the transaction.
+			getRevisionEndUpdates( (EventSource) session, configuration ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							!reuseEntityIdentifier || revisionType != RevisionType.ADD
+					)
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -270,8 +271,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditDataWriter.write(
+				session,
+				configuration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
 	}
 
 	/**
@@ -459,33 +464,103 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	}
 
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Returns the end revision updates pending for the audit process of the specified session,
+	 * registering the process executing them with the audit process if none are pending yet.
+	 */
+	private List<RevisionEndUpdate> getRevisionEndUpdates(EventSource session, Configuration configuration) {
+		return configuration.getEnversService()
+				.getAuditProcessManager()
+				.get( session )
+				.getProcess( RevisionEndUpdateProcess.class, RevisionEndUpdateProcess::new )
+				.updates;
+	}
+
+	/**
+	 * Executes the specified end revision updates within the scope of the specified session. The
+	 * updates are grouped by statement, so that the rows of each audit table are updated using a
+	 * single parameterized statement executed in JDBC batches.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param updates the end revision updates to be executed
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
-		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+	private void executeRevisionEndUpdates(SessionImplementor session, List<RevisionEndUpdate> updates) {
+		final Map<Pair<String, Boolean>, List<UpdateContext>> updatesByStatement = new LinkedHashMap<>();
+		for ( RevisionEndUpdate update : updates ) {
+			// Construct the update contexts
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.entityName,
+					update.auditedEntityName,
+					session,
+					update.configuration,
+					update.id,
+					update.revision
+			);
 
-		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
-					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
-						return result;
-					}
-					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
-					}
-				}
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								update.auditedEntityName,
+								update.id
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				updatesByStatement.computeIfAbsent(
+						Pair.make( context.toStatementString(), update.singleRowExpected ),
+						statement -> new ArrayList<>()
+				).add( context );
+			}
+		}
+
+		for ( Map.Entry<Pair<String, Boolean>, List<UpdateContext>> entry : updatesByStatement.entrySet() ) {
+			final String sql = entry.getKey().getFirst();
+			executeUpdates( session, sql, entry.getKey().getSecond(), entry.getValue() );
+			LOG.debugf( "Updated the end revision of %s audit rows using: %s", entry.getValue().size(), sql );
+		}
+	}
+
+	/**
+	 * Executes the {@link UpdateContext}s sharing the specified statement within the scope of the
+	 * specified session, in JDBC batches of the session, checking the number of rows affected by
+	 * each of them if a single row is expected.
+	 *
+	 * @param session the session
+	 * @param sql the statement of the update contexts
+	 * @param singleRowExpected whether each update is expected to affect a single row
+	 * @param updates the update contexts to be executed
+	 */
+	private void executeUpdates(
+			SessionImplementor session,
+			String sql,
+			boolean singleRowExpected,
+			List<UpdateContext> updates) {
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize != null && configuredBatchSize > 1
+				? configuredBatchSize
+				: DEFAULT_BATCH_SIZE;
+		final Expectation expectation = singleRowExpected ? Expectations.BASIC : Expectations.NONE;
+		final JdbcUpdateMutation mutation = new JdbcUpdateMutation(
+				new RevisionEndTableMapping( updates.get( 0 ).getTableName(), expectation ),
+				null,
+				sql,
+				false,
+				expectation,
+				Collections.emptyList()
+		);
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Batch batch = jdbcCoordinator.getBatch(
+				new BasicBatchKey( sql, expectation ),
+				batchSize,
+				() -> new PreparedStatementGroupSingleTable( mutation, session )
 		);
+		for ( UpdateContext update : updates ) {
+			batch.addToBatch( new UpdateContextBindings( update, session ), null );
+		}
+		jdbcCoordinator.executeBatch();
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -658,6 +733,156 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * The update of the end revision of the previous audit row of an entity.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final boolean singleRowExpected;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean singleRowExpected) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.singleRowExpected = singleRowExpected;
+		}
+	}
+
+	/**
+	 * The process executing the end revision updates pending for an audit process, once its audit
+	 * rows have been inserted.
+	 */
+	private class RevisionEndUpdateProcess implements BeforeTransactionCompletionProcess {
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			executeRevisionEndUpdates( session, updates );
+		}
+	}
+
+	/**
+	 * The audit table updated by the statement of end revision updates. It is reported as an
+	 * identifier table, for the JDBC batch to check the row counts against the expectation.
+	 */
+	private static class RevisionEndTableMapping implements TableMapping {
+		private final String tableName;
+		private final MutationDetails updateDetails;
+
+		public RevisionEndTableMapping(String tableName, Expectation expectation) {
+			this.tableName = tableName;
+			this.updateDetails = new MutationDetails( MutationType.UPDATE, expectation, null, false );
+		}
+
+		@Override
+		public String getTableName() {
+			return tableName;
+		}
+
+		@Override
+		public KeyDetails getKeyDetails() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int getRelativePosition() {
+			return 0;
+		}
+
+		@Override
+		public boolean isOptional() {
+			return false;
+		}
+
+		@Override
+		public boolean isInverse() {
+			return false;
+		}
+
+		@Override
+		public boolean isIdentifierTable() {
+			return true;
+		}
+
+		@Override
+		public MutationDetails getInsertDetails() {
+			return null;
+		}
+
+		@Override
+		public MutationDetails getUpdateDetails() {
+			return updateDetails;
+		}
+
+		@Override
+		public boolean isCascadeDeleteEnabled() {
+			return false;
+		}
+
+		@Override
+		public MutationDetails getDeleteDetails() {
+			return null;
+		}
+	}
+
+	/**
+	 * The {@link JdbcValueBindings} binding the parameters of an {@link UpdateContext} added to a
+	 * JDBC batch.
+	 */
+	private static class UpdateContextBindings implements JdbcValueBindings {
+		private final UpdateContext context;
+		private final SessionImplementor session;
+
+		public UpdateContextBindings(UpdateContext context, SessionImplementor session) {
+			this.context = context;
+			this.session = session;
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			try {
+				int index = 1;
+				for ( QueryParameterBinding binding : context.getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Unable to bind the parameters of the end revision update",
+						statementDetails.getSqlString()
+				);
+			}
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
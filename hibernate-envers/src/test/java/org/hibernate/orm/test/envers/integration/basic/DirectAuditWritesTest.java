@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value EnversSettings#DIRECT_AUDIT_WRITES}
+ */
+@Jpa(annotatedClasses = {
+		DirectAuditWritesTest.Article.class
+}, integrationSettings = {
+		@Setting(name = EnversSettings.DIRECT_AUDIT_WRITES, value = "true"),
+		@Setting(name = EnversSettings.AUDIT_STRATEGY, value = "org.hibernate.envers.strategy.ValidityAuditStrategy")
+}, generateStatistics = true)
+public class DirectAuditWritesTest {
+
+	@Test
+	public void testAuditRowsWrittenDirectly(EntityManagerFactoryScope scope) {
+		final Statistics statistics = scope.getEntityManagerFactory()
+				.unwrap( org.hibernate.SessionFactory.class )
+				.getStatistics();
+
+		statistics.clear();
+		scope.inTransaction( entityManager -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				final Article article = new Article( i, "title " + i );
+				article.tags.add( "draft" );
+				entityManager.persist( article );
+			}
+		} );
+		// the articles and the revision entity, but none of the audit rows
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 4 );
+
+		scope.inTransaction( entityManager -> {
+			final Article article = entityManager.find( Article.class, 2L );
+			article.title = "new title 2";
+			article.tags.remove( "draft" );
+			article.tags.add( "published" );
+		} );
+
+		scope.inTransaction( entityManager -> {
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			final List<Number> revisions = auditReader.getRevisions( Article.class, 2L );
+			assertThat( revisions ).hasSize( 2 );
+
+			final Article initial = auditReader.find( Article.class, 2L, revisions.get( 0 ) );
+			assertThat( initial.title ).isEqualTo( "title 2" );
+			assertThat( initial.tags ).containsExactly( "draft" );
+
+			final Article modified = auditReader.find( Article.class, 2L, revisions.get( 1 ) );
+			assertThat( modified.title ).isEqualTo( "new title 2" );
+			assertThat( modified.tags ).containsExactly( "published" );
+
+			assertThat( auditReader.getRevisions( Article.class, 1L ) ).hasSize( 1 );
+		} );
+	}
+
+	@Audited
+	@Entity(name = "Article")
+	public static class Article {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Article() {
+		}
+
+		public Article(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
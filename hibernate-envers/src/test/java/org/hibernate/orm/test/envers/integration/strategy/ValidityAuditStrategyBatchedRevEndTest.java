@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the end revision updates of {@link ValidityAuditStrategy} are executed in JDBC batches
+ */
+@Jpa(annotatedClasses = {
+		ValidityAuditStrategyBatchedRevEndTest.Product.class
+}, integrationSettings = {
+		@Setting(name = EnversSettings.AUDIT_STRATEGY, value = "org.hibernate.envers.strategy.ValidityAuditStrategy")
+}, useCollectingStatementInspector = true)
+public class ValidityAuditStrategyBatchedRevEndTest {
+
+	@Test
+	public void testRevisionEndUpdates(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				entityManager.persist( new Product( i, "product " + i ) );
+			}
+		} );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( entityManager -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				entityManager.find( Product.class, i ).name = "renamed product " + i;
+			}
+		} );
+
+		assertThat( statementInspector.getSqlQueries() )
+				.filteredOn( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update product_aud" ) )
+				.hasSize( 1 );
+
+		scope.inTransaction( entityManager -> {
+			final List<Number> revisions = AuditReaderFactory.get( entityManager )
+					.getRevisions( Product.class, 5L );
+			assertThat( revisions ).hasSize( 2 );
+			assertThat( entityManager.createNativeQuery(
+					"select count(*) from Product_AUD where REVEND is not null"
+			).getSingleResult() ).isEqualTo( 10L );
+
+			final Product product = AuditReaderFactory.get( entityManager )
+					.find( Product.class, 5L, revisions.get( 0 ) );
+			assertThat( product.name ).isEqualTo( "product 5" );
+		} );
+	}
+
+	@Audited
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
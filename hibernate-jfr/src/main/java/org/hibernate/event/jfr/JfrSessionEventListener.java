@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.event.jfr.internal.CacheGetEvent;
+import org.hibernate.event.jfr.internal.CachePutEvent;
+import org.hibernate.event.jfr.internal.DirtyCalculationEvent;
+import org.hibernate.event.jfr.internal.FlushEvent;
+import org.hibernate.event.jfr.internal.JdbcBatchExecutionEvent;
+import org.hibernate.event.jfr.internal.JdbcConnectionAcquisitionEvent;
+import org.hibernate.event.jfr.internal.JdbcConnectionReleaseEvent;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementCreationEvent;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+
+/**
+ * A {@link SessionEventListener} emitting JDK Flight Recorder events for the
+ * lifecycle of a session, its flushes, its JDBC interactions, and its accesses
+ * to the second-level cache.
+ * <p>
+ * To have the events emitted for every session, specify the name of this class
+ * as the value of the configuration property
+ * {@value org.hibernate.cfg.AvailableSettings#AUTO_SESSION_EVENTS_LISTENER}.
+ * <p>
+ * An event is only instantiated when its type is enabled in a running recording,
+ * so that the cost of this listener is negligible when nothing is recorded.
+ *
+ * @see JfrStatisticsFactory
+ */
+public class JfrSessionEventListener implements SessionEventListener {
+	private transient SessionClosedEvent sessionClosedEvent;
+	private transient JdbcConnectionAcquisitionEvent jdbcConnectionAcquisitionEvent;
+	private transient JdbcConnectionReleaseEvent jdbcConnectionReleaseEvent;
+	private transient JdbcPreparedStatementCreationEvent jdbcPreparedStatementCreationEvent;
+	private transient JdbcPreparedStatementExecutionEvent jdbcPreparedStatementExecutionEvent;
+	private transient JdbcBatchExecutionEvent jdbcBatchExecutionEvent;
+	private transient CachePutEvent cachePutEvent;
+	private transient CacheGetEvent cacheGetEvent;
+	private transient FlushEvent flushEvent;
+	private transient DirtyCalculationEvent dirtyCalculationEvent;
+
+	public JfrSessionEventListener() {
+		if ( SessionOpenEvent.TYPE.isEnabled() ) {
+			new SessionOpenEvent().commit();
+		}
+		if ( SessionClosedEvent.TYPE.isEnabled() ) {
+			sessionClosedEvent = new SessionClosedEvent();
+			sessionClosedEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionStart() {
+		if ( JdbcConnectionAcquisitionEvent.TYPE.isEnabled() ) {
+			jdbcConnectionAcquisitionEvent = new JdbcConnectionAcquisitionEvent();
+			jdbcConnectionAcquisitionEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionEnd() {
+		final JdbcConnectionAcquisitionEvent event = jdbcConnectionAcquisitionEvent;
+		if ( event != null ) {
+			jdbcConnectionAcquisitionEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void jdbcConnectionReleaseStart() {
+		if ( JdbcConnectionReleaseEvent.TYPE.isEnabled() ) {
+			jdbcConnectionReleaseEvent = new JdbcConnectionReleaseEvent();
+			jdbcConnectionReleaseEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcConnectionReleaseEnd() {
+		final JdbcConnectionReleaseEvent event = jdbcConnectionReleaseEvent;
+		if ( event != null ) {
+			jdbcConnectionReleaseEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void jdbcPrepareStatementStart() {
+		jdbcPrepareStatementStart( null );
+	}
+
+	@Override
+	public void jdbcPrepareStatementStart(String sql) {
+		if ( JdbcPreparedStatementCreationEvent.TYPE.isEnabled() ) {
+			jdbcPreparedStatementCreationEvent = new JdbcPreparedStatementCreationEvent();
+			jdbcPreparedStatementCreationEvent.sql = sql;
+			jdbcPreparedStatementCreationEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcPrepareStatementEnd() {
+		final JdbcPreparedStatementCreationEvent event = jdbcPreparedStatementCreationEvent;
+		if ( event != null ) {
+			jdbcPreparedStatementCreationEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		jdbcExecuteStatementStart( null );
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart(String sql) {
+		if ( JdbcPreparedStatementExecutionEvent.TYPE.isEnabled() ) {
+			jdbcPreparedStatementExecutionEvent = new JdbcPreparedStatementExecutionEvent();
+			jdbcPreparedStatementExecutionEvent.sql = sql;
+			jdbcPreparedStatementExecutionEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		final JdbcPreparedStatementExecutionEvent event = jdbcPreparedStatementExecutionEvent;
+		if ( event != null ) {
+			jdbcPreparedStatementExecutionEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		jdbcExecuteBatchStart( null );
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart(String sql) {
+		if ( JdbcBatchExecutionEvent.TYPE.isEnabled() ) {
+			jdbcBatchExecutionEvent = new JdbcBatchExecutionEvent();
+			jdbcBatchExecutionEvent.sql = sql;
+			jdbcBatchExecutionEvent.begin();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		final JdbcBatchExecutionEvent event = jdbcBatchExecutionEvent;
+		if ( event != null ) {
+			jdbcBatchExecutionEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void cachePutStart() {
+		if ( CachePutEvent.TYPE.isEnabled() ) {
+			cachePutEvent = new CachePutEvent();
+			cachePutEvent.begin();
+		}
+	}
+
+	@Override
+	public void cachePutEnd() {
+		final CachePutEvent event = cachePutEvent;
+		if ( event != null ) {
+			cachePutEvent = null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void cacheGetStart() {
+		if ( CacheGetEvent.TYPE.isEnabled() ) {
+			cacheGetEvent = new CacheGetEvent();
+			cacheGetEvent.begin();
+		}
+	}
+
+	@Override
+	public void cacheGetEnd(boolean hit) {
+		final CacheGetEvent event = cacheGetEvent;
+		if ( event != null ) {
+			cacheGetEvent = null;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.hit = hit;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public void flushStart() {
+		beginFlush();
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		commitFlush( numberOfEntities, numberOfCollections, false );
+	}
+
+	@Override
+	public void partialFlushStart() {
+		beginFlush();
+	}
+
+	@Override
+	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		commitFlush( numberOfEntities, numberOfCollections, true );
+	}
+
+	private void beginFlush() {
+		if ( FlushEvent.TYPE.isEnabled() ) {
+			flushEvent = new FlushEvent();
+			flushEvent.begin();
+		}
+	}
+
+	private void commitFlush(int numberOfEntities, int numberOfCollections, boolean partialFlush) {
+		final FlushEvent event = flushEvent;
+		if ( event != null ) {
+			flushEvent = null;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.numberOfEntitiesProcessed = numberOfEntities;
+				event.numberOfCollectionsProcessed = numberOfCollections;
+				event.partialFlush = partialFlush;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public void dirtyCalculationStart() {
+		if ( DirtyCalculationEvent.TYPE.isEnabled() ) {
+			dirtyCalculationEvent = new DirtyCalculationEvent();
+			dirtyCalculationEvent.begin();
+		}
+	}
+
+	@Override
+	public void dirtyCalculationEnd(boolean dirty) {
+		final DirtyCalculationEvent event = dirtyCalculationEvent;
+		if ( event != null ) {
+			dirtyCalculationEvent = null;
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.dirty = dirty;
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public void end() {
+		final SessionClosedEvent event = sessionClosedEvent;
+		if ( event != null ) {
+			sessionClosedEvent = null;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.jfr.internal.QueryPlanCacheMissEvent;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link StatisticsFactory} building the standard statistics, additionally
+ * emitting a JDK Flight Recorder event for each miss of the HQL interpretation
+ * cache or of the query plan cache, the event naming the cache which missed.
+ * <p>
+ * To use it, specify the name of this class as the value of the configuration
+ * property {@value org.hibernate.cfg.AvailableSettings#STATS_BUILDER}. Since
+ * query plan cache misses are only reported when statistics are collected, the
+ * property {@value org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS}
+ * must also be enabled.
+ *
+ * @see JfrSessionEventListener
+ */
+public class JfrStatisticsFactory implements StatisticsFactory {
+	@Override
+	public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+		return new JfrStatistics( sessionFactory );
+	}
+
+	private static class JfrStatistics extends StatisticsImpl {
+		private JfrStatistics(SessionFactoryImplementor sessionFactory) {
+			super( sessionFactory );
+		}
+
+		@Override
+		public void queryCompiled(String hql, long microseconds) {
+			super.queryCompiled( hql, microseconds );
+			queryPlanCacheMissed( hql, QueryPlanCacheMissEvent.HQL_INTERPRETATION_CACHE );
+		}
+
+		@Override
+		public void queryPlanCacheMiss(String query) {
+			super.queryPlanCacheMiss( query );
+			queryPlanCacheMissed( query, QueryPlanCacheMissEvent.QUERY_PLAN_CACHE );
+		}
+
+		private static void queryPlanCacheMissed(String query, String cache) {
+			if ( QueryPlanCacheMissEvent.TYPE.isEnabled() ) {
+				final QueryPlanCacheMissEvent event = new QueryPlanCacheMissEvent();
+				event.query = query;
+				event.cache = cache;
+				event.commit();
+			}
+		}
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( CachePutEvent.NAME )
+@Label( "Cache Put" )
+@Category( "Hibernate ORM" )
+@Description( "An entry was put into the second-level cache" )
+@StackTrace( false )
+public class CachePutEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.CachePut";
+
+	public static final EventType TYPE = EventType.getEventType( CachePutEvent.class );
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( DirtyCalculationEvent.NAME )
+@Label( "Dirty Calculation" )
+@Category( "Hibernate ORM" )
+@Description( "The dirty properties of an entity were calculated" )
+@StackTrace( false )
+public class DirtyCalculationEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.DirtyCalculation";
+
+	public static final EventType TYPE = EventType.getEventType( DirtyCalculationEvent.class );
+
+	@Label( "Dirty" )
+	@Description( "Whether the entity was found dirty" )
+	public boolean dirty;
+}
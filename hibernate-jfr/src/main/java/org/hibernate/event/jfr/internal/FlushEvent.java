@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( FlushEvent.NAME )
+@Label( "Flush" )
+@Category( "Hibernate ORM" )
+@Description( "A Session was flushed" )
+@StackTrace( false )
+public class FlushEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.Flush";
+
+	public static final EventType TYPE = EventType.getEventType( FlushEvent.class );
+
+	@Label( "Number Of Processed Entities" )
+	public int numberOfEntitiesProcessed;
+
+	@Label( "Number Of Processed Collections" )
+	public int numberOfCollectionsProcessed;
+
+	@Label( "Partial Flush" )
+	@Description( "Whether the flush was a partial flush, only flushing the entities a query depends on" )
+	public boolean partialFlush;
+}
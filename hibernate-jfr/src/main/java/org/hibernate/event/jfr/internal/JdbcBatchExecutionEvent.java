@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( JdbcBatchExecutionEvent.NAME )
+@Label( "JDBC Batch Execution" )
+@Category( "Hibernate ORM" )
+@Description( "A batch of JDBC statements was executed" )
+@StackTrace( false )
+public class JdbcBatchExecutionEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.JdbcBatchExecution";
+
+	public static final EventType TYPE = EventType.getEventType( JdbcBatchExecutionEvent.class );
+
+	@Label( "SQL" )
+	public String sql;
+}
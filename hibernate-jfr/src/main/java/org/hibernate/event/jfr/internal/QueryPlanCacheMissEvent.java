@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name( QueryPlanCacheMissEvent.NAME )
+@Label( "Query Plan Cache Miss" )
+@Category( "Hibernate ORM" )
+@Description( "A query was not found in the HQL interpretation cache or in the query plan cache, and had to be interpreted" )
+@StackTrace( false )
+public class QueryPlanCacheMissEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.QueryPlanCacheMiss";
+
+	public static final String HQL_INTERPRETATION_CACHE = "HQL interpretation";
+	public static final String QUERY_PLAN_CACHE = "Query plan";
+
+	public static final EventType TYPE = EventType.getEventType( QueryPlanCacheMissEvent.class );
+
+	@Label( "Query" )
+	public String query;
+
+	@Label( "Cache" )
+	@Description( "The cache which missed, either the HQL interpretation cache or the query plan cache" )
+	public String cache;
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.FlushEvent;
+import org.hibernate.event.jfr.internal.JdbcBatchExecutionEvent;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementCreationEvent;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.QueryPlanCacheMissEvent;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JfrSessionEventListener} and {@link JfrStatisticsFactory}
+ */
+@DomainModel(annotatedClasses = JfrEventsTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, value = "org.hibernate.event.jfr.JfrSessionEventListener"),
+		@Setting(name = AvailableSettings.STATS_BUILDER, value = "org.hibernate.event.jfr.JfrStatisticsFactory"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5")
+})
+@SessionFactory(generateStatistics = true)
+public class JfrEventsTest {
+
+	@Test
+	public void testEvents(SessionFactoryScope scope) throws IOException {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( SessionOpenEvent.NAME );
+			recording.enable( SessionClosedEvent.NAME );
+			recording.enable( FlushEvent.NAME );
+			recording.enable( JdbcPreparedStatementCreationEvent.NAME );
+			recording.enable( JdbcPreparedStatementExecutionEvent.NAME );
+			recording.enable( JdbcBatchExecutionEvent.NAME );
+			recording.enable( QueryPlanCacheMissEvent.NAME );
+			recording.start();
+
+			scope.inTransaction( session -> {
+				session.persist( new Book( 1L, "Hibernate in Action" ) );
+				session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+			} );
+			scope.inTransaction( session -> session.createSelectionQuery( "from Book where id > 1", Book.class )
+					.getResultList() );
+
+			recording.stop();
+			final Path file = Files.createTempFile( "hibernate", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+
+		assertThat( eventsNamed( events, SessionOpenEvent.NAME ) ).hasSize( 2 );
+		assertThat( eventsNamed( events, SessionClosedEvent.NAME ) ).hasSize( 2 );
+
+		final List<RecordedEvent> flushes = eventsNamed( events, FlushEvent.NAME );
+		assertThat( flushes ).isNotEmpty();
+		assertThat( flushes.get( 0 ).getInt( "numberOfEntitiesProcessed" ) ).isEqualTo( 2 );
+		assertThat( flushes.get( 0 ).getBoolean( "partialFlush" ) ).isFalse();
+
+		assertThat( eventsNamed( events, JdbcBatchExecutionEvent.NAME ) )
+				.extracting( event -> event.getString( "sql" ) )
+				.singleElement()
+				.asString()
+				.startsWith( "insert into Book" );
+		assertThat( eventsNamed( events, JdbcPreparedStatementExecutionEvent.NAME ) )
+				.extracting( event -> event.getString( "sql" ) )
+				.anyMatch( sql -> sql.startsWith( "select" ) );
+		assertThat( eventsNamed( events, JdbcPreparedStatementCreationEvent.NAME ) ).hasSize( 2 );
+
+		// each cache misses once, and is named by its event
+		assertThat( eventsNamed( events, QueryPlanCacheMissEvent.NAME ) )
+				.filteredOn( event -> event.getString( "query" ).equals( "from Book where id > 1" ) )
+				.extracting( event -> event.getString( "cache" ) )
+				.containsExactlyInAnyOrder(
+						QueryPlanCacheMissEvent.HQL_INTERPRETATION_CACHE,
+						QueryPlanCacheMissEvent.QUERY_PLAN_CACHE
+				);
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter( event -> event.getEventType().getName().equals( name ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
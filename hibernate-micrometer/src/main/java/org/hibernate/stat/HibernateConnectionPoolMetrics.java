@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl.PooledConnections;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link MeterBinder} implementation that provides the metrics of the built-in
+ * {@linkplain DriverManagerConnectionProviderImpl connection pool}. No metrics are
+ * bound when the session factory uses another connection provider.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateConnectionPoolMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private final Iterable<Tag> tags;
+
+	private final @Nullable DriverManagerConnectionProviderImpl connectionProvider;
+
+	/**
+	 * Create {@code HibernateConnectionPoolMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		new HibernateConnectionPoolMetrics( sessionFactory, sessionFactoryName, Tags.of( tags ) ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateConnectionPoolMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateConnectionPoolMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		final ConnectionProvider connectionProvider = sessionFactory.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+		this.connectionProvider = connectionProvider != null
+				&& connectionProvider.isUnwrappableAs( DriverManagerConnectionProviderImpl.class )
+				? connectionProvider.unwrap( DriverManagerConnectionProviderImpl.class )
+				: null;
+	}
+
+	/**
+	 * The value of a metric of the pool, or the given value once the pool is stopped.
+	 */
+	private static double value(
+			DriverManagerConnectionProviderImpl provider,
+			ToDoubleFunction<PooledConnections> f,
+			double stopped) {
+		return provider.isStopped() ? stopped : f.applyAsDouble( provider.getPooledConnections() );
+	}
+
+	private void gauge(
+			MeterRegistry registry,
+			String name,
+			String description,
+			ToDoubleFunction<PooledConnections> f,
+			String... extraTags) {
+		if ( connectionProvider == null ) {
+			return;
+		}
+
+		Gauge.builder( name, connectionProvider, provider -> value( provider, f, Double.NaN ) )
+				.tags( tags )
+				.tags( extraTags )
+				.description( description )
+				.register( registry );
+	}
+
+	private void counter(
+			MeterRegistry registry,
+			String name,
+			String description,
+			ToDoubleFunction<PooledConnections> f) {
+		if ( connectionProvider == null ) {
+			return;
+		}
+
+		FunctionCounter.builder( name, connectionProvider, provider -> value( provider, f, 0 ) )
+				.tags( tags )
+				.description( description )
+				.register( registry );
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if ( connectionProvider == null ) {
+			return;
+		}
+
+		gauge( registry, "hibernate.pool.connections", "Connections currently obtained from the pool",
+				PooledConnections::getActiveCount, "state", "active"
+		);
+		gauge( registry, "hibernate.pool.connections", "Connections currently available in the pool",
+				PooledConnections::getIdleCount, "state", "idle"
+		);
+		gauge( registry, "hibernate.pool.connections.pending", "Threads currently waiting for a connection",
+				PooledConnections::getPendingCount
+		);
+		gauge( registry, "hibernate.pool.connections.min", "The minimum size of the pool",
+				PooledConnections::getMinSize
+		);
+		gauge( registry, "hibernate.pool.connections.max", "The maximum size of the pool",
+				PooledConnections::getMaxSize
+		);
+
+		counter( registry, "hibernate.pool.connections.created", "Connections opened by the pool",
+				PooledConnections::getCreatedCount
+		);
+		counter( registry, "hibernate.pool.connections.timeout", "Attempts to obtain a connection which timed out",
+				PooledConnections::getTimeoutCount
+		);
+
+		FunctionTimer.builder(
+				"hibernate.pool.connections.acquire",
+				connectionProvider,
+				provider -> (long) value( provider, PooledConnections::getAcquiredCount, 0 ),
+				provider -> value( provider, PooledConnections::getAcquisitionTime, 0 ),
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.description( "Time spent obtaining connections from the pool" )
+				.register( registry );
+	}
+}
@@ -21,6 +21,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -33,6 +34,14 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	/**
+	 * The percentiles of the {@linkplain Histogram histograms} exposed as gauges,
+	 * tagged like the percentiles of Micrometer's own timers. The histograms are
+	 * aggregated by Hibernate, so that they can't back actual timers, but their
+	 * percentiles expire over the same time window as those of the timers.
+	 */
+	static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -101,6 +110,38 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void percentiles(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, Histogram> histogram) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		percentiles( registry, name, description, histogram.apply( statistics ), tags );
+	}
+
+	static void percentiles(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Histogram histogram,
+			Iterable<Tag> tags) {
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name,
+					histogram,
+					TimeUnit.NANOSECONDS,
+					h -> h.getValueAtPercentile( percentile * 100 )
+			)
+					.tags( tags )
+					.tags( "phi", Double.toString( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -129,6 +170,21 @@ public class HibernateMetrics implements MeterBinder {
 				"The global number of flushes executed by sessions (either implicit or explicit)",
 				Statistics::getFlushCount
 		);
+		counter(registry,
+				"hibernate.flush.batches",
+				"The global number of batches of statements executed by flushes",
+				Statistics::getFlushBatchCount
+		);
+		percentiles(registry,
+				"hibernate.flushes.time.percentile",
+				"The time taken by flushes",
+				Statistics::getFlushTimeHistogram
+		);
+		percentiles(registry,
+				"hibernate.batches.time.percentile",
+				"The execution time of JDBC batches",
+				Statistics::getBatchExecutionTimeHistogram
+		);
 		counter(registry,
 				"hibernate.connections.obtained",
 				"Get the global number of connections asked by the sessions " +
@@ -204,6 +260,11 @@ public class HibernateMetrics implements MeterBinder {
 				Statistics::getEntityInsertCount
 		);
 		counter(registry, "hibernate.entities.loads", "The number of entity loads", Statistics::getEntityLoadCount );
+		percentiles(registry,
+				"hibernate.entities.loads.time.percentile",
+				"The time taken to load an entity by id from the database",
+				Statistics::getEntityLoadTimeHistogram
+		);
 		counter(registry,
 				"hibernate.entities.updates",
 				"The number of entity updates",
@@ -289,6 +350,12 @@ public class HibernateMetrics implements MeterBinder {
 				.tags( tags )
 				.register( registry );
 
+		percentiles(registry,
+				"hibernate.query.executions.percentile",
+				"The execution time of queries",
+				Statistics::getQueryExecutionTimeHistogram
+		);
+
 		// Update timestamp cache
 		counter(registry,
 				"hibernate.cache.update.timestamps.requests",
@@ -332,6 +399,9 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions", "The global number of query plans evicted from cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
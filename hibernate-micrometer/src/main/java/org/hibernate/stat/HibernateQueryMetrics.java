@@ -172,6 +172,26 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				HibernateMetrics.percentiles(
+						meterRegistry,
+						"hibernate.query.execution.percentile",
+						"Query execution time",
+						queryStatistics.getExecutionTimeHistogram(),
+						Tags.concat( tags, "query", query )
+				);
+
+				for ( double percentile : HibernateMetrics.PERCENTILES ) {
+					Gauge.builder(
+							"hibernate.query.execution.rows.percentile",
+							queryStatistics.getExecutionRowCountHistogram(),
+							h -> h.getValueAtPercentile( percentile * 100 )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", Double.toString( percentile ) )
+							.description( "Number of rows returned by a query execution" )
+							.register( meterRegistry );
+				}
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.stat.HibernateConnectionPoolMetrics;
+
+import org.hibernate.testing.jdbc.SharedDriverManagerConnectionProviderImpl;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link HibernateConnectionPoolMetrics}
+ */
+public class MicrometerConnectionPoolMetricsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateConnectionPoolMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testConnectionPoolMetrics() {
+		Assert.assertNotNull( registry.get( "hibernate.pool.connections" ).tags( "state", "active" ).gauge() );
+		Assert.assertNotNull( registry.get( "hibernate.pool.connections" ).tags( "state", "idle" ).gauge() );
+		Assert.assertNotNull( registry.get( "hibernate.pool.connections.pending" ).gauge() );
+		Assert.assertNotNull( registry.get( "hibernate.pool.connections.created" ).functionCounter() );
+		Assert.assertNotNull( registry.get( "hibernate.pool.connections.timeout" ).functionCounter() );
+
+		final FunctionTimer acquire = registry.get( "hibernate.pool.connections.acquire" ).functionTimer();
+		final double acquired = acquire.count();
+		inTransaction( session -> {
+			assertEquals( 1, registry.get( "hibernate.pool.connections" ).tags( "state", "active" ).gauge().value(), 0 );
+			session.createSelectionQuery( "from Account", Account.class ).getResultList();
+		} );
+
+		assertTrue( acquire.count() > acquired );
+		assertTrue( acquire.totalTime( TimeUnit.NANOSECONDS ) > 0 );
+		assertEquals( 0, registry.get( "hibernate.pool.connections.pending" ).gauge().value(), 0 );
+	}
+
+	@Test
+	public void testStoppedConnectionPoolMetrics() {
+		final FunctionTimer acquire = registry.get( "hibernate.pool.connections.acquire" ).functionTimer();
+		final DriverManagerConnectionProviderImpl connectionProvider = serviceRegistry()
+				.getService( ConnectionProvider.class )
+				.unwrap( DriverManagerConnectionProviderImpl.class );
+		if ( connectionProvider instanceof SharedDriverManagerConnectionProviderImpl ) {
+			// the shared pool is restarted by the next request for a connection
+			( (SharedDriverManagerConnectionProviderImpl) connectionProvider ).reset();
+		}
+		else {
+			connectionProvider.stop();
+		}
+
+		assertTrue( Double.isNaN( registry.get( "hibernate.pool.connections" ).tags( "state", "active" ).gauge().value() ) );
+		assertTrue( Double.isNaN( registry.get( "hibernate.pool.connections.max" ).gauge().value() ) );
+		assertEquals( 0, registry.get( "hibernate.pool.connections.created" ).functionCounter().count(), 0 );
+		assertEquals( 0, acquire.count(), 0 );
+		assertEquals( 0, acquire.totalTime( TimeUnit.NANOSECONDS ), 0 );
+	}
+}
@@ -71,6 +71,9 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.optimistic.failures").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.flushes").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.flush.batches").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.flushes.time.percentile").tags("phi", "0.99").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.batches.time.percentile").tags("phi", "0.99").timeGauge());
 		Assert.assertNotNull(registry.get("hibernate.connections.obtained").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
@@ -84,6 +87,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.entities.fetches").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.inserts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.loads").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.entities.loads.time.percentile").tags("phi", "0.5").timeGauge());
 		Assert.assertNotNull(registry.get("hibernate.entities.updates").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.collections.deletes").functionCounter());
@@ -100,6 +104,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.query.executions").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.query.executions.max").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.query.executions.percentile").tags("phi", "0.999").timeGauge());
 
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "miss").functionCounter());
@@ -110,6 +115,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();
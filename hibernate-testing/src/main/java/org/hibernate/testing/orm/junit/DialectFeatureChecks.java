@@ -83,6 +83,14 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsMultiRowInsertGeneratedKeys implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.getIdentityColumnSupport().supportsIdentityColumns()
+					&& dialect.supportsMultiRowInsertGeneratedKeys()
+					&& dialect.supportsValuesListForInsert();
+		}
+	}
+
 	public static class SupportsColumnCheck implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect.supportsColumnCheck();